@@ -9,6 +9,23 @@ repositories {
     mavenCentral()
 }
 
+// Benchmarks live in their own source set so they never end up in the application jar
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
+// Scaling tests run separately from the unit tests; they time operations and take a while
+val perfTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[perfTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[perfTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
     implementation("org.slf4j:slf4j-api:2.0.16")
     implementation("ch.qos.logback:logback-classic:1.5.16")
@@ -18,8 +35,40 @@ dependencies {
     testImplementation("org.mockito:mockito-core:5.15.2")
     testImplementation("org.mockito:mockito-junit-jupiter:5.15.2")
 
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
     useJUnitPlatform()
 }
+
+// Runs the scaling tests against src/perfTest/resources/perf-baseline.properties.
+// ./gradlew perfTest -Pperf.updateBaseline=true rewrites the baseline from the current run.
+tasks.register<Test>("perfTest") {
+    group = "verification"
+    description = "Runs the performance scaling tests and compares them with the checked-in baseline."
+    testClassesDirs = perfTest.output.classesDirs
+    classpath = perfTest.runtimeClasspath
+    useJUnitPlatform()
+    shouldRunAfter(tasks.test)
+    maxHeapSize = "1g"
+    systemProperty("perf.baseline", file("src/perfTest/resources/perf-baseline.properties").absolutePath)
+    systemProperty("perf.updateBaseline", findProperty("perf.updateBaseline") ?: "false")
+    // Timings are not cacheable results
+    outputs.upToDateWhen { false }
+}
+
+// Runs the benchmarks, e.g. ./gradlew jmh -Pjmh.args="PrintingPressBenchmark -p printRecords=1000 -f 1"
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks. Pass JMH options with -Pjmh.args=\"...\"."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args((findProperty("jmh.args") as String? ?: "").split(" ").filter { it.isNotBlank() })
+}
+
+// Keep the benchmarks compiling with the rest of the build
+tasks.check {
+    dependsOn(jmh.classesTaskName, perfTest.classesTaskName)
+}
@@ -0,0 +1,35 @@
+package benchmarks;
+
+import data.models.PrintHouse;
+import services.*;
+import services.contracts.IDatasetGeneratorService;
+import services.contracts.IPrintingPressService;
+import services.generation.DatasetSpec;
+
+import java.util.List;
+
+/**
+ * Builds the generated datasets the benchmarks run against. All benchmarks use the same seed, so a given size
+ * always measures the same data.
+ */
+final class Datasets {
+    static final long SEED = 20_240_101L;
+
+    private Datasets() {
+    }
+
+    static PrintHouse printHouse(int employees, int presses, int editions, int printRecords) {
+        return printHouses(1, employees, presses, editions, printRecords).get(0);
+    }
+
+    static List<PrintHouse> printHouses(int houses, int employees, int presses, int editions, int printRecords) {
+        return generator().generate(new DatasetSpec(SEED, houses, employees, presses, editions, printRecords));
+    }
+
+    private static IDatasetGeneratorService generator() {
+        IPrintingPressService printingPressService = new PrintingPressService();
+        return new DatasetGeneratorService(new PrintHouseService(new SerializationService<>()),
+                new EmployeeService(printingPressService), printingPressService,
+                new EditionService(new SerializationService<>()), new SerializationService<>());
+    }
+}
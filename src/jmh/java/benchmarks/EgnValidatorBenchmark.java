@@ -0,0 +1,46 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utilities.EgnGenerator;
+import utilities.EgnValidator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EgnValidator#isValidEGN(String)} over a batch of generated EGNs, a quarter of which have their
+ * checksum digit corrupted so that both outcomes are exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EgnValidatorBenchmark {
+    private static final int BATCH = 1024;
+
+    private final String[] egns = new String[BATCH];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(Datasets.SEED);
+        for (int i = 0; i < BATCH; i++) {
+            String egn = EgnGenerator.random(random);
+            if (i % 4 == 0) {
+                char checksum = egn.charAt(9);
+                egn = egn.substring(0, 9) + (char) ('0' + (checksum - '0' + 1) % 10);
+            }
+            egns[i] = egn;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void isValidEGN(Blackhole blackhole) {
+        for (String egn : egns) {
+            blackhole.consume(EgnValidator.isValidEGN(egn));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import data.models.PrintHouse;
+import org.openjdk.jmh.annotations.*;
+import services.EmployeeService;
+import services.PrintingPressService;
+import services.contracts.IEmployeeService;
+import services.contracts.IPrintingPressService;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures payroll computation of {@link EmployeeService} for a generated print house with {@code employees}
+ * employees and a fixed print history. The single-argument overload also computes the revenue it depends on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeBenchmark {
+    @Param({"10", "1000", "10000"})
+    public int employees;
+
+    private IEmployeeService employeeService;
+    private PrintHouse printHouse;
+    private BigDecimal revenue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        IPrintingPressService printingPressService = new PrintingPressService();
+        employeeService = new EmployeeService(printingPressService);
+        printHouse = Datasets.printHouse(employees, 10, 500, 10_000);
+        revenue = printingPressService.getTotalRevenue(printHouse);
+    }
+
+    @Benchmark
+    public BigDecimal getTotalCostForEmployees() {
+        return employeeService.getTotalCostForEmployees(printHouse);
+    }
+
+    @Benchmark
+    public BigDecimal getTotalCostForEmployeesWithKnownRevenue() {
+        return employeeService.getTotalCostForEmployees(printHouse, revenue);
+    }
+}
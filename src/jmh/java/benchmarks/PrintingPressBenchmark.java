@@ -0,0 +1,72 @@
+package benchmarks;
+
+import data.models.*;
+import org.openjdk.jmh.annotations.*;
+import services.PrintingPressService;
+import services.contracts.IPrintingPressService;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures printing and the print-history aggregates of {@link PrintingPressService} against a generated print
+ * house with {@code printRecords} print jobs spread over its presses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrintingPressBenchmark {
+    private static final BigDecimal PRICE = new BigDecimal("1.50");
+
+    @Param({"1000", "10000", "100000"})
+    public int printRecords;
+
+    private final IPrintingPressService printingPressService = new PrintingPressService();
+    private PrintHouse printHouse;
+    private PrintingPress press;
+    private Edition edition;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        printHouse = Datasets.printHouse(20, 10, 500, printRecords);
+        // A dedicated press, so printing does not change the history the aggregates are measured on
+        press = new PrintingPress(100_000, 100_000, true, 1000);
+        edition = new Edition("Benchmark Weekly", 2, Size.A4);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPress() {
+        press.getPrintedItems().clear();
+        press.setCurrentPaperLoad(press.getMaxPaperLoad());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public PrintingPress printItem() {
+        if (press.getCurrentPaperLoad() == 0) {
+            // One sheet per job: start over once the press is empty, which also keeps its history bounded
+            resetPress();
+        }
+        printingPressService.printItem(printHouse, press, edition, PaperType.GLOSSY, PRICE, 1, true);
+        return press;
+    }
+
+    @Benchmark
+    public BigDecimal getTotalRevenue() {
+        return printingPressService.getTotalRevenue(printHouse);
+    }
+
+    @Benchmark
+    public BigDecimal getTotalCostForPrint() {
+        return printingPressService.getTotalCostForPrint(printHouse);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public BigDecimal calculatePaperCost() {
+        return printingPressService.calculatePaperCost(printHouse, PaperType.NEWSPAPER, Size.A3, 120);
+    }
+}
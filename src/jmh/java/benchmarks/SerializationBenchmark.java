@@ -0,0 +1,68 @@
+package benchmarks;
+
+import data.models.PrintHouse;
+import org.openjdk.jmh.annotations.*;
+import services.SerializationService;
+import services.contracts.ISerializationService;
+import services.persistence.SnapshotCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and reading snapshots of generated print houses with {@link SerializationService}, for each
+ * snapshot codec and for {@code printRecords} print jobs per house.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"1000", "100000"})
+    public int printRecords;
+
+    @Param({"NONE", "DEFLATE", "FAST"})
+    public SnapshotCodec codec;
+
+    private ISerializationService<PrintHouse> serializationService;
+    private List<PrintHouse> printHouses;
+    private Path writeFile;
+    private Path readFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serializationService = new SerializationService<>(codec);
+        printHouses = Datasets.printHouses(4, 50, 10, 500, printRecords);
+        writeFile = Files.createTempFile("benchmark-write", ".ser");
+        readFile = Files.createTempFile("benchmark-read", ".ser");
+        serializationService.serialize(printHouses, readFile.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(writeFile);
+        Files.deleteIfExists(readFile);
+    }
+
+    @Benchmark
+    public Path serialize() {
+        serializationService.serialize(printHouses, writeFile.toString());
+        return writeFile;
+    }
+
+    @Benchmark
+    public List<PrintHouse> deserialize() {
+        return serializationService.deserialize(readFile.toString());
+    }
+
+    @Benchmark
+    public List<PrintHouse> roundTrip() {
+        serializationService.serialize(printHouses, writeFile.toString());
+        return serializationService.deserialize(writeFile.toString());
+    }
+}
@@ -1,35 +1,126 @@
 import UI.ConsoleEngine;
+import UI.ScriptEngine;
 import UI.contracts.IEngine;
 import data.models.Edition;
 import data.models.PrintHouse;
+import services.DatasetGeneratorService;
 import services.EmployeeService;
 import services.PrintHouseService;
+import services.PolicySimulationService;
+import services.PressThroughputService;
 import services.PrintingPressService;
+import services.ProductionSimulationService;
+import services.EditionCatalogService;
+import services.EditionImportService;
 import services.EditionService;
+import services.ExportService;
+import services.ReportService;
+import services.ReportStoreService;
 import services.SerializationService;
+import services.contracts.IDatasetGeneratorService;
 import services.contracts.IEmployeeService;
 import services.contracts.IPrintHouseService;
+import services.contracts.IPolicySimulationService;
+import services.contracts.IPressThroughputService;
 import services.contracts.IPrintingPressService;
+import services.contracts.IProductionSimulationService;
+import services.contracts.IEditionCatalogService;
+import services.contracts.IEditionImportService;
 import services.contracts.IEditionService;
+import services.contracts.IExportService;
+import services.contracts.IReportService;
+import services.contracts.IReportStoreService;
 import services.contracts.ISerializationService;
+import services.persistence.SnapshotCodec;
+import utilities.metrics.LatencyRecorder;
+import utilities.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 public class Main {
+    /** Command-line flag that enables per-method latency histograms for the core services. */
+    private static final String INSTRUMENT_FLAG = "--instrument";
+    /** System property that enables the same instrumentation as {@link #INSTRUMENT_FLAG}. */
+    private static final String INSTRUMENT_PROPERTY = "printhouse.instrument";
+    /** Command-line flag followed by a script file, or {@code -} for standard input, to run without the menus. */
+    private static final String SCRIPT_FLAG = "--script";
+
     public static void main(String[] args) {
 
+        // Latency instrumentation is off unless requested; uninstrumented services are called directly
+        LatencyRecorder latencies = Arrays.asList(args).contains(INSTRUMENT_FLAG) || Boolean.getBoolean(INSTRUMENT_PROPERTY)
+                ? new LatencyRecorder() : null;
+
         // Services registration
-        ISerializationService<PrintHouse> serializationService = new SerializationService<>();
-        ISerializationService<Edition> editionISerializationService = new SerializationService<>();
-        IPrintHouseService printHouseService = new PrintHouseService(serializationService);
-        IPrintingPressService printingPressService = new PrintingPressService();
-        IEmployeeService employeeService = new EmployeeService(printingPressService);
+        MetricsRegistry metrics = new MetricsRegistry();
+        ISerializationService<PrintHouse> serializationService = instrument(latencies, ISerializationService.class,
+                new SerializationService<>(SnapshotCodec.FAST), "PrintHouseSerialization");
+        ISerializationService<Edition> editionISerializationService = instrument(latencies, ISerializationService.class,
+                new SerializationService<>(SnapshotCodec.FAST), "EditionSerialization");
+        IEditionCatalogService editionCatalog = new EditionCatalogService();
+        IPressThroughputService pressThroughputService = new PressThroughputService();
+        IPrintHouseService printHouseService = instrument(latencies, IPrintHouseService.class,
+                new PrintHouseService(serializationService, editionCatalog, metrics, pressThroughputService),
+                "PrintHouseService");
+        IPrintingPressService printingPressService = instrument(latencies, IPrintingPressService.class,
+                new PrintingPressService(editionCatalog, pressThroughputService, metrics), "PrintingPressService");
+        IEmployeeService employeeService = instrument(latencies, IEmployeeService.class,
+                new EmployeeService(printingPressService, metrics), "EmployeeService");
 
-        IEditionService editionService = new EditionService(editionISerializationService);
+        IEditionService editionService = instrument(latencies, IEditionService.class,
+                new EditionService(editionISerializationService, editionCatalog), "EditionService");
+        IReportStoreService reportStoreService = new ReportStoreService();
+        IExportService exportService = new ExportService();
+        IEditionImportService editionImportService = new EditionImportService(editionService);
+        IReportService reportService = new ReportService(employeeService);
+        IPolicySimulationService policySimulationService = new PolicySimulationService();
+        IProductionSimulationService productionSimulationService = new ProductionSimulationService();
+        IDatasetGeneratorService datasetGeneratorService = new DatasetGeneratorService(printHouseService,
+                employeeService, printingPressService, editionService, serializationService);
 
         // Engine initialization
+        int scriptFlag = Arrays.asList(args).indexOf(SCRIPT_FLAG);
+        if (scriptFlag >= 0) {
+            if (scriptFlag + 1 >= args.length) {
+                System.err.println("Usage: " + SCRIPT_FLAG + " <file>|-");
+                System.exit(2);
+            }
+            ScriptEngine scriptEngine = new ScriptEngine(openScript(args[scriptFlag + 1]), System.out,
+                    printHouseService, employeeService, printingPressService, editionService, editionImportService,
+                    reportService);
+            scriptEngine.run();
+            System.exit(scriptEngine.getFailedCommands() == 0 ? 0 : 1);
+        }
         IEngine engine = new ConsoleEngine(serializationService, editionISerializationService,
                 printHouseService, employeeService,
-                printingPressService, editionService);
+                printingPressService, editionService, reportStoreService, exportService, editionImportService, reportService,
+                pressThroughputService, policySimulationService, productionSimulationService,
+                datasetGeneratorService, metrics, latencies);
 
         engine.run();
     }
+
+    private static Reader openScript(String path) {
+        if (path.equals("-")) {
+            return new InputStreamReader(System.in, StandardCharsets.UTF_8);
+        }
+        try {
+            return Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Cannot read script " + path + ": " + e.getMessage());
+            System.exit(2);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T instrument(LatencyRecorder latencies, Class<? super T> type, T service, String name) {
+        return latencies == null ? service : (T) latencies.instrument((Class<Object>) type, service, name);
+    }
 }
\ No newline at end of file
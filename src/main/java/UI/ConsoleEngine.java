@@ -5,6 +5,8 @@ import UI.controllers.*;
 import data.models.Edition;
 import data.models.PrintHouse;
 import services.contracts.*;
+import utilities.metrics.LatencyRecorder;
+import utilities.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,27 +25,55 @@ public class ConsoleEngine implements IEngine {
     private final IEmployeeService employeeService;
     private final IPrintingPressService printingPressService;
     private final IEditionService editionService;
+    private final IReportStoreService reportStoreService;
+    private final IExportService exportService;
+    private final IEditionImportService editionImportService;
+    private final IReportService reportService;
+    private final IPressThroughputService pressThroughputService;
+    private final IPolicySimulationService policySimulationService;
+    private final IProductionSimulationService productionSimulationService;
     private final PrintHouseController printHouseController;
     private final EmployeeController employeeController;
     private final PrintingPressController printingPressController;
     private final EditionController editionController;
+    private final MetricsController metricsController;
 
     public ConsoleEngine(ISerializationService<PrintHouse> serializationService,
                          ISerializationService<Edition> editionSerializationService,
                          IPrintHouseService printHouseService,
                          IEmployeeService employeeService,
                          IPrintingPressService printingPressService,
-                         IEditionService editionService) {
+                         IEditionService editionService,
+                         IReportStoreService reportStoreService,
+                         IExportService exportService,
+                         IEditionImportService editionImportService,
+                         IReportService reportService,
+                         IPressThroughputService pressThroughputService,
+                         IPolicySimulationService policySimulationService,
+                         IProductionSimulationService productionSimulationService,
+                         IDatasetGeneratorService datasetGeneratorService,
+                         MetricsRegistry metrics,
+                         LatencyRecorder latencies) {
         this.serializationService = serializationService;
         this.editionSerializationService = editionSerializationService;
         this.printHouseService = printHouseService;
         this.employeeService = employeeService;
         this.printingPressService = printingPressService;
         this.editionService = editionService;
-        this.printHouseController = new PrintHouseController(printHouseService, scanner);
+        this.reportStoreService = reportStoreService;
+        this.exportService = exportService;
+        this.editionImportService = editionImportService;
+        this.reportService = reportService;
+        this.pressThroughputService = pressThroughputService;
+        this.policySimulationService = policySimulationService;
+        this.productionSimulationService = productionSimulationService;
+        this.printHouseController = new PrintHouseController(printHouseService, reportStoreService, exportService, reportService,
+                policySimulationService, datasetGeneratorService, scanner);
         this.employeeController = new EmployeeController(employeeService, printHouseService, printingPressService, scanner);
-        this.printingPressController = new PrintingPressController(printingPressService, printHouseService, editionService, scanner);
-        this.editionController = new EditionController(editionService, printHouseService, scanner);
+        this.printingPressController = new PrintingPressController(printingPressService, printHouseService, editionService,
+                pressThroughputService, productionSimulationService, scanner);
+        this.editionController = new EditionController(editionService, printHouseService, editionImportService, scanner);
+        this.metricsController = new MetricsController(metrics, latencies, printHouseService, scanner);
         logger.info("ConsoleEngine initialized with all services and controllers");
     }
 
@@ -67,6 +97,7 @@ public class ConsoleEngine implements IEngine {
         System.out.println("2. Manage Employees");
         System.out.println("3. Manage Printing Presses");
         System.out.println("4. Manage Editions");
+        System.out.println("5. View Metrics");
         System.out.println("0. Exit");
         System.out.print("Enter your choice: ");
         logger.debug("Displayed main menu");
@@ -95,6 +126,7 @@ public class ConsoleEngine implements IEngine {
                 case 2 -> employeeController.handleMenu();
                 case 3 -> printingPressController.handleMenu();
                 case 4 -> editionController.handleMenu();
+                case 5 -> metricsController.handleMenu();
                 default -> {
                     logger.warn("Invalid choice: {}", choice);
                     System.out.println("Invalid choice.");
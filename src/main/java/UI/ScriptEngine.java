@@ -0,0 +1,328 @@
+package UI;
+
+import UI.contracts.IEngine;
+import data.models.*;
+import data.reports.ProfitAndLossStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.*;
+import services.persistence.EditionImportResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Runs a command script against the services without the interactive menus. The script has one command per line;
+ * arguments are separated by whitespace and may be double-quoted to contain spaces. Blank lines and lines starting
+ * with {@code #} are skipped. Print houses, presses, employees and editions are referred to by their 1-based number,
+ * as in the menus.
+ * <pre>
+ * house add &lt;salary %&gt; &lt;paper %&gt; &lt;base salary&gt; &lt;revenue target&gt; &lt;discount count&gt; &lt;discount %&gt; [roles]
+ * house remove &lt;house&gt;
+ * house list
+ * employee add &lt;house&gt; &lt;EGN&gt; &lt;OPERATOR|MANAGER&gt;
+ * employee remove &lt;house&gt; &lt;employee&gt;
+ * press add &lt;house&gt; &lt;max paper&gt; &lt;current paper&gt; &lt;colour&gt; &lt;pages per minute&gt;
+ * press load &lt;house&gt; &lt;press&gt; &lt;sheets&gt;
+ * edition add &lt;house&gt; &lt;title&gt; &lt;pages&gt; &lt;size&gt;
+ * edition import &lt;house&gt; &lt;file&gt;
+ * print &lt;house&gt; &lt;press&gt; &lt;edition&gt; &lt;paper type&gt; &lt;price per copy&gt; &lt;copies&gt; &lt;colour&gt;
+ * report revenue|cost|payroll|pnl &lt;house&gt;
+ * save &lt;file&gt;
+ * load &lt;file&gt;
+ * </pre>
+ * A failing command is reported with its line number and does not stop the script. Commands that change state print
+ * nothing; queries print one line each, and a summary of the run is printed at the end.
+ */
+public class ScriptEngine implements IEngine {
+    private static final Logger logger = LoggerFactory.getLogger(ScriptEngine.class);
+    private static final int MAX_REPORTED_FAILURES = 20;
+
+    private final Reader script;
+    private final PrintStream out;
+    private final IPrintHouseService printHouseService;
+    private final IEmployeeService employeeService;
+    private final IPrintingPressService printingPressService;
+    private final IEditionService editionService;
+    private final IEditionImportService editionImportService;
+    private final IReportService reportService;
+
+    private int commands;
+    private int failed;
+    private final List<String> failures = new ArrayList<>();
+
+    public ScriptEngine(Reader script,
+                        PrintStream out,
+                        IPrintHouseService printHouseService,
+                        IEmployeeService employeeService,
+                        IPrintingPressService printingPressService,
+                        IEditionService editionService,
+                        IEditionImportService editionImportService,
+                        IReportService reportService) {
+        if (script == null) {
+            logger.error("Script cannot be null");
+            throw new IllegalArgumentException("Script cannot be null");
+        }
+        if (out == null) {
+            logger.error("Output stream cannot be null");
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        this.script = script;
+        this.out = out;
+        this.printHouseService = printHouseService;
+        this.employeeService = employeeService;
+        this.printingPressService = printingPressService;
+        this.editionService = editionService;
+        this.editionImportService = editionImportService;
+        this.reportService = reportService;
+        logger.info("ScriptEngine initialized");
+    }
+
+    @Override
+    public void run() {
+        logger.info("Running script");
+        long start = System.nanoTime();
+        try (BufferedReader lines = script instanceof BufferedReader buffered ? buffered : new BufferedReader(script)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                List<String> arguments = tokenize(line);
+                if (arguments.isEmpty() || arguments.getFirst().startsWith("#")) {
+                    continue;
+                }
+                commands++;
+                try {
+                    execute(arguments);
+                } catch (RuntimeException e) {
+                    failed++;
+                    logger.warn("Script line {} failed: {}", lineNumber, e.getMessage());
+                    if (failures.size() < MAX_REPORTED_FAILURES) {
+                        failures.add("line " + lineNumber + ": " + line.trim() + " -> " + e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to read script: {}", e.getMessage(), e);
+            throw new UncheckedIOException(e);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        out.println("Script: " + commands + " commands, " + (commands - failed) + " succeeded, " + failed
+                + " failed in " + millis + " ms");
+        failures.forEach(failure -> out.println("  " + failure));
+        if (failed > failures.size()) {
+            out.println("  ... " + (failed - failures.size()) + " more");
+        }
+        logger.info("Script finished: {} commands, {} failed", commands, failed);
+    }
+
+    /**
+     * Returns the number of commands that failed in the last {@link #run()}.
+     */
+    public int getFailedCommands() {
+        return failed;
+    }
+
+    private void execute(List<String> arguments) {
+        String command = arguments.getFirst().toLowerCase(Locale.ROOT);
+        if (command.equals("print")) {
+            print(arguments);
+            return;
+        }
+        if (command.equals("save") || command.equals("load")) {
+            expect(arguments, 2, command + " <file>");
+            if (command.equals("save")) {
+                printHouseService.saveAllPrintHouses(arguments.get(1));
+            } else {
+                printHouseService.loadAllPrintHouses(arguments.get(1));
+            }
+            return;
+        }
+        String action = arguments.size() > 1 ? arguments.get(1).toLowerCase(Locale.ROOT) : "";
+        switch (command + " " + action) {
+            case "house add" -> addPrintHouse(arguments);
+            case "house remove" -> {
+                expect(arguments, 3, "house remove <house>");
+                printHouseService.removePrintHouse(number(arguments.get(2)) - 1);
+            }
+            case "house list" -> listPrintHouses();
+            case "employee add" -> {
+                expect(arguments, 5, "employee add <house> <EGN> <OPERATOR|MANAGER>");
+                employeeService.addEmployee(printHouse(arguments.get(2)),
+                        new Employee(arguments.get(3), enumValue(EmployeeType.class, arguments.get(4))));
+            }
+            case "employee remove" -> {
+                expect(arguments, 4, "employee remove <house> <employee>");
+                employeeService.removeEmployee(printHouse(arguments.get(2)), number(arguments.get(3)) - 1);
+            }
+            case "press add" -> {
+                expect(arguments, 7, "press add <house> <max paper> <current paper> <colour> <pages per minute>");
+                printingPressService.addPrintingPress(printHouse(arguments.get(2)), new PrintingPress(
+                        number(arguments.get(3)), number(arguments.get(4)), bool(arguments.get(5)), number(arguments.get(6))));
+            }
+            case "press load" -> {
+                expect(arguments, 5, "press load <house> <press> <sheets>");
+                PrintHouse printHouse = printHouse(arguments.get(2));
+                printingPressService.loadPaper(printHouse, press(printHouse, arguments.get(3)), number(arguments.get(4)));
+            }
+            case "edition add" -> {
+                expect(arguments, 6, "edition add <house> <title> <pages> <size>");
+                editionService.addEdition(printHouse(arguments.get(2)), new Edition(arguments.get(3),
+                        number(arguments.get(4)), enumValue(Size.class, arguments.get(5))));
+            }
+            case "edition import" -> {
+                expect(arguments, 4, "edition import <house> <file>");
+                EditionImportResult result = editionImportService.importEditions(printHouse(arguments.get(2)), arguments.get(3));
+                out.println("import " + arguments.get(2) + ": " + result);
+            }
+            case "report revenue", "report cost", "report payroll", "report pnl" -> report(action, arguments);
+            default -> throw new IllegalArgumentException("Unknown command: " + String.join(" ", arguments.subList(0,
+                    Math.min(2, arguments.size()))));
+        }
+    }
+
+    private void addPrintHouse(List<String> arguments) {
+        if (arguments.size() != 8 && arguments.size() != 9) {
+            throw new IllegalArgumentException("Usage: house add <salary %> <paper %> <base salary> <revenue target> "
+                    + "<discount count> <discount %> [roles]");
+        }
+        List<EmployeeType> eligibleRoles = new ArrayList<>();
+        if (arguments.size() == 9) {
+            for (String role : arguments.get(8).split(",")) {
+                eligibleRoles.add(enumValue(EmployeeType.class, role));
+            }
+        } else {
+            eligibleRoles.add(EmployeeType.MANAGER);
+        }
+        printHouseService.createPrintHouse(decimal(arguments.get(2)), decimal(arguments.get(3)), decimal(arguments.get(4)),
+                eligibleRoles, decimal(arguments.get(5)), number(arguments.get(6)), decimal(arguments.get(7)));
+    }
+
+    private void listPrintHouses() {
+        List<PrintHouse> printHouses = printHouseService.getAllPrintHouses();
+        for (int i = 0; i < printHouses.size(); i++) {
+            PrintHouse printHouse = printHouses.get(i);
+            out.println("house " + (i + 1) + ": employees=" + printHouse.getEmployees().size()
+                    + ", presses=" + printHouse.getPrintingPresses().size()
+                    + ", editions=" + editionService.getEditions(printHouse).size());
+        }
+    }
+
+    private void print(List<String> arguments) {
+        expect(arguments, 8, "print <house> <press> <edition> <paper type> <price per copy> <copies> <colour>");
+        PrintHouse printHouse = printHouse(arguments.get(1));
+        printingPressService.printItem(printHouse, press(printHouse, arguments.get(2)),
+                editionService.getEdition(printHouse, number(arguments.get(3)) - 1),
+                enumValue(PaperType.class, arguments.get(4)), decimal(arguments.get(5)), number(arguments.get(6)),
+                bool(arguments.get(7)));
+    }
+
+    private void report(String kind, List<String> arguments) {
+        expect(arguments, 3, "report " + kind + " <house>");
+        PrintHouse printHouse = printHouse(arguments.get(2));
+        String value = switch (kind) {
+            case "revenue" -> printingPressService.getTotalRevenue(printHouse).toPlainString();
+            case "cost" -> printingPressService.getTotalCostForPrint(printHouse).toPlainString();
+            case "payroll" -> employeeService.getTotalCostForEmployees(printHouse).toPlainString();
+            default -> {
+                ProfitAndLossStatement statement = reportService.profitAndLoss(printHouse);
+                yield "revenue=" + statement.getRevenue() + ", paper=" + statement.getPaperCost()
+                        + ", payroll=" + statement.getPayroll() + ", net=" + statement.getNetProfit();
+            }
+        };
+        out.println(kind + " " + arguments.get(2) + ": " + value);
+    }
+
+    private PrintHouse printHouse(String argument) {
+        return printHouseService.getPrintHouse(number(argument) - 1);
+    }
+
+    private static PrintingPress press(PrintHouse printHouse, String argument) {
+        int index = number(argument) - 1;
+        List<PrintingPress> presses = printHouse.getPrintingPresses();
+        if (index < 0 || index >= presses.size()) {
+            throw new IllegalArgumentException("Invalid printing press number: " + argument);
+        }
+        return presses.get(index);
+    }
+
+    private static void expect(List<String> arguments, int count, String usage) {
+        if (arguments.size() != count) {
+            throw new IllegalArgumentException("Usage: " + usage);
+        }
+    }
+
+    private static int number(String argument) {
+        try {
+            return Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a whole number: " + argument);
+        }
+    }
+
+    private static BigDecimal decimal(String argument) {
+        try {
+            return new BigDecimal(argument);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + argument);
+        }
+    }
+
+    private static boolean bool(String argument) {
+        if (argument.equalsIgnoreCase("true") || argument.equalsIgnoreCase("false")) {
+            return Boolean.parseBoolean(argument);
+        }
+        throw new IllegalArgumentException("Not true or false: " + argument);
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String argument) {
+        try {
+            return Enum.valueOf(type, argument.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + ": " + argument);
+        }
+    }
+
+    /**
+     * Splits a line on whitespace, keeping double-quoted arguments together. A doubled quote inside a quoted
+     * argument stands for one quote.
+     */
+    static List<String> tokenize(String line) {
+        List<String> arguments = new ArrayList<>();
+        int position = 0;
+        while (position < line.length()) {
+            char c = line.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '"') {
+                StringBuilder quoted = new StringBuilder();
+                position++;
+                while (position < line.length()) {
+                    char next = line.charAt(position++);
+                    if (next != '"') {
+                        quoted.append(next);
+                    } else if (position < line.length() && line.charAt(position) == '"') {
+                        quoted.append('"');
+                        position++;
+                    } else {
+                        break;
+                    }
+                }
+                arguments.add(quoted.toString());
+            } else {
+                int end = position;
+                while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+                    end++;
+                }
+                arguments.add(line.substring(position, end));
+                position = end;
+            }
+        }
+        return arguments;
+    }
+}
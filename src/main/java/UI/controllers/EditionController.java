@@ -1,10 +1,13 @@
 package UI.controllers;
 
 import data.models.*;
+import services.contracts.IEditionImportService;
 import services.contracts.IEditionService;
 import services.contracts.IPrintHouseService;
+import services.persistence.EditionImportResult;
 import utilities.globalconstants.ExceptionMessages;
 import utilities.globalconstants.ModelsConstants;
+import utilities.logging.LogSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,15 +22,18 @@ public class EditionController {
     private static final Logger logger = LoggerFactory.getLogger(EditionController.class);
     private final IEditionService editionService;
     private final IPrintHouseService printHouseService;
+    private final IEditionImportService editionImportService;
     private final Scanner scanner;
 
-    public EditionController(IEditionService editionService, IPrintHouseService printHouseService, Scanner scanner) {
-        if (editionService == null || printHouseService == null || scanner == null) {
+    public EditionController(IEditionService editionService, IPrintHouseService printHouseService,
+                             IEditionImportService editionImportService, Scanner scanner) {
+        if (editionService == null || printHouseService == null || editionImportService == null || scanner == null) {
             logger.error("Dependencies cannot be null");
             throw new IllegalArgumentException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
         }
         this.editionService = editionService;
         this.printHouseService = printHouseService;
+        this.editionImportService = editionImportService;
         this.scanner = scanner;
         logger.info("EditionController initialized");
     }
@@ -51,6 +57,8 @@ public class EditionController {
         System.out.println("4. Remove edition");
         System.out.println("5. Save editions");
         System.out.println("6. Load editions");
+        System.out.println("7. Search editions");
+        System.out.println("8. Import editions from CSV");
         System.out.println("0. Back to main menu");
         System.out.print("Enter your choice: ");
         logger.debug("Displayed edition menu");
@@ -77,6 +85,8 @@ public class EditionController {
                 case 4 -> removeEdition();
                 case 5 -> saveEditions();
                 case 6 -> loadEditions();
+                case 7 -> searchEditions();
+                case 8 -> importEditions();
                 default -> {
                     logger.warn("Invalid choice: {}", choice);
                     System.out.println("Invalid choice.");
@@ -164,7 +174,7 @@ public class EditionController {
         String filePath = scanner.nextLine().trim();
         editionService.saveEditions(printHouse, filePath);
         System.out.println("Editions saved.");
-        logger.info("Saved editions for PrintHouse {}", printHouse);
+        logger.info("Saved editions for PrintHouse {}", LogSummary.of(printHouse));
     }
 
     private void loadEditions() {
@@ -176,7 +186,62 @@ public class EditionController {
         String filePath = scanner.nextLine().trim();
         editionService.loadEditions(printHouse, filePath);
         System.out.println("Editions loaded.");
-        logger.info("Loaded editions for PrintHouse {}", printHouse);
+        logger.info("Loaded editions for PrintHouse {}", LogSummary.of(printHouse));
+    }
+
+    private void searchEditions() {
+        PrintHouse printHouse = selectPrintHouse();
+        if (printHouse == null) return;
+        System.out.println("1. By title prefix");
+        System.out.println("2. By size");
+        System.out.println("3. By page range");
+        int searchType = getIntInput("Search by: ", 1, 3);
+        List<Edition> found;
+        switch (searchType) {
+            case 1 -> {
+                System.out.print("Title starts with: ");
+                found = editionService.findByTitlePrefix(printHouse, scanner.nextLine().trim());
+            }
+            case 2 -> {
+                String sizeInput = getEnumInput("Size (A5/A4/A3/A2/A1): ", Size.class);
+                if (sizeInput == null) return;
+                found = editionService.findBySize(printHouse, Size.valueOf(sizeInput));
+            }
+            case 3 -> {
+                int minPages = getIntInput("Minimum pages: ", ModelsConstants.MIN_PAGE_COUNT, ModelsConstants.MAX_PAGE_COUNT);
+                if (minPages == -1) return;
+                int maxPages = getIntInput("Maximum pages: ", minPages, ModelsConstants.MAX_PAGE_COUNT);
+                if (maxPages == -1) return;
+                found = editionService.findByPageRange(printHouse, minPages, maxPages);
+            }
+            default -> {
+                return;
+            }
+        }
+        if (found.isEmpty()) {
+            System.out.println("No matching editions.");
+        } else {
+            for (Edition edition : found) {
+                System.out.println("- " + edition);
+            }
+        }
+        logger.info("Search returned {} editions", found.size());
+    }
+
+    private void importEditions() {
+        PrintHouse printHouse = selectPrintHouse();
+        if (printHouse == null) {
+            return;
+        }
+        System.out.print("Enter CSV file path (title,pages,size per line): ");
+        String filePath = scanner.nextLine().trim();
+        EditionImportResult result = editionImportService.importEditions(printHouse, filePath);
+        System.out.println("Rows read: " + result.getRowsRead() + ", imported: " + result.getImported()
+                + ", duplicates: " + result.getDuplicates() + ", rejected: " + result.getRejected());
+        for (String error : result.getErrors()) {
+            System.out.println("  " + error);
+        }
+        logger.info("Imported editions for PrintHouse {}: {}", LogSummary.of(printHouse), result);
     }
 
     private PrintHouse selectPrintHouse() {
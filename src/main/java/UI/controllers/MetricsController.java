@@ -0,0 +1,117 @@
+package UI.controllers;
+
+import services.contracts.IPrintHouseService;
+import utilities.metrics.LatencyRecorder;
+import utilities.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Scanner;
+
+/**
+ * Handles console interactions for viewing and dumping the business metrics in a {@link MetricsRegistry} and, when
+ * the services are instrumented, their latencies in a {@link LatencyRecorder}.
+ */
+public class MetricsController {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsController.class);
+    private final MetricsRegistry metrics;
+    private final LatencyRecorder latencies;
+    private final IPrintHouseService printHouseService;
+    private final Scanner scanner;
+
+    /**
+     * @param latencies the recorder of the instrumented services, or null if instrumentation is disabled
+     */
+    public MetricsController(MetricsRegistry metrics, LatencyRecorder latencies, IPrintHouseService printHouseService,
+                             Scanner scanner) {
+        if (metrics == null || printHouseService == null || scanner == null) {
+            logger.error("Dependencies cannot be null");
+            throw new IllegalArgumentException("Dependencies cannot be null");
+        }
+        this.metrics = metrics;
+        this.latencies = latencies;
+        this.printHouseService = printHouseService;
+        this.scanner = scanner;
+        logger.info("MetricsController initialized");
+    }
+
+    public void handleMenu() {
+        logger.info("Starting metrics menu");
+        while (true) {
+            displayMenu();
+            int choice = getUserChoice();
+            if (choice == 0) break;
+            processChoice(choice);
+        }
+        logger.info("Exiting metrics menu");
+    }
+
+    private void displayMenu() {
+        System.out.println("\n--- Metrics ---");
+        System.out.println("1. Show metrics");
+        System.out.println("2. Write metrics to file");
+        System.out.println("3. Show service latencies");
+        System.out.println("0. Back to main menu");
+        System.out.print("Enter your choice: ");
+        logger.debug("Displayed metrics menu");
+    }
+
+    private int getUserChoice() {
+        try {
+            int choice = Integer.parseInt(scanner.nextLine().trim());
+            logger.debug("User choice: {}", choice);
+            return choice;
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid choice input: {}", e.getMessage());
+            System.out.println("Invalid input. Please enter a number.");
+            return -1;
+        }
+    }
+
+    private void processChoice(int choice) {
+        try {
+            switch (choice) {
+                case 1 -> showMetrics();
+                case 2 -> writeMetrics();
+                case 3 -> showLatencies();
+                default -> {
+                    logger.warn("Invalid choice: {}", choice);
+                    System.out.println("Invalid choice.");
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error in choice {}: {}", choice, e.getMessage());
+            System.out.println("Error: " + e.getMessage());
+        }
+    }
+
+    private void showMetrics() throws IOException {
+        StringWriter writer = new StringWriter();
+        metrics.writeTo(writer, printHouseService.getAllPrintHouses());
+        System.out.print(writer);
+        logger.info("Displayed metrics");
+    }
+
+    private void showLatencies() throws IOException {
+        if (latencies == null) {
+            System.out.println("Latency instrumentation is disabled. Start the application with --instrument to enable it.");
+            return;
+        }
+        StringWriter writer = new StringWriter();
+        latencies.writeTo(writer);
+        String report = writer.toString();
+        System.out.print(report.isEmpty() ? "No service calls recorded yet.\n" : report);
+        logger.info("Displayed service latencies");
+    }
+
+    private void writeMetrics() {
+        System.out.print("Enter file name (default: metrics.txt): ");
+        String filePath = scanner.nextLine().trim();
+        filePath = filePath.isEmpty() ? "metrics.txt" : filePath;
+        metrics.writeTo(filePath, printHouseService.getAllPrintHouses());
+        System.out.println("Metrics written to " + filePath);
+        logger.info("Wrote metrics to {}", filePath);
+    }
+}
@@ -1,11 +1,27 @@
 package UI.controllers;
 
 import data.models.EmployeeType;
+import data.models.PaperType;
 import data.models.PrintHouse;
+import data.models.Size;
+import data.reports.BreakdownLine;
+import data.reports.PolicyRanges;
+import data.reports.PolicySimulationResult;
+import data.reports.PrintHouseBreakdown;
+import data.reports.ProfitAndLossStatement;
+import services.contracts.IDatasetGeneratorService;
+import services.contracts.IExportService;
+import services.contracts.IPolicySimulationService;
 import services.contracts.IPrintHouseService;
+import services.contracts.IReportService;
+import services.contracts.IReportStoreService;
+import services.generation.DatasetSpec;
+import services.persistence.ExportFormat;
+import services.persistence.MappedReportStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
@@ -18,13 +34,27 @@ import java.util.stream.Collectors;
 public class PrintHouseController {
     private static final Logger logger = LoggerFactory.getLogger(PrintHouseController.class);
     private final IPrintHouseService service;
+    private final IReportStoreService reportStoreService;
+    private final IExportService exportService;
+    private final IReportService reportService;
+    private final IPolicySimulationService policySimulationService;
+    private final IDatasetGeneratorService datasetGeneratorService;
     private final Scanner scanner;
 
-    public PrintHouseController(IPrintHouseService service, Scanner scanner) {
-        if (service == null || scanner == null) {
+    public PrintHouseController(IPrintHouseService service, IReportStoreService reportStoreService,
+                                IExportService exportService, IReportService reportService,
+                                IPolicySimulationService policySimulationService,
+                                IDatasetGeneratorService datasetGeneratorService, Scanner scanner) {
+        if (service == null || reportStoreService == null || exportService == null || reportService == null
+                || policySimulationService == null || datasetGeneratorService == null || scanner == null) {
             throw new IllegalArgumentException("Dependencies cannot be null.");
         }
         this.service = service;
+        this.reportStoreService = reportStoreService;
+        this.exportService = exportService;
+        this.reportService = reportService;
+        this.policySimulationService = policySimulationService;
+        this.datasetGeneratorService = datasetGeneratorService;
         this.scanner = scanner;
         logger.info("PrintHouseController initialized with dependencies");
     }
@@ -51,6 +81,16 @@ public class PrintHouseController {
         System.out.println("4. Remove a print house");
         System.out.println("5. Save all print houses");
         System.out.println("6. Load all print houses");
+        System.out.println("7. Export reporting store");
+        System.out.println("8. Report from archived reporting store");
+        System.out.println("9. Verify saved print houses");
+        System.out.println("10. Save all print houses (sharded)");
+        System.out.println("11. Load all print houses (sharded)");
+        System.out.println("12. Export print history (CSV / JSON Lines)");
+        System.out.println("13. Revenue and cost breakdown");
+        System.out.println("14. Profit and loss statement");
+        System.out.println("15. Simulate pricing and salary policies");
+        System.out.println("16. Generate synthetic print houses");
         System.out.println("0. Back to main menu");
         System.out.print("Enter your choice: ");
         logger.debug("Displayed Print House Management menu");
@@ -65,6 +105,16 @@ public class PrintHouseController {
                 case 4 -> removePrintHouse();
                 case 5 -> saveAllPrintHouses();
                 case 6 -> loadAllPrintHouses();
+                case 7 -> exportReportStore();
+                case 8 -> reportFromArchivedStore();
+                case 9 -> verifySavedPrintHouses();
+                case 10 -> saveAllPrintHousesSharded();
+                case 11 -> loadAllPrintHousesSharded();
+                case 12 -> exportPrintHistory();
+                case 13 -> showBreakdown();
+                case 14 -> showProfitAndLoss();
+                case 15 -> simulatePolicies();
+                case 16 -> generateDataset();
                 default -> {
                     logger.warn("Invalid choice received: {}", choice);
                     System.out.println("Invalid choice. Please try again.");
@@ -172,6 +222,179 @@ public class PrintHouseController {
         logger.info("Loaded print houses from {}", filePath);
     }
 
+    private void saveAllPrintHousesSharded() {
+        System.out.print("Enter directory (default: print_houses_data): ");
+        String directoryPath = scanner.nextLine().trim();
+        directoryPath = directoryPath.isEmpty() ? "print_houses_data" : directoryPath;
+        int housesPerShard = getIntInput("Print houses per shard: ", false);
+        if (housesPerShard <= 0) {
+            System.out.println("Print houses per shard must be greater than zero.");
+            return;
+        }
+        service.saveAllPrintHousesSharded(directoryPath, housesPerShard);
+        System.out.println("Data saved successfully.");
+        logger.info("Saved all print houses to shards in {}", directoryPath);
+    }
+
+    private void loadAllPrintHousesSharded() {
+        System.out.print("Enter directory (default: print_houses_data): ");
+        String directoryPath = scanner.nextLine().trim();
+        directoryPath = directoryPath.isEmpty() ? "print_houses_data" : directoryPath;
+        service.loadAllPrintHousesSharded(directoryPath);
+        System.out.println("Data loaded successfully.");
+        logger.info("Loaded print houses from shards in {}", directoryPath);
+    }
+
+    private void exportPrintHistory() {
+        System.out.print("Format (CSV/JSON_LINES, default: CSV): ");
+        String formatInput = scanner.nextLine().trim().toUpperCase();
+        ExportFormat format;
+        try {
+            format = formatInput.isEmpty() ? ExportFormat.CSV : ExportFormat.valueOf(formatInput);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid export format: {}", formatInput);
+            System.out.println("Invalid format. Options: " + Arrays.toString(ExportFormat.values()));
+            return;
+        }
+        Integer houseNumber = getOptionalIntInput("Print house number (leave blank for all): ", false);
+        int houseIndex = houseNumber == null ? IExportService.ALL_PRINT_HOUSES : houseNumber - 1;
+        String defaultPath = format == ExportFormat.CSV ? "print_history.csv" : "print_history.jsonl";
+        System.out.print("Enter file name (default: " + defaultPath + "): ");
+        String filePath = scanner.nextLine().trim();
+        filePath = filePath.isEmpty() ? defaultPath : filePath;
+        long rows = exportService.exportPrintHistory(service.getAllPrintHouses(), houseIndex, filePath, format);
+        System.out.println("Exported " + rows + " records to " + filePath + ".");
+        logger.info("Exported {} print records to {}", rows, filePath);
+    }
+
+    private void showBreakdown() {
+        listAllPrintHouses();
+        int index = getIntInput("Enter print house number to report on (1-based): ", false) - 1;
+        if (index < 0 || index >= service.getAllPrintHouses().size()) {
+            logger.warn("Invalid print house index: {}", index);
+            System.out.println("Invalid print house selection.");
+            return;
+        }
+        PrintHouseBreakdown breakdown = reportService.getBreakdown(service.getPrintHouse(index));
+        System.out.println("Total: " + breakdown.getTotal());
+        List<BreakdownLine> byPress = breakdown.getByPrintingPress();
+        for (int i = 0; i < byPress.size(); i++) {
+            System.out.println("Press " + (i + 1) + ": " + byPress.get(i));
+        }
+        for (PaperType paperType : PaperType.values()) {
+            System.out.println(paperType + ": " + breakdown.getByPaperType().get(paperType));
+        }
+        for (Size size : Size.values()) {
+            System.out.println(size + ": " + breakdown.getBySize().get(size));
+        }
+        System.out.println("Colour: " + breakdown.getColour());
+        System.out.println("Monochrome: " + breakdown.getMonochrome());
+        logger.info("Displayed breakdown for print house at index {}", index);
+    }
+
+    private void showProfitAndLoss() {
+        listAllPrintHouses();
+        int index = getIntInput("Enter print house number to report on (1-based): ", false) - 1;
+        if (index < 0 || index >= service.getAllPrintHouses().size()) {
+            logger.warn("Invalid print house index: {}", index);
+            System.out.println("Invalid print house selection.");
+            return;
+        }
+        ProfitAndLossStatement statement = reportService.profitAndLoss(service.getPrintHouse(index));
+        System.out.println("Revenue: " + statement.getRevenue());
+        System.out.println("Paper cost: " + statement.getPaperCost());
+        System.out.println("Payroll: " + statement.getPayroll()
+                + (statement.isRevenueTargetMet() ? " (revenue target met, increments applied)" : ""));
+        System.out.println("Gross margin: " + statement.getGrossMargin());
+        System.out.println("Net profit: " + statement.getNetProfit());
+        logger.info("Displayed profit and loss for print house at index {}", index);
+    }
+
+    private void simulatePolicies() {
+        listAllPrintHouses();
+        int index = getIntInput("Enter print house number to simulate (1-based): ", false) - 1;
+        if (index < 0 || index >= service.getAllPrintHouses().size()) {
+            logger.warn("Invalid print house index: {}", index);
+            System.out.println("Invalid print house selection.");
+            return;
+        }
+        BigDecimal spread = getBigDecimalInput("Vary each policy field by up to (%): ", false);
+        if (spread == null) return;
+        int variants = getIntInput("Number of variants (1-" + IPolicySimulationService.MAX_VARIANTS + "): ", false);
+        if (variants <= 0) return;
+        PrintHouse printHouse = service.getPrintHouse(index);
+        PolicySimulationResult result = policySimulationService.simulate(printHouse,
+                PolicyRanges.around(printHouse, spread.doubleValue() / 100), variants, System.nanoTime());
+        System.out.println("Current policy: " + result.getCurrent());
+        System.out.println("Revenue:    " + result.getRevenue());
+        System.out.println("Paper cost: " + result.getPaperCost());
+        System.out.println("Payroll:    " + result.getPayroll());
+        System.out.println("Net profit: " + result.getNetProfit());
+        System.out.printf("Revenue target met in %.1f%% of variants%n", result.getTargetMetShare() * 100);
+        System.out.println("Most profitable: " + result.getBest());
+        logger.info("Displayed policy simulation of {} variants for print house at index {}", variants, index);
+    }
+
+    private void generateDataset() {
+        int seed = getIntInput("Seed: ", true);
+        int houses = getIntInput("Number of print houses: ", false);
+        int employees = getIntInput("Employees per house: ", false);
+        int presses = getIntInput("Printing presses per house: ", false);
+        int editions = getIntInput("Editions per house: ", false);
+        int records = getIntInput("Print jobs per house: ", false);
+        if (houses < 0 || employees < 0 || presses < 0 || editions < 0 || records < 0) return;
+        DatasetSpec spec = new DatasetSpec(seed, houses, employees, presses, editions, records);
+        System.out.print("Snapshot file to write (blank to add to the current print houses): ");
+        String filePath = scanner.nextLine().trim();
+        if (filePath.isEmpty()) {
+            datasetGeneratorService.populate(spec);
+            System.out.println("Added " + houses + " generated print houses.");
+        } else {
+            datasetGeneratorService.writeSnapshot(spec, filePath);
+            System.out.println("Generated print houses written to " + filePath);
+        }
+        logger.info("Generated dataset {}", spec);
+    }
+
+    private void verifySavedPrintHouses() {
+        System.out.print("Enter file name (default: print_houses_data.ser): ");
+        String filePath = scanner.nextLine().trim();
+        filePath = filePath.isEmpty() ? "print_houses_data.ser" : filePath;
+        service.verifySavedPrintHouses(filePath);
+        System.out.println("File verified successfully, no damaged blocks found.");
+        logger.info("Verified saved print houses in {}", filePath);
+    }
+
+    private void exportReportStore() {
+        System.out.print("Enter file name (default: print_houses_report.phr): ");
+        String filePath = scanner.nextLine().trim();
+        filePath = filePath.isEmpty() ? "print_houses_report.phr" : filePath;
+        reportStoreService.exportReportStore(service.getAllPrintHouses(), filePath);
+        System.out.println("Reporting store exported successfully.");
+        logger.info("Exported reporting store to {}", filePath);
+    }
+
+    private void reportFromArchivedStore() {
+        System.out.print("Enter file name (default: print_houses_report.phr): ");
+        String filePath = scanner.nextLine().trim();
+        filePath = filePath.isEmpty() ? "print_houses_report.phr" : filePath;
+        try (MappedReportStore store = reportStoreService.openReportStore(filePath)) {
+            if (store.getPrintHouseCount() == 0) {
+                System.out.println("The reporting store contains no print houses.");
+                return;
+            }
+            for (int i = 0; i < store.getPrintHouseCount(); i++) {
+                System.out.println((i + 1) + ". Revenue: " + store.getTotalRevenue(i)
+                        + ", Print cost: " + store.getTotalCostForPrint(i)
+                        + ", Printed pages: " + store.getTotalPrintedPages(i));
+            }
+            logger.info("Reported {} print houses from archived store {}", store.getPrintHouseCount(), filePath);
+        } catch (IOException e) {
+            logger.error("Reading reporting store {} failed: {}", filePath, e.getMessage(), e);
+            System.out.println("Could not read reporting store: " + e.getMessage());
+        }
+    }
+
     private int getUserChoice() {
         try {
             String input = scanner.nextLine().trim();
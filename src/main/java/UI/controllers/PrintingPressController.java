@@ -1,16 +1,27 @@
 package UI.controllers;
 
 import data.models.*;
+import data.reports.PressThroughput;
+import data.reports.PressUtilization;
+import data.reports.PrintEvent;
+import data.reports.ProductionJob;
+import data.reports.ProductionReport;
+import data.reports.RankedItem;
+import data.reports.RankingMetric;
 import services.contracts.IEditionService;
 import services.contracts.IPrintHouseService;
+import services.contracts.IPressThroughputService;
 import services.contracts.IPrintingPressService;
+import services.contracts.IProductionSimulationService;
 import utilities.exceptions.InvalidPaperLoadException;
 import utilities.globalconstants.ExceptionMessages;
 import utilities.globalconstants.ModelsConstants;
+import utilities.logging.LogSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
@@ -20,21 +31,28 @@ import java.util.Scanner;
  */
 public class PrintingPressController {
     private static final Logger logger = LoggerFactory.getLogger(PrintingPressController.class);
+    private static final List<Duration> THROUGHPUT_WINDOWS =
+            List.of(Duration.ofMinutes(1), Duration.ofMinutes(15), Duration.ofHours(1));
     private final IPrintingPressService printingPressService;
     private final IPrintHouseService printHouseService;
     private final IEditionService editionService;
+    private final IPressThroughputService pressThroughputService;
+    private final IProductionSimulationService productionSimulationService;
     private final Scanner scanner;
 
     public PrintingPressController(IPrintingPressService printingPressService, IPrintHouseService printHouseService,
-                                   IEditionService editionService,
-                                   Scanner scanner) {
-        if (printingPressService == null || printHouseService == null || scanner == null) {
+                                   IEditionService editionService, IPressThroughputService pressThroughputService,
+                                   IProductionSimulationService productionSimulationService, Scanner scanner) {
+        if (printingPressService == null || printHouseService == null || pressThroughputService == null
+                || productionSimulationService == null || scanner == null) {
             logger.error("Dependencies cannot be null");
             throw new IllegalArgumentException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
         }
         this.printingPressService = printingPressService;
         this.printHouseService = printHouseService;
         this.editionService = editionService;
+        this.pressThroughputService = pressThroughputService;
+        this.productionSimulationService = productionSimulationService;
         this.scanner = scanner;
         logger.info("PrintingPressController initialized");
     }
@@ -61,6 +79,9 @@ public class PrintingPressController {
         System.out.println("7. Calculate total print cost");
         System.out.println("8. Calculate total revenue");
         System.out.println("9. Calculate total printed pages");
+        System.out.println("10. Show press throughput");
+        System.out.println("11. Show top editions and presses");
+        System.out.println("12. Simulate production from print history");
         System.out.println("0. Back to main menu");
         System.out.print("Enter your choice: ");
         logger.debug("Displayed printing press menu");
@@ -90,6 +111,9 @@ public class PrintingPressController {
                 case 7 -> calculateTotalPrintCost();
                 case 8 -> calculateTotalRevenue();
                 case 9 -> calculateTotalPrintedPages();
+                case 10 -> showThroughput();
+                case 11 -> showTopRanking();
+                case 12 -> simulateProduction();
                 default -> {
                     logger.warn("Invalid choice: {}", choice);
                     System.out.println("Invalid choice.");
@@ -148,13 +172,88 @@ public class PrintingPressController {
         List<PrintingPress> presses = printHouse.getPrintingPresses();
         if (presses.isEmpty()) {
             System.out.println("No printing presses found.");
-            logger.info("No printing presses in PrintHouse {}", printHouse);
+            logger.info("No printing presses in PrintHouse {}", LogSummary.of(printHouse));
         } else {
             presses.forEach(System.out::println);
-            logger.info("Displayed all printing presses for PrintHouse {}", printHouse);
+            logger.info("Displayed all printing presses for PrintHouse {}", LogSummary.of(printHouse));
         }
     }
 
+    private void showThroughput() {
+        PrintHouse printHouse = selectPrintHouse();
+        if (printHouse == null) return;
+        List<PrintingPress> presses = printHouse.getPrintingPresses();
+        if (presses.isEmpty()) {
+            System.out.println("No printing presses found.");
+            return;
+        }
+        for (Duration window : THROUGHPUT_WINDOWS) {
+            System.out.println("Last " + window.toMinutes() + " min, busiest first:");
+            for (PressThroughput throughput : pressThroughputService.getBottlenecks(printHouse, window)) {
+                System.out.println("  Press " + (presses.indexOf(throughput.getPress()) + 1) + ": " + throughput);
+            }
+        }
+        for (int i = 0; i < presses.size(); i++) {
+            List<PrintEvent> events = pressThroughputService.getRecentEvents(presses.get(i));
+            if (!events.isEmpty()) {
+                System.out.println("Press " + (i + 1) + " last job: " + events.getLast());
+            }
+        }
+        logger.info("Displayed press throughput for PrintHouse {}", LogSummary.of(printHouse));
+    }
+
+    private void showTopRanking() {
+        Boolean allHouses = getBooleanInput("Rank across all print houses (true/false): ");
+        if (allHouses == null) return;
+        List<PrintHouse> houses;
+        if (allHouses) {
+            houses = printHouseService.getAllPrintHouses();
+        } else {
+            PrintHouse printHouse = selectPrintHouse();
+            if (printHouse == null) return;
+            houses = List.of(printHouse);
+        }
+        String metricInput = getEnumInput("Rank by (COPIES/PAGES/REVENUE/PAPER_COST): ", RankingMetric.class);
+        if (metricInput == null) return;
+        RankingMetric metric = RankingMetric.valueOf(metricInput);
+        int limit = getIntInput("How many: ", 1, 1000);
+        if (limit == -1) return;
+
+        System.out.println("Top editions by " + metric + ":");
+        List<RankedItem<Edition>> editions = printingPressService.getTopEditions(houses, metric, limit);
+        for (int i = 0; i < editions.size(); i++) {
+            System.out.println("  " + (i + 1) + ". " + editions.get(i));
+        }
+        System.out.println("Top printing presses by " + metric + ":");
+        List<RankedItem<PrintingPress>> presses = printingPressService.getTopPrintingPresses(houses, metric, limit);
+        for (int i = 0; i < presses.size(); i++) {
+            System.out.println("  " + (i + 1) + ". " + presses.get(i));
+        }
+        logger.info("Displayed top {} by {} across {} print houses", limit, metric, houses.size());
+    }
+
+    private void simulateProduction() {
+        PrintHouse printHouse = selectPrintHouse();
+        if (printHouse == null) return;
+        int days = getIntInput("Number of days to simulate: ", 1, 366);
+        if (days == -1) return;
+        int refillSeconds = getIntInput("Seconds per paper refill: ", 0, 24 * 60 * 60);
+        if (refillSeconds == -1) return;
+        List<ProductionJob> jobs = productionSimulationService.replayHistory(printHouse, days, System.nanoTime());
+        ProductionReport report = productionSimulationService.simulate(printHouse, jobs, refillSeconds);
+        System.out.println("Jobs: " + jobs.size() + ", rejected: " + report.getRejectedJobs()
+                + ", last completion after " + Duration.ofSeconds(report.getMakespanSeconds()));
+        System.out.printf("Wait: mean %.0fs, max %ds%n", report.getMeanWaitSeconds(), report.getMaxWaitSeconds());
+        System.out.printf("Colour queue: mean %.2f, max %d; monochrome queue: mean %.2f, max %d%n",
+                report.getMeanColourQueue(), report.getMaxColourQueue(),
+                report.getMeanMonochromeQueue(), report.getMaxMonochromeQueue());
+        List<PressUtilization> presses = report.getPresses();
+        for (int i = 0; i < presses.size(); i++) {
+            System.out.println("  Press " + (i + 1) + ": " + presses.get(i));
+        }
+        logger.info("Displayed production simulation of {} jobs over {} days", jobs.size(), days);
+    }
+
     private void loadPaper() {
         PrintHouse printHouse = selectPrintHouse();
         if (printHouse == null) return;
@@ -182,7 +281,7 @@ public class PrintingPressController {
         List<Edition> editions = editionService.getEditions(printHouse);
         if (editions.isEmpty()) {
             System.out.println("No editions available.");
-            logger.warn("No editions found for printing in PrintHouse {}", printHouse);
+            logger.warn("No editions found for printing in PrintHouse {}", LogSummary.of(printHouse));
             return;
         }
         for (int i = 0; i < editions.size(); i++) {
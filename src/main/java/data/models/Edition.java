@@ -1,29 +1,46 @@
 package data.models;
 
-import java.io.Serial;
-import java.io.Serializable;
+import java.io.*;
 
 /**
  * Represents an edition of a printed material with basic properties.
+ * The title is the {@link TitleDictionary} canonical instance, shared by all editions with the same title, together
+ * with its dictionary code.
  */
 public class Edition implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
-    private String title;
+    // The stream keeps the original field layout, so snapshots written before titles were encoded still load
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("title", String.class),
+            new ObjectStreamField("numberOfPages", int.class),
+            new ObjectStreamField("size", Size.class)
+    };
+
+    private transient String title;
+    private transient int titleCode = TitleDictionary.NO_TITLE;
     private int numberOfPages;
     private Size size;
 
     public Edition() {}
 
     public Edition(String title, int numberOfPages, Size size) {
-        this.title = title;
+        this.title = TitleDictionary.intern(title);
+        this.titleCode = TitleDictionary.encode(this.title);
         this.numberOfPages = numberOfPages;
         this.size = size;
     }
 
     public String getTitle() { return title; }
-    public void setTitle(String title) { this.title = title; }
+    public void setTitle(String title) {
+        // This edition holds the canonical instance, which keeps the code valid for as long as the edition uses it
+        this.title = TitleDictionary.intern(title);
+        this.titleCode = TitleDictionary.encode(this.title);
+    }
+
+    public int getTitleCode() { return titleCode; }
 
     public int getNumberOfPages() { return numberOfPages; }
     public void setNumberOfPages(int numberOfPages) { this.numberOfPages = numberOfPages; }
@@ -31,8 +48,25 @@ public class Edition implements Serializable {
     public Size getSize() { return size; }
     public void setSize(Size size) { this.size = size; }
 
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("title", getTitle());
+        fields.put("numberOfPages", numberOfPages);
+        fields.put("size", size);
+        out.writeFields();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        setTitle((String) fields.get("title", null));
+        numberOfPages = fields.get("numberOfPages", 0);
+        size = (Size) fields.get("size", null);
+    }
+
     @Override
     public String toString() {
-        return "Edition{title='" + title + "', numberOfPages=" + numberOfPages + ", size=" + size + "}";
+        return "Edition{title='" + getTitle() + "', numberOfPages=" + numberOfPages + ", size=" + size + "}";
     }
-}
\ No newline at end of file
+}
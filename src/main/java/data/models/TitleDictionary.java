@@ -0,0 +1,152 @@
+package data.models;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Process-wide dictionary of edition titles. Each distinct title is held once, as a canonical {@code String}
+ * instance that every {@link Edition} with that title shares, and is identified by an int code that {@link Edition}
+ * uses for cheap equality checks and index keys.
+ * <p>
+ * Titles are held weakly: once no edition refers to a title any more (it was renamed, removed, or replaced by a
+ * loaded snapshot), the garbage collector reclaims it and its entry is dropped on the next call. Codes are never
+ * reused, so a code held by a live edition always decodes to that edition's title.
+ * <p>
+ * This is a weak {@code String} interner behind one process-wide lock. The lock is taken for every {@link Edition}
+ * constructed or deserialized, so parallel snapshot and shard loads contend on it; each call holds it only for a few
+ * map operations.
+ */
+public final class TitleDictionary {
+    /** Code used for a missing title. */
+    public static final int NO_TITLE = -1;
+
+    private static final Object lock = new Object();
+    private static final ReferenceQueue<String> released = new ReferenceQueue<>();
+    // Weak keys: an entry lives exactly as long as its canonical title is referenced from outside the dictionary
+    private static final Map<String, Integer> codes = new WeakHashMap<>();
+    private static final Map<Integer, Title> titles = new HashMap<>();
+    private static int nextCode;
+
+    private TitleDictionary() {
+    }
+
+    /**
+     * Returns the canonical instance of a title, adding the title to the dictionary if it is new. Holders of the
+     * returned instance keep the title's entry, and therefore its code, alive.
+     *
+     * @param title the title, may be null
+     * @return the shared instance equal to {@code title}, or null for null
+     */
+    public static String intern(String title) {
+        if (title == null) {
+            return null;
+        }
+        synchronized (lock) {
+            return canonical(title);
+        }
+    }
+
+    /**
+     * Returns the code of a title, adding the title to the dictionary if it is new. The code is only stable while
+     * the title's canonical instance (see {@link #intern(String)}) is referenced.
+     *
+     * @param title the title, may be null
+     * @return the title's code, or {@link #NO_TITLE} for null
+     */
+    public static int encode(String title) {
+        if (title == null) {
+            return NO_TITLE;
+        }
+        synchronized (lock) {
+            // The local reference keeps the entry alive until its code has been read
+            String canonical = canonical(title);
+            return codes.get(canonical);
+        }
+    }
+
+    /**
+     * Returns the title for a code.
+     *
+     * @param code a code returned by {@link #encode(String)} whose title is still referenced
+     * @return the canonical title, or null for {@link #NO_TITLE}
+     */
+    public static String decode(int code) {
+        if (code == NO_TITLE) {
+            return null;
+        }
+        synchronized (lock) {
+            Title title = titles.get(code);
+            String value = title == null ? null : title.get();
+            if (value == null) {
+                throw new IllegalArgumentException("Unknown title code: " + code);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of distinct titles that are still referenced.
+     *
+     * @return the title count
+     */
+    public static int size() {
+        synchronized (lock) {
+            expunge();
+            return titles.size();
+        }
+    }
+
+    /**
+     * Drops a title as the garbage collector would once nothing refers to it, so that reclamation can be tested
+     * without depending on when the collector runs.
+     *
+     * @param title the canonical title to drop
+     */
+    static void reclaim(String title) {
+        synchronized (lock) {
+            Integer code = codes.remove(title);
+            Title entry = code == null ? null : titles.get(code);
+            if (entry != null) {
+                // Clears the reference and queues it, like a collection does
+                entry.enqueue();
+            }
+        }
+    }
+
+    private static String canonical(String title) {
+        expunge();
+        Integer code = codes.get(title);
+        Title entry = code == null ? null : titles.get(code);
+        String canonical = entry == null ? null : entry.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        if (nextCode == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Title codes exhausted");
+        }
+        // The canonical instance is a private copy, so callers cannot keep an entry alive by accident
+        canonical = new String(title);
+        int created = nextCode++;
+        codes.put(canonical, created);
+        titles.put(created, new Title(canonical, created));
+        return canonical;
+    }
+
+    private static void expunge() {
+        for (Object reference; (reference = released.poll()) != null; ) {
+            titles.remove(((Title) reference).code);
+        }
+    }
+
+    private static final class Title extends WeakReference<String> {
+        private final int code;
+
+        private Title(String title, int code) {
+            super(title, released);
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package data.reports;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable totals for one group of printed items in a {@link PrintHouseBreakdown}.
+ */
+public final class BreakdownLine {
+    private final long copies;
+    private final long printedPages;
+    private final BigDecimal revenue;
+    private final BigDecimal paperCost;
+
+    public BreakdownLine(long copies, long printedPages, BigDecimal revenue, BigDecimal paperCost) {
+        this.copies = copies;
+        this.printedPages = printedPages;
+        this.revenue = revenue;
+        this.paperCost = paperCost;
+    }
+
+    public long getCopies() { return copies; }
+
+    public long getPrintedPages() { return printedPages; }
+
+    public BigDecimal getRevenue() { return revenue; }
+
+    public BigDecimal getPaperCost() { return paperCost; }
+
+    /** @return revenue minus paper cost */
+    public BigDecimal getGrossMargin() { return revenue.subtract(paperCost); }
+
+    @Override
+    public String toString() {
+        return "copies=" + copies + ", pages=" + printedPages + ", revenue=" + revenue + ", paperCost=" + paperCost
+                + ", margin=" + getGrossMargin();
+    }
+}
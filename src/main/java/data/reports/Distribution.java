@@ -0,0 +1,65 @@
+package data.reports;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Immutable summary of a sample of simulated values.
+ */
+public final class Distribution {
+    private final double min;
+    private final double p5;
+    private final double median;
+    private final double p95;
+    private final double max;
+    private final double mean;
+
+    private Distribution(double min, double p5, double median, double p95, double max, double mean) {
+        this.min = min;
+        this.p5 = p5;
+        this.median = median;
+        this.p95 = p95;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    /**
+     * Summarizes a sample. The array is sorted in place.
+     *
+     * @param values the sample, not empty
+     * @return the summary
+     */
+    public static Distribution of(double[] values) {
+        Arrays.sort(values);
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return new Distribution(values[0], percentile(values, 0.05), percentile(values, 0.5),
+                percentile(values, 0.95), values[values.length - 1], sum / values.length);
+    }
+
+    private static double percentile(double[] sorted, double fraction) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(fraction * (sorted.length - 1)))];
+    }
+
+    public double getMin() { return min; }
+
+    /** @return the 5th percentile */
+    public double getP5() { return p5; }
+
+    public double getMedian() { return median; }
+
+    /** @return the 95th percentile */
+    public double getP95() { return p95; }
+
+    public double getMax() { return max; }
+
+    public double getMean() { return mean; }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "min %.2f, p5 %.2f, median %.2f, p95 %.2f, max %.2f, mean %.2f",
+                min, p5, median, p95, max, mean);
+    }
+}
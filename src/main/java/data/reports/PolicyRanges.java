@@ -0,0 +1,80 @@
+package data.reports;
+
+import data.models.PrintHouse;
+
+/**
+ * Immutable ranges from which a policy simulation samples the pricing and salary policy of a {@link PrintHouse}.
+ * Each variant draws every field uniformly and independently from its range; a range whose bounds are equal fixes
+ * that field.
+ */
+public final class PolicyRanges {
+    private final Range salesDiscountCount;
+    private final Range salesDiscountPercentage;
+    private final Range paperIncrementPercentage;
+    private final Range employeeSalaryIncrementPercentage;
+    private final Range revenueTarget;
+
+    public PolicyRanges(Range salesDiscountCount, Range salesDiscountPercentage, Range paperIncrementPercentage,
+                        Range employeeSalaryIncrementPercentage, Range revenueTarget) {
+        this.salesDiscountCount = salesDiscountCount;
+        this.salesDiscountPercentage = salesDiscountPercentage;
+        this.paperIncrementPercentage = paperIncrementPercentage;
+        this.employeeSalaryIncrementPercentage = employeeSalaryIncrementPercentage;
+        this.revenueTarget = revenueTarget;
+    }
+
+    /**
+     * Creates ranges centred on a print house's current policy.
+     *
+     * @param printHouse     the print house whose policy is the centre of each range
+     * @param relativeSpread how far each field may move, as a fraction of its current value (0.2 for +/-20%)
+     * @return the ranges
+     */
+    public static PolicyRanges around(PrintHouse printHouse, double relativeSpread) {
+        return new PolicyRanges(
+                Range.around(printHouse.getSalesDiscountCount(), relativeSpread),
+                Range.around(printHouse.getSalesDiscountPercentage().doubleValue(), relativeSpread),
+                Range.around(printHouse.getPaperIncrementPercentage().doubleValue(), relativeSpread),
+                Range.around(printHouse.getEmployeeSalaryIncrementPercentage().doubleValue(), relativeSpread),
+                Range.around(printHouse.getRevenueTarget().doubleValue(), relativeSpread));
+    }
+
+    public Range getSalesDiscountCount() { return salesDiscountCount; }
+
+    public Range getSalesDiscountPercentage() { return salesDiscountPercentage; }
+
+    public Range getPaperIncrementPercentage() { return paperIncrementPercentage; }
+
+    public Range getEmployeeSalaryIncrementPercentage() { return employeeSalaryIncrementPercentage; }
+
+    public Range getRevenueTarget() { return revenueTarget; }
+
+    /**
+     * Closed interval of policy values.
+     */
+    public static final class Range {
+        private final double min;
+        private final double max;
+
+        public Range(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * @return the interval {@code value * (1 - spread)} to {@code value * (1 + spread)}, floored at zero
+         */
+        public static Range around(double value, double relativeSpread) {
+            return new Range(Math.max(0, value * (1 - relativeSpread)), value * (1 + relativeSpread));
+        }
+
+        public double getMin() { return min; }
+
+        public double getMax() { return max; }
+
+        @Override
+        public String toString() {
+            return "[" + min + ", " + max + "]";
+        }
+    }
+}
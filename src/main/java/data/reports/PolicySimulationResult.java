@@ -0,0 +1,47 @@
+package data.reports;
+
+/**
+ * Immutable result of a policy simulation: the distribution of each figure over all variants, the share of
+ * variants that met their revenue target, and the current and most profitable policies.
+ */
+public final class PolicySimulationResult {
+    private final int variants;
+    private final Distribution revenue;
+    private final Distribution paperCost;
+    private final Distribution payroll;
+    private final Distribution netProfit;
+    private final double targetMetShare;
+    private final PolicyVariant current;
+    private final PolicyVariant best;
+
+    public PolicySimulationResult(int variants, Distribution revenue, Distribution paperCost, Distribution payroll,
+                                  Distribution netProfit, double targetMetShare, PolicyVariant current, PolicyVariant best) {
+        this.variants = variants;
+        this.revenue = revenue;
+        this.paperCost = paperCost;
+        this.payroll = payroll;
+        this.netProfit = netProfit;
+        this.targetMetShare = targetMetShare;
+        this.current = current;
+        this.best = best;
+    }
+
+    public int getVariants() { return variants; }
+
+    public Distribution getRevenue() { return revenue; }
+
+    public Distribution getPaperCost() { return paperCost; }
+
+    public Distribution getPayroll() { return payroll; }
+
+    public Distribution getNetProfit() { return netProfit; }
+
+    /** @return the fraction of variants whose revenue reached their revenue target */
+    public double getTargetMetShare() { return targetMetShare; }
+
+    /** @return the print house's current policy evaluated by the same model */
+    public PolicyVariant getCurrent() { return current; }
+
+    /** @return the variant with the highest net profit */
+    public PolicyVariant getBest() { return best; }
+}
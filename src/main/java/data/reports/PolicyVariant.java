@@ -0,0 +1,57 @@
+package data.reports;
+
+import java.util.Locale;
+
+/**
+ * Immutable outcome of one simulated pricing and salary policy.
+ */
+public final class PolicyVariant {
+    private final int salesDiscountCount;
+    private final double salesDiscountPercentage;
+    private final double paperIncrementPercentage;
+    private final double employeeSalaryIncrementPercentage;
+    private final double revenueTarget;
+    private final double revenue;
+    private final double paperCost;
+    private final double payroll;
+
+    public PolicyVariant(int salesDiscountCount, double salesDiscountPercentage, double paperIncrementPercentage,
+                         double employeeSalaryIncrementPercentage, double revenueTarget,
+                         double revenue, double paperCost, double payroll) {
+        this.salesDiscountCount = salesDiscountCount;
+        this.salesDiscountPercentage = salesDiscountPercentage;
+        this.paperIncrementPercentage = paperIncrementPercentage;
+        this.employeeSalaryIncrementPercentage = employeeSalaryIncrementPercentage;
+        this.revenueTarget = revenueTarget;
+        this.revenue = revenue;
+        this.paperCost = paperCost;
+        this.payroll = payroll;
+    }
+
+    public int getSalesDiscountCount() { return salesDiscountCount; }
+
+    public double getSalesDiscountPercentage() { return salesDiscountPercentage; }
+
+    public double getPaperIncrementPercentage() { return paperIncrementPercentage; }
+
+    public double getEmployeeSalaryIncrementPercentage() { return employeeSalaryIncrementPercentage; }
+
+    public double getRevenueTarget() { return revenueTarget; }
+
+    public double getRevenue() { return revenue; }
+
+    public double getPaperCost() { return paperCost; }
+
+    public double getPayroll() { return payroll; }
+
+    /** @return revenue minus paper cost and payroll */
+    public double getNetProfit() { return revenue - paperCost - payroll; }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "discount %.1f%% above %d copies, paper increment %.1f%%, salary increment %.1f%%, "
+                        + "target %.2f -> revenue %.2f, paper %.2f, payroll %.2f, net %.2f",
+                salesDiscountPercentage, salesDiscountCount, paperIncrementPercentage,
+                employeeSalaryIncrementPercentage, revenueTarget, revenue, paperCost, payroll, getNetProfit());
+    }
+}
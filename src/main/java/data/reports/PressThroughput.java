@@ -0,0 +1,44 @@
+package data.reports;
+
+import data.models.PrintingPress;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Immutable throughput of a {@link PrintingPress} over a trailing time window.
+ */
+public final class PressThroughput {
+    private final PrintingPress press;
+    private final Duration window;
+    private final long printedPages;
+
+    public PressThroughput(PrintingPress press, Duration window, long printedPages) {
+        this.press = press;
+        this.window = window;
+        this.printedPages = printedPages;
+    }
+
+    public PrintingPress getPress() { return press; }
+
+    public Duration getWindow() { return window; }
+
+    /** @return pages printed within the window */
+    public long getPrintedPages() { return printedPages; }
+
+    /** @return average pages per minute over the window */
+    public double getPagesPerMinute() {
+        return printedPages * 60.0 / window.getSeconds();
+    }
+
+    /** @return pages per minute as a fraction of the press's rated maximum; above 1 means the press is oversubscribed */
+    public double getUtilization() {
+        return getPagesPerMinute() / press.getMaximumPagesPerMinute();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d pages in %s, %.1f pages/min, %.1f%% of %d pages/min", printedPages, window,
+                getPagesPerMinute(), getUtilization() * 100, press.getMaximumPagesPerMinute());
+    }
+}
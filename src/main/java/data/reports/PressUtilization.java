@@ -0,0 +1,50 @@
+package data.reports;
+
+import data.models.PrintingPress;
+
+/**
+ * Immutable activity of one {@link PrintingPress} over a production simulation.
+ */
+public final class PressUtilization {
+    private final PrintingPress press;
+    private final long busySeconds;
+    private final long refillSeconds;
+    private final long idleSeconds;
+    private final int jobs;
+    private final long printedPages;
+    private final int refills;
+
+    public PressUtilization(PrintingPress press, long busySeconds, long refillSeconds, long idleSeconds,
+                            int jobs, long printedPages, int refills) {
+        this.press = press;
+        this.busySeconds = busySeconds;
+        this.refillSeconds = refillSeconds;
+        this.idleSeconds = idleSeconds;
+        this.jobs = jobs;
+        this.printedPages = printedPages;
+        this.refills = refills;
+    }
+
+    public PrintingPress getPress() { return press; }
+
+    /** @return seconds spent printing */
+    public long getBusySeconds() { return busySeconds; }
+
+    /** @return seconds spent reloading paper */
+    public long getRefillSeconds() { return refillSeconds; }
+
+    /** @return seconds neither printing nor reloading, up to the end of the simulation */
+    public long getIdleSeconds() { return idleSeconds; }
+
+    public int getJobs() { return jobs; }
+
+    public long getPrintedPages() { return printedPages; }
+
+    public int getRefills() { return refills; }
+
+    @Override
+    public String toString() {
+        return "jobs=" + jobs + ", pages=" + printedPages + ", busy=" + busySeconds + "s, refilling=" + refillSeconds
+                + "s (" + refills + " refills), idle=" + idleSeconds + "s";
+    }
+}
@@ -0,0 +1,38 @@
+package data.reports;
+
+import java.time.Instant;
+
+/**
+ * Immutable record of one completed print job on a printing press.
+ */
+public final class PrintEvent {
+    private final Instant timestamp;
+    private final String title;
+    private final int copies;
+    private final long printedPages;
+    private final boolean colour;
+
+    public PrintEvent(Instant timestamp, String title, int copies, long printedPages, boolean colour) {
+        this.timestamp = timestamp;
+        this.title = title;
+        this.copies = copies;
+        this.printedPages = printedPages;
+        this.colour = colour;
+    }
+
+    public Instant getTimestamp() { return timestamp; }
+
+    public String getTitle() { return title; }
+
+    public int getCopies() { return copies; }
+
+    /** @return edition pages times copies */
+    public long getPrintedPages() { return printedPages; }
+
+    public boolean isColour() { return colour; }
+
+    @Override
+    public String toString() {
+        return timestamp + " " + title + " x" + copies + " (" + printedPages + " pages" + (colour ? ", colour" : "") + ")";
+    }
+}
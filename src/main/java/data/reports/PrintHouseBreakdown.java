@@ -0,0 +1,49 @@
+package data.reports;
+
+import data.models.PaperType;
+import data.models.PrintHouse;
+import data.models.Size;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable revenue and paper cost breakdown of a {@link PrintHouse}'s print history, grouped by printing press,
+ * {@link PaperType}, {@link Size} and colour versus monochrome. Every grouping adds up to the house total.
+ */
+public final class PrintHouseBreakdown {
+    private final BreakdownLine total;
+    private final List<BreakdownLine> byPrintingPress;
+    private final Map<PaperType, BreakdownLine> byPaperType;
+    private final Map<Size, BreakdownLine> bySize;
+    private final BreakdownLine colour;
+    private final BreakdownLine monochrome;
+
+    public PrintHouseBreakdown(BreakdownLine total, List<BreakdownLine> byPrintingPress,
+                               Map<PaperType, BreakdownLine> byPaperType, Map<Size, BreakdownLine> bySize,
+                               BreakdownLine colour, BreakdownLine monochrome) {
+        this.total = total;
+        this.byPrintingPress = List.copyOf(byPrintingPress);
+        this.byPaperType = Collections.unmodifiableMap(new EnumMap<>(byPaperType));
+        this.bySize = Collections.unmodifiableMap(new EnumMap<>(bySize));
+        this.colour = colour;
+        this.monochrome = monochrome;
+    }
+
+    public BreakdownLine getTotal() { return total; }
+
+    /** @return one line per printing press, in the house's press order */
+    public List<BreakdownLine> getByPrintingPress() { return byPrintingPress; }
+
+    /** @return one line per paper type, including types with no print history */
+    public Map<PaperType, BreakdownLine> getByPaperType() { return byPaperType; }
+
+    /** @return one line per size, including sizes with no print history */
+    public Map<Size, BreakdownLine> getBySize() { return bySize; }
+
+    public BreakdownLine getColour() { return colour; }
+
+    public BreakdownLine getMonochrome() { return monochrome; }
+}
@@ -0,0 +1,35 @@
+package data.reports;
+
+import data.models.Edition;
+
+/**
+ * Immutable print job submitted to a production simulation.
+ */
+public final class ProductionJob {
+    private final long arrivalSecond;
+    private final Edition edition;
+    private final int copies;
+    private final boolean colour;
+
+    public ProductionJob(long arrivalSecond, Edition edition, int copies, boolean colour) {
+        this.arrivalSecond = arrivalSecond;
+        this.edition = edition;
+        this.copies = copies;
+        this.colour = colour;
+    }
+
+    /** @return the simulated second at which the job is submitted */
+    public long getArrivalSecond() { return arrivalSecond; }
+
+    public Edition getEdition() { return edition; }
+
+    public int getCopies() { return copies; }
+
+    public boolean isColour() { return colour; }
+
+    @Override
+    public String toString() {
+        return "ProductionJob{arrival=" + arrivalSecond + "s, edition=" + edition + ", copies=" + copies
+                + ", colour=" + colour + "}";
+    }
+}
@@ -0,0 +1,66 @@
+package data.reports;
+
+import java.util.List;
+
+/**
+ * Immutable outcome of a production simulation. Times are simulated seconds.
+ */
+public final class ProductionReport {
+    private final List<PressUtilization> presses;
+    private final long[] completionSeconds;
+    private final int rejectedJobs;
+    private final long makespanSeconds;
+    private final double meanWaitSeconds;
+    private final long maxWaitSeconds;
+    private final int maxColourQueue;
+    private final int maxMonochromeQueue;
+    private final double meanColourQueue;
+    private final double meanMonochromeQueue;
+
+    public ProductionReport(List<PressUtilization> presses, long[] completionSeconds, int rejectedJobs,
+                            long makespanSeconds, double meanWaitSeconds, long maxWaitSeconds,
+                            int maxColourQueue, int maxMonochromeQueue,
+                            double meanColourQueue, double meanMonochromeQueue) {
+        this.presses = List.copyOf(presses);
+        this.completionSeconds = completionSeconds.clone();
+        this.rejectedJobs = rejectedJobs;
+        this.makespanSeconds = makespanSeconds;
+        this.meanWaitSeconds = meanWaitSeconds;
+        this.maxWaitSeconds = maxWaitSeconds;
+        this.maxColourQueue = maxColourQueue;
+        this.maxMonochromeQueue = maxMonochromeQueue;
+        this.meanColourQueue = meanColourQueue;
+        this.meanMonochromeQueue = meanMonochromeQueue;
+    }
+
+    /** @return the activity of each press, in the print house's press order */
+    public List<PressUtilization> getPresses() { return presses; }
+
+    /**
+     * Returns when each job finished, in the order the jobs were submitted to the simulation.
+     *
+     * @return completion seconds, or -1 for rejected jobs
+     */
+    public long[] getCompletionSeconds() { return completionSeconds.clone(); }
+
+    /** @return jobs that no press could print, such as colour jobs in a house without colour presses */
+    public int getRejectedJobs() { return rejectedJobs; }
+
+    /** @return the completion time of the last job */
+    public long getMakespanSeconds() { return makespanSeconds; }
+
+    /** @return mean seconds between a job's arrival and the start of its printing */
+    public double getMeanWaitSeconds() { return meanWaitSeconds; }
+
+    public long getMaxWaitSeconds() { return maxWaitSeconds; }
+
+    public int getMaxColourQueue() { return maxColourQueue; }
+
+    public int getMaxMonochromeQueue() { return maxMonochromeQueue; }
+
+    /** @return time-weighted mean length of the colour queue */
+    public double getMeanColourQueue() { return meanColourQueue; }
+
+    /** @return time-weighted mean length of the monochrome queue */
+    public double getMeanMonochromeQueue() { return meanMonochromeQueue; }
+}
@@ -0,0 +1,44 @@
+package data.reports;
+
+import data.models.PrintHouse;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable profit-and-loss statement of a {@link PrintHouse}.
+ */
+public final class ProfitAndLossStatement {
+    private final BigDecimal revenue;
+    private final BigDecimal paperCost;
+    private final BigDecimal payroll;
+    private final boolean revenueTargetMet;
+
+    public ProfitAndLossStatement(BigDecimal revenue, BigDecimal paperCost, BigDecimal payroll, boolean revenueTargetMet) {
+        this.revenue = revenue;
+        this.paperCost = paperCost;
+        this.payroll = payroll;
+        this.revenueTargetMet = revenueTargetMet;
+    }
+
+    public BigDecimal getRevenue() { return revenue; }
+
+    public BigDecimal getPaperCost() { return paperCost; }
+
+    public BigDecimal getPayroll() { return payroll; }
+
+    /** @return whether revenue reached the house's target, which enables the salary increment in the payroll */
+    public boolean isRevenueTargetMet() { return revenueTargetMet; }
+
+    /** @return revenue minus paper cost */
+    public BigDecimal getGrossMargin() { return revenue.subtract(paperCost); }
+
+    /** @return revenue minus paper cost and payroll */
+    public BigDecimal getNetProfit() { return revenue.subtract(paperCost).subtract(payroll); }
+
+    @Override
+    public String toString() {
+        return "ProfitAndLossStatement{revenue=" + revenue + ", paperCost=" + paperCost + ", payroll=" + payroll
+                + ", grossMargin=" + getGrossMargin() + ", netProfit=" + getNetProfit()
+                + ", revenueTargetMet=" + revenueTargetMet + "}";
+    }
+}
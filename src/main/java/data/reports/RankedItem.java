@@ -0,0 +1,27 @@
+package data.reports;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable entry of a top-N ranking: the ranked item and its value for the {@link RankingMetric} used.
+ *
+ * @param <T> the type of the ranked item
+ */
+public final class RankedItem<T> {
+    private final T item;
+    private final BigDecimal value;
+
+    public RankedItem(T item, BigDecimal value) {
+        this.item = item;
+        this.value = value;
+    }
+
+    public T getItem() { return item; }
+
+    public BigDecimal getValue() { return value; }
+
+    @Override
+    public String toString() {
+        return item + ": " + value;
+    }
+}
@@ -0,0 +1,15 @@
+package data.reports;
+
+/**
+ * Measures by which editions and printing presses can be ranked.
+ */
+public enum RankingMetric {
+    /** Copies printed. */
+    COPIES,
+    /** Edition pages times copies. */
+    PAGES,
+    /** Sales revenue after volume discounts. */
+    REVENUE,
+    /** Cost of the paper used. */
+    PAPER_COST
+}
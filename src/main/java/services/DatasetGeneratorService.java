@@ -0,0 +1,207 @@
+package services;
+
+import data.models.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.*;
+import services.generation.DatasetSpec;
+import utilities.EgnGenerator;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic print houses. Each house draws from its own random generator derived from the seed and the
+ * house's position, so a house's content does not depend on how many houses precede it. Everything is created
+ * through the regular services, and therefore validated the same way as user input: employees get unique valid
+ * EGNs from {@link EgnGenerator}, and presses are refilled before a print job would run out of paper.
+ * <p>
+ * Edition popularity is skewed so that a few titles account for most print jobs, as in real print histories.
+ * <p>
+ * Every method holds the whole dataset in the heap, as the application does once the dataset is loaded, so
+ * specifications whose estimated footprint exceeds the maximum heap are rejected up front instead of failing with an
+ * {@link OutOfMemoryError} part way through.
+ */
+public class DatasetGeneratorService implements IDatasetGeneratorService {
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGeneratorService.class);
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+    private static final String[] TITLE_ADJECTIVES = {"Silent", "Northern", "Golden", "Hidden", "Modern", "Little",
+            "Broken", "Endless", "Wild", "Quiet", "Crimson", "Distant", "Urban", "Ancient", "Bright", "Hollow"};
+    private static final String[] TITLE_NOUNS = {"River", "Garden", "Atlas", "Harbour", "Almanac", "Chronicle",
+            "Kingdom", "Voyage", "Journal", "Mountain", "Review", "Letters", "Weekly", "Archive", "Meadow", "Engine"};
+    private static final Size[] SIZES = Size.values();
+    private static final PaperType[] PAPER_TYPES = PaperType.values();
+    private static final EmployeeType[] EMPLOYEE_TYPES = EmployeeType.values();
+    // Approximate retained heap per generated entity, including the collections and indexes that hold it
+    private static final long BYTES_PER_EMPLOYEE = 160;
+    private static final long BYTES_PER_PRESS = 256;
+    private static final long BYTES_PER_EDITION = 192;
+    private static final long BYTES_PER_PRINT_RECORD = 160;
+    // writeSnapshot also holds the serialized and compressed copies of the dataset
+    private static final int SNAPSHOT_COPIES = 2;
+
+    private final IPrintHouseService printHouseService;
+    private final IEmployeeService employeeService;
+    private final IPrintingPressService printingPressService;
+    private final IEditionService editionService;
+    private final ISerializationService<PrintHouse> serializationService;
+
+    public DatasetGeneratorService(IPrintHouseService printHouseService, IEmployeeService employeeService,
+                                   IPrintingPressService printingPressService, IEditionService editionService,
+                                   ISerializationService<PrintHouse> serializationService) {
+        if (printHouseService == null || employeeService == null || printingPressService == null
+                || editionService == null || serializationService == null) {
+            logger.error("Dependencies cannot be null");
+            throw new IllegalArgumentException("Dependencies cannot be null");
+        }
+        this.printHouseService = printHouseService;
+        this.employeeService = employeeService;
+        this.printingPressService = printingPressService;
+        this.editionService = editionService;
+        this.serializationService = serializationService;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<PrintHouse> populate(DatasetSpec spec) {
+        validateSpec(spec, 1);
+        List<PrintHouse> houses = new ArrayList<>(spec.getPrintHouses());
+        for (int h = 0; h < spec.getPrintHouses(); h++) {
+            SplittableRandom random = new SplittableRandom(spec.getSeed() + h * SEED_STEP);
+            PrintHouse policy = randomPolicy(random);
+            PrintHouse house = printHouseService.createPrintHouse(policy.getEmployeeSalaryIncrementPercentage(),
+                    policy.getPaperIncrementPercentage(), policy.getBaseSalary(), policy.getIncrementEligibleRoles(),
+                    policy.getRevenueTarget(), policy.getSalesDiscountCount(), policy.getSalesDiscountPercentage());
+            fill(house, h, spec, random, employeeService, printingPressService, editionService);
+            houses.add(house);
+        }
+        logger.info("Populated services with generated dataset {}", spec);
+        return houses;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<PrintHouse> generate(DatasetSpec spec) {
+        validateSpec(spec, 1);
+        // Private service instances, so that nothing is registered and no edition catalog is involved
+        IPrintingPressService presses = new PrintingPressService();
+        IEmployeeService employees = new EmployeeService(presses);
+        List<PrintHouse> houses = new ArrayList<>(spec.getPrintHouses());
+        for (int h = 0; h < spec.getPrintHouses(); h++) {
+            SplittableRandom random = new SplittableRandom(spec.getSeed() + h * SEED_STEP);
+            PrintHouse house = randomPolicy(random);
+            fill(house, h, spec, random, employees, presses, null);
+            houses.add(house);
+        }
+        logger.info("Generated dataset {}", spec);
+        return houses;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeSnapshot(DatasetSpec spec, String filePath) {
+        validateSpec(spec, SNAPSHOT_COPIES);
+        List<PrintHouse> houses = generate(spec);
+        serializationService.serialize(houses, filePath);
+        logger.info("Wrote generated dataset to {}", filePath);
+    }
+
+    private PrintHouse randomPolicy(SplittableRandom random) {
+        List<EmployeeType> eligibleRoles = random.nextBoolean()
+                ? List.of(EmployeeType.MANAGER) : List.of(EmployeeType.MANAGER, EmployeeType.OPERATOR);
+        return new PrintHouse(
+                BigDecimal.valueOf(random.nextInt(0, 2001), 2),
+                BigDecimal.valueOf(random.nextInt(0, 3001), 2),
+                BigDecimal.valueOf(random.nextInt(1000, 4001)),
+                eligibleRoles,
+                BigDecimal.valueOf(random.nextInt(10_000, 1_000_001)),
+                random.nextInt(10, 201),
+                // The print house service requires a positive discount
+                BigDecimal.valueOf(random.nextInt(1, 3001), 2));
+    }
+
+    private void fill(PrintHouse house, int houseIndex, DatasetSpec spec, SplittableRandom random,
+                      IEmployeeService employees, IPrintingPressService presses, IEditionService editions) {
+        long firstEgn = (long) houseIndex * spec.getEmployeesPerHouse();
+        for (int e = 0; e < spec.getEmployeesPerHouse(); e++) {
+            employees.addEmployee(house, new Employee(EgnGenerator.fromIndex(firstEgn + e),
+                    EMPLOYEE_TYPES[random.nextInt(EMPLOYEE_TYPES.length)]));
+        }
+
+        for (int p = 0; p < spec.getPressesPerHouse(); p++) {
+            int maxPaperLoad = random.nextInt(20_000, 100_001);
+            presses.addPrintingPress(house, new PrintingPress(maxPaperLoad, maxPaperLoad, random.nextInt(5) < 2,
+                    random.nextInt(50, 1001)));
+        }
+
+        List<Edition> catalog = new ArrayList<>(spec.getEditionsPerHouse());
+        for (int e = 0; e < spec.getEditionsPerHouse(); e++) {
+            catalog.add(new Edition(title(e), random.nextInt(4, 801), SIZES[random.nextInt(SIZES.length)]));
+        }
+        if (editions != null && !catalog.isEmpty()) {
+            editions.addEditions(house, catalog);
+            // The edition service may have swapped in shared catalog instances
+            catalog = editions.getEditions(house);
+        }
+
+        List<PrintingPress> fleet = house.getPrintingPresses();
+        for (int r = 0; r < spec.getPrintRecordsPerHouse(); r++) {
+            PrintingPress press = fleet.get(random.nextInt(fleet.size()));
+            double popularity = random.nextDouble();
+            Edition edition = catalog.get((int) (popularity * popularity * popularity * catalog.size()));
+            long sheetsPerCopy = (edition.getNumberOfPages() + 1) / 2;
+            int copies = 1 + random.nextInt((int) Math.min(500, press.getMaxPaperLoad() / sheetsPerCopy));
+            if (sheetsPerCopy * copies > press.getCurrentPaperLoad()) {
+                presses.loadPaper(house, press, press.getMaxPaperLoad() - press.getCurrentPaperLoad());
+            }
+            presses.printItem(house, press, edition, PAPER_TYPES[random.nextInt(PAPER_TYPES.length)],
+                    BigDecimal.valueOf(random.nextInt(50, 5001), 2), copies, press.isColour() && random.nextBoolean());
+        }
+    }
+
+    private static String title(int index) {
+        int combinations = TITLE_ADJECTIVES.length * TITLE_NOUNS.length;
+        String title = TITLE_ADJECTIVES[index % TITLE_ADJECTIVES.length] + " "
+                + TITLE_NOUNS[index / TITLE_ADJECTIVES.length % TITLE_NOUNS.length];
+        return index < combinations ? title : title + " Vol. " + (index / combinations + 1);
+    }
+
+    private void validateSpec(DatasetSpec spec, int copies) {
+        if (spec == null) {
+            logger.error(ExceptionMessages.DATASET_SPEC_CANNOT_BE_NULL);
+            throw new IllegalArgumentException(ExceptionMessages.DATASET_SPEC_CANNOT_BE_NULL);
+        }
+        boolean negative = spec.getPrintHouses() < 0 || spec.getEmployeesPerHouse() < 0 || spec.getPressesPerHouse() < 0
+                || spec.getEditionsPerHouse() < 0 || spec.getPrintRecordsPerHouse() < 0;
+        boolean nothingToPrintWith = spec.getPrintRecordsPerHouse() > 0
+                && (spec.getPressesPerHouse() == 0 || spec.getEditionsPerHouse() == 0);
+        boolean tooManyEmployees = (long) spec.getPrintHouses() * spec.getEmployeesPerHouse() > EgnGenerator.MAX_INDEX;
+        if (negative || nothingToPrintWith || tooManyEmployees) {
+            logger.error("Invalid dataset specification: {}", spec);
+            throw new IllegalArgumentException(ExceptionMessages.DATASET_SPEC_INVALID);
+        }
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        double required = estimatedHeapBytes(spec) * copies;
+        if (maxHeap != Long.MAX_VALUE && required > maxHeap) {
+            logger.error("Dataset {} needs about {} bytes of heap, more than the {} available", spec, (long) required, maxHeap);
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.DATASET_TOO_LARGE,
+                    (long) (required / (1024 * 1024)), maxHeap / (1024 * 1024)));
+        }
+    }
+
+    /**
+     * Estimates the heap retained by a generated dataset. Print records are counted one by one although repeated
+     * jobs share a printed item, so the estimate errs on the high side.
+     */
+    private static double estimatedHeapBytes(DatasetSpec spec) {
+        double perHouse = (double) spec.getEmployeesPerHouse() * BYTES_PER_EMPLOYEE
+                + (double) spec.getPressesPerHouse() * BYTES_PER_PRESS
+                + (double) spec.getEditionsPerHouse() * BYTES_PER_EDITION
+                + (double) spec.getPrintRecordsPerHouse() * BYTES_PER_PRINT_RECORD;
+        return perHouse * spec.getPrintHouses();
+    }
+}
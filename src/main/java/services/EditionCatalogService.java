@@ -0,0 +1,202 @@
+package services;
+
+import data.models.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IEditionCatalogService;
+import utilities.exceptions.InvalidEditionException;
+import utilities.exceptions.InvalidPageSizeException;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.exceptions.InvalidTitleException;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe catalog of canonical {@link Edition} instances shared by all print houses.
+ * Each distinct (title, page count, size) is stored once, with an ID and a reference count.
+ */
+public class EditionCatalogService implements IEditionCatalogService {
+    private static final Logger logger = LoggerFactory.getLogger(EditionCatalogService.class);
+    private final Map<EditionKey, Entry> entriesByKey = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /** {@inheritDoc} */
+    @Override
+    public Edition acquire(Edition edition) {
+        validateEdition(edition);
+        return acquire(new EditionKey(edition.getTitle(), edition.getNumberOfPages(), edition.getSize()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Edition acquire(String title, int numberOfPages, Size size) {
+        validateEdition(new Edition(title, numberOfPages, size));
+        return acquire(new EditionKey(title, numberOfPages, size));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void release(Edition edition) {
+        if (edition == null) {
+            return;
+        }
+        EditionKey key = new EditionKey(edition.getTitle(), edition.getNumberOfPages(), edition.getSize());
+        entriesByKey.computeIfPresent(key, (k, entry) -> {
+            if (entry.edition != edition) {
+                logger.warn("Ignoring release of a non-canonical edition: {}", edition);
+                return entry;
+            }
+            if (--entry.references > 0) {
+                return entry;
+            }
+            entriesById.remove(entry.id);
+            logger.debug("Edition {} left the catalog", entry.id);
+            return null;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void acquirePrintedItems(PrintHouse printHouse) {
+        validatePrintHouse(printHouse);
+        int items = 0;
+        for (PrintingPress press : printHouse.getPrintingPresses()) {
+            for (PrintedItem item : press.getPrintedItems().keySet()) {
+                item.setEdition(acquire(item.getEdition()));
+                items++;
+            }
+        }
+        logger.debug("Resolved {} printed items to catalog editions", items);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void releasePrintedItems(PrintHouse printHouse) {
+        validatePrintHouse(printHouse);
+        for (PrintingPress press : printHouse.getPrintingPresses()) {
+            for (PrintedItem item : press.getPrintedItems().keySet()) {
+                release(item.getEdition());
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getId(Edition edition) {
+        validateEdition(edition);
+        Entry entry = entriesByKey.get(new EditionKey(edition.getTitle(), edition.getNumberOfPages(), edition.getSize()));
+        if (entry == null || entry.edition != edition) {
+            logger.error("Edition is not in the catalog: {}", edition);
+            throw new InvalidEditionException(ExceptionMessages.EDITION_NOT_IN_CATALOG);
+        }
+        return entry.id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Edition getEdition(long id) {
+        Entry entry = entriesById.get(id);
+        if (entry == null) {
+            logger.error("No catalog edition with ID {}", id);
+            throw new InvalidEditionException(ExceptionMessages.EDITION_NOT_IN_CATALOG);
+        }
+        return entry.edition;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getReferenceCount(Edition edition) {
+        if (edition == null) {
+            return 0;
+        }
+        int[] references = new int[1];
+        // Read under the key's lock, which guards the count
+        entriesByKey.computeIfPresent(new EditionKey(edition.getTitle(), edition.getNumberOfPages(), edition.getSize()),
+                (k, entry) -> {
+                    references[0] = entry.edition == edition ? entry.references : 0;
+                    return entry;
+                });
+        return references[0];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return entriesByKey.size();
+    }
+
+    private Edition acquire(EditionKey key) {
+        Entry acquired = entriesByKey.compute(key, (k, entry) -> {
+            if (entry == null) {
+                // The catalog owns its canonical instance, so callers cannot change it through their own reference
+                entry = new Entry(nextId.getAndIncrement(), new Edition(k.title, k.numberOfPages, k.size));
+                entriesById.put(entry.id, entry);
+            }
+            entry.references++;
+            return entry;
+        });
+        return acquired.edition;
+    }
+
+    private void validateEdition(Edition edition) {
+        if (edition == null) {
+            logger.error(ExceptionMessages.EDITION_CANNOT_BE_NULL);
+            throw new InvalidEditionException(ExceptionMessages.EDITION_CANNOT_BE_NULL);
+        }
+        if (edition.getTitle() == null || edition.getTitle().trim().isEmpty()) {
+            logger.error(ExceptionMessages.TITLE_CANNOT_BE_NULL);
+            throw new InvalidTitleException(ExceptionMessages.TITLE_CANNOT_BE_NULL);
+        }
+        if (edition.getSize() == null) {
+            logger.error(ExceptionMessages.INVALID_PAGE_SIZE);
+            throw new InvalidPageSizeException(ExceptionMessages.INVALID_PAGE_SIZE);
+        }
+    }
+
+    private void validatePrintHouse(PrintHouse printHouse) {
+        if (printHouse == null) {
+            logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+            throw new InvalidPrintHouseException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+        }
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final Edition edition;
+        // Only accessed inside entriesByKey.compute* for this entry's key, which holds the key's lock
+        private int references;
+
+        private Entry(long id, Edition edition) {
+            this.id = id;
+            this.edition = edition;
+        }
+    }
+
+    private static final class EditionKey {
+        private final String title;
+        private final int numberOfPages;
+        private final Size size;
+
+        private EditionKey(String title, int numberOfPages, Size size) {
+            this.title = title;
+            this.numberOfPages = numberOfPages;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EditionKey other && numberOfPages == other.numberOfPages
+                    && size == other.size && Objects.equals(title, other.title);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, numberOfPages, size);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package services;
+
+import data.models.Edition;
+import data.models.PrintHouse;
+import data.models.Size;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IEditionImportService;
+import services.contracts.IEditionService;
+import services.persistence.EditionImportResult;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.globalconstants.ExceptionMessages;
+import utilities.globalconstants.ModelsConstants;
+import utilities.globalconstants.ServicesConstants;
+import utilities.logging.LogSummary;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Streams edition catalogs into {@link IEditionService}. Lines are read in chunks that are parsed and validated in
+ * parallel, then consumed in file order: each valid row is checked against a hash set of the editions already known
+ * and committed to the edition service in batches.
+ */
+public class EditionImportService implements IEditionImportService {
+    private static final Logger logger = LoggerFactory.getLogger(EditionImportService.class);
+    private static final int CHUNK_LINES = 4096;
+    private static final int BATCH_SIZE = 4096;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final IEditionService editionService;
+
+    public EditionImportService(IEditionService editionService) {
+        if (editionService == null) {
+            logger.error("Edition service cannot be null");
+            throw new IllegalArgumentException("Edition service cannot be null");
+        }
+        this.editionService = editionService;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EditionImportResult importEditions(PrintHouse printHouse, String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            logger.error("Invalid file path: {}", filePath);
+            throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
+        }
+        try (Reader reader = Files.newBufferedReader(Path.of(filePath), StandardCharsets.UTF_8)) {
+            return importEditions(printHouse, reader);
+        } catch (NoSuchFileException e) {
+            logger.error("Import file not found: {}", filePath);
+            throw new IllegalArgumentException(MessageFormat.format(ServicesConstants.FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            logger.error("Import failed for {}: {}", filePath, e.getMessage(), e);
+            throw new RuntimeException("Import failed: " + e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EditionImportResult importEditions(PrintHouse printHouse, Reader reader) {
+        if (printHouse == null) {
+            logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+            throw new InvalidPrintHouseException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+        }
+        if (reader == null) {
+            logger.error("Reader cannot be null");
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+
+        Importer importer = new Importer(printHouse);
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try {
+            BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+            long lineNumber = 0;
+            boolean first = true;
+            List<String> chunk = new ArrayList<>(CHUNK_LINES);
+            long chunkStart = 1;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (first) {
+                    first = false;
+                    if (line.trim().equalsIgnoreCase(HEADER)) {
+                        chunkStart = lineNumber + 1;
+                        continue;
+                    }
+                }
+                chunk.add(line);
+                if (chunk.size() == CHUNK_LINES) {
+                    submit(executor, inFlight, chunk, chunkStart);
+                    chunk = new ArrayList<>(CHUNK_LINES);
+                    chunkStart = lineNumber + 1;
+                    // Keep a bounded number of chunks in memory so arbitrarily large files stream
+                    while (inFlight.size() > threads * 2) {
+                        importer.consume(inFlight.removeFirst().get());
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(executor, inFlight, chunk, chunkStart);
+            }
+            while (!inFlight.isEmpty()) {
+                importer.consume(inFlight.removeFirst().get());
+            }
+            importer.commit();
+        } catch (IOException e) {
+            logger.error("Import failed after {} rows: {}", importer.rowsRead, e.getMessage(), e);
+            throw new RuntimeException("Import failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            logger.error("Import failed: {}", cause.getMessage(), cause);
+            throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException("Import failed: " + cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        EditionImportResult result = importer.result();
+        logger.info("Imported editions into PrintHouse {}: {}", LogSummary.of(printHouse), result);
+        return result;
+    }
+
+    private static void submit(ExecutorService executor, Deque<Future<ParsedChunk>> inFlight, List<String> chunk, long firstLine) {
+        inFlight.addLast(executor.submit(() -> parse(chunk, firstLine)));
+    }
+
+    private static ParsedChunk parse(List<String> lines, long firstLine) {
+        ParsedChunk parsed = new ParsedChunk(lines.size(), firstLine);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                parseRow(line, parsed, i);
+            } catch (IllegalArgumentException e) {
+                parsed.errors[i] = e.getMessage();
+            }
+        }
+        return parsed;
+    }
+
+    private static void parseRow(String line, ParsedChunk parsed, int row) {
+        int position = 0;
+        String title;
+        StringBuilder quoted = null;
+        if (line.startsWith("\"")) {
+            quoted = new StringBuilder();
+            position = 1;
+            while (true) {
+                if (position >= line.length()) {
+                    throw new IllegalArgumentException(ServicesConstants.IMPORT_LINE_MALFORMED);
+                }
+                char c = line.charAt(position++);
+                if (c == '"') {
+                    if (position < line.length() && line.charAt(position) == '"') {
+                        quoted.append('"');
+                        position++;
+                    } else {
+                        break;
+                    }
+                } else {
+                    quoted.append(c);
+                }
+            }
+            if (position >= line.length() || line.charAt(position) != ',') {
+                throw new IllegalArgumentException(ServicesConstants.IMPORT_LINE_MALFORMED);
+            }
+            title = quoted.toString();
+        } else {
+            position = line.indexOf(',');
+            if (position < 0) {
+                throw new IllegalArgumentException(ServicesConstants.IMPORT_LINE_MALFORMED);
+            }
+            title = line.substring(0, position);
+        }
+        int sizeSeparator = line.indexOf(',', position + 1);
+        if (sizeSeparator < 0 || line.indexOf(',', sizeSeparator + 1) >= 0) {
+            throw new IllegalArgumentException(ServicesConstants.IMPORT_LINE_MALFORMED);
+        }
+
+        title = title.trim();
+        if (title.isEmpty()) {
+            throw new IllegalArgumentException(ExceptionMessages.TITLE_CANNOT_BE_EMPTY);
+        }
+        if (title.length() < ModelsConstants.MIN_TITLE_LENGTH || title.length() > ModelsConstants.MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.TITLE_LENGTH_INVALID,
+                    ModelsConstants.MIN_TITLE_LENGTH, ModelsConstants.MAX_TITLE_LENGTH));
+        }
+        int pages;
+        try {
+            pages = Integer.parseInt(line.substring(position + 1, sizeSeparator).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ServicesConstants.IMPORT_PAGES_NOT_A_NUMBER);
+        }
+        if (pages < ModelsConstants.MIN_PAGE_COUNT || pages > ModelsConstants.MAX_PAGE_COUNT) {
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.NUMBER_OF_PAGES_INVALID,
+                    ModelsConstants.MIN_PAGE_COUNT, Integer.toString(ModelsConstants.MAX_PAGE_COUNT)));
+        }
+        String sizeName = line.substring(sizeSeparator + 1).trim().toUpperCase(Locale.ROOT);
+        Size size;
+        try {
+            size = Size.valueOf(sizeName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MessageFormat.format(ServicesConstants.IMPORT_SIZE_UNKNOWN, sizeName));
+        }
+        parsed.titles[row] = title;
+        parsed.pages[row] = pages;
+        parsed.sizes[row] = size;
+    }
+
+    /**
+     * Sequential consumer of parsed chunks; owns the deduplication set and the pending batch.
+     */
+    private final class Importer {
+        private final PrintHouse printHouse;
+        private final Set<Long> known = new HashSet<>();
+        private final List<Edition> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<String> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+
+        private Importer(PrintHouse printHouse) {
+            this.printHouse = printHouse;
+            for (Edition edition : editionService.getEditions(printHouse)) {
+                known.add(EditionIndex.key(edition));
+            }
+        }
+
+        private void consume(ParsedChunk chunk) {
+            for (int i = 0; i < chunk.titles.length; i++) {
+                if (chunk.errors[i] != null) {
+                    rowsRead++;
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(MessageFormat.format(ServicesConstants.IMPORT_LINE_REJECTED,
+                                Long.toString(chunk.firstLine + i), chunk.errors[i]));
+                    }
+                    continue;
+                }
+                if (chunk.titles[i] == null) {
+                    continue;
+                }
+                rowsRead++;
+                Edition edition = new Edition(chunk.titles[i], chunk.pages[i], chunk.sizes[i]);
+                if (!known.add(EditionIndex.key(edition))) {
+                    duplicates++;
+                    continue;
+                }
+                batch.add(edition);
+                if (batch.size() == BATCH_SIZE) {
+                    commit();
+                }
+            }
+        }
+
+        private void commit() {
+            if (!batch.isEmpty()) {
+                imported += editionService.addEditions(printHouse, batch);
+                batch.clear();
+            }
+        }
+
+        private EditionImportResult result() {
+            return new EditionImportResult(rowsRead, imported, duplicates, rejected, errors);
+        }
+    }
+
+    private static final class ParsedChunk {
+        private final long firstLine;
+        private final String[] titles;
+        private final int[] pages;
+        private final Size[] sizes;
+        private final String[] errors;
+
+        private ParsedChunk(int lines, long firstLine) {
+            this.firstLine = firstLine;
+            this.titles = new String[lines];
+            this.pages = new int[lines];
+            this.sizes = new Size[lines];
+            this.errors = new String[lines];
+        }
+    }
+}
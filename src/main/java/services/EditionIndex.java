@@ -0,0 +1,409 @@
+package services;
+
+import data.models.Edition;
+import data.models.Size;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * The editions of one print house in insertion order, together with lookup structures by title prefix,
+ * {@link Size} and page count. Editions are tracked by identity, and their attributes may only be changed through
+ * {@link #update(Edition, Consumer)}, which moves them to their new lookup buckets.
+ * <p>
+ * Writers synchronize on the index, so each print house has its own lock. Readers never lock: the ordered editions
+ * are published as immutable {@link Contents}, whose arrays are only appended to beyond the published bounds, and
+ * the lookup maps are concurrent with copy-on-write buckets. A read view therefore never changes once handed out and
+ * can be iterated while the index is being modified. The editions are kept in chunks of at most
+ * {@value #CHUNK_SIZE}, so removing or replacing one copies a single chunk and the per-chunk arrays rather than all
+ * editions. Updates change editions in
+ * place, so lookups check each candidate against its current attributes and skip editions that no longer match; a
+ * lookup that runs during an update may still miss or repeat the edition being updated.
+ */
+class EditionIndex {
+    private static final int CHUNK_SIZE = 512;
+
+    private volatile Contents contents = Contents.EMPTY;
+    // Editions are ordered by insertion sequence, which finds an edition's chunk by binary search
+    private final Map<Edition, Long> sequences = new ConcurrentHashMap<>();
+    private long nextSequence;
+    private final ConcurrentNavigableMap<String, Edition[]> byTitle = new ConcurrentSkipListMap<>();
+    private final Map<Size, ConcurrentNavigableMap<String, Edition[]>> bySize = new EnumMap<>(Size.class);
+    private final ConcurrentNavigableMap<Integer, Edition[]> byPages = new ConcurrentSkipListMap<>();
+
+    EditionIndex() {
+        for (Size size : Size.values()) {
+            bySize.put(size, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    boolean contains(Edition edition) {
+        return sequences.containsKey(edition);
+    }
+
+    synchronized boolean add(Edition edition) {
+        if (sequences.putIfAbsent(edition, nextSequence) != null) {
+            return false;
+        }
+        contents = contents.append(edition, nextSequence++);
+        reindex(edition);
+        return true;
+    }
+
+    /**
+     * Appends the editions that are not yet in the index, publishing them to readers in one step.
+     *
+     * @return the editions that were added
+     */
+    synchronized List<Edition> addAll(List<Edition> batch) {
+        Contents next = contents;
+        List<Edition> added = new ArrayList<>(batch.size());
+        for (Edition edition : batch) {
+            if (sequences.putIfAbsent(edition, nextSequence) == null) {
+                next = next.append(edition, nextSequence++);
+                reindex(edition);
+                added.add(edition);
+            }
+        }
+        contents = next;
+        return added;
+    }
+
+    /**
+     * Replaces the editions with the distinct editions of {@code batch}, publishing them to readers in one step.
+     *
+     * @return the editions that were added
+     */
+    synchronized List<Edition> replaceAll(List<Edition> batch) {
+        sequences.clear();
+        byTitle.clear();
+        byPages.clear();
+        for (Map<String, Edition[]> sameSize : bySize.values()) {
+            sameSize.clear();
+        }
+        Contents next = Contents.EMPTY;
+        List<Edition> added = new ArrayList<>(batch.size());
+        for (Edition edition : batch) {
+            if (sequences.putIfAbsent(edition, nextSequence) == null) {
+                next = next.append(edition, nextSequence++);
+                reindex(edition);
+                added.add(edition);
+            }
+        }
+        contents = next;
+        return added;
+    }
+
+    synchronized boolean remove(Edition edition) {
+        Long sequence = sequences.remove(edition);
+        if (sequence == null) {
+            return false;
+        }
+        contents = contents.remove(edition, sequence);
+        unindex(edition);
+        return true;
+    }
+
+    /**
+     * Puts {@code replacement} in the position of {@code edition}.
+     *
+     * @return false if the edition is not in the index or the replacement already is
+     */
+    synchronized boolean replace(Edition edition, Edition replacement) {
+        if (sequences.containsKey(replacement)) {
+            return false;
+        }
+        Long sequence = sequences.remove(edition);
+        if (sequence == null) {
+            return false;
+        }
+        // The replacement takes over the sequence, and with it the position, of the edition
+        sequences.put(replacement, sequence);
+        contents = contents.replace(edition, sequence, replacement);
+        unindex(edition);
+        reindex(replacement);
+        return true;
+    }
+
+    int size() {
+        return contents.size;
+    }
+
+    /**
+     * Returns the edition at the given position, or null if there is none.
+     */
+    Edition get(int index) {
+        Contents current = contents;
+        return index < 0 || index >= current.size ? null : current.get(index);
+    }
+
+    /**
+     * Returns an unmodifiable view of the editions as they are now. Later changes to the index are not reflected
+     * in the view, so it can be iterated freely while the index is being modified.
+     */
+    List<Edition> editions() {
+        Contents current = contents;
+        return current.size == 0 ? Collections.emptyList() : new SnapshotView(current);
+    }
+
+    /**
+     * Applies {@code change} to an edition of the index and moves the edition to the lookup buckets of its new
+     * attributes.
+     */
+    synchronized void update(Edition edition, Consumer<Edition> change) {
+        unindex(edition);
+        try {
+            change.accept(edition);
+        } finally {
+            reindex(edition);
+        }
+    }
+
+    List<Edition> findByTitlePrefix(String prefix) {
+        // Stored titles are trimmed, but the prefix is not: "the " must not match "Theory"
+        String key = prefix.toLowerCase(Locale.ROOT);
+        List<Edition> result = new ArrayList<>();
+        for (Edition[] sameTitle : byTitle.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            for (Edition edition : sameTitle) {
+                if (titleKey(edition.getTitle()).startsWith(key)) {
+                    result.add(edition);
+                }
+            }
+        }
+        return result;
+    }
+
+    List<Edition> findBySize(Size size) {
+        List<Edition> result = new ArrayList<>();
+        for (Edition[] sameTitle : bySize.get(size).values()) {
+            for (Edition edition : sameTitle) {
+                if (edition.getSize() == size) {
+                    result.add(edition);
+                }
+            }
+        }
+        return result;
+    }
+
+    List<Edition> findByPageRange(int minPages, int maxPages) {
+        List<Edition> result = new ArrayList<>();
+        for (Edition[] samePages : byPages.subMap(minPages, true, maxPages, true).values()) {
+            for (Edition edition : samePages) {
+                int pages = edition.getNumberOfPages();
+                if (pages >= minPages && pages <= maxPages) {
+                    result.add(edition);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Packs an edition's title code, page count and size into a key that is equal for editions with equal attributes.
+     */
+    static long key(Edition edition) {
+        return ((long) edition.getTitleCode() << 32) | ((long) edition.getNumberOfPages() << 8) | edition.getSize().ordinal();
+    }
+
+    static String titleKey(String title) {
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void unindex(Edition edition) {
+        removeFrom(byTitle, titleKey(edition.getTitle()), edition);
+        removeFrom(byPages, edition.getNumberOfPages(), edition);
+        removeFrom(bySize.get(edition.getSize()), titleKey(edition.getTitle()), edition);
+    }
+
+    private void reindex(Edition edition) {
+        addTo(byTitle, titleKey(edition.getTitle()), edition);
+        addTo(byPages, edition.getNumberOfPages(), edition);
+        addTo(bySize.get(edition.getSize()), titleKey(edition.getTitle()), edition);
+    }
+
+    private static <K> void addTo(Map<K, Edition[]> index, K key, Edition edition) {
+        Edition[] bucket = index.get(key);
+        if (bucket == null) {
+            index.put(key, new Edition[]{edition});
+            return;
+        }
+        Edition[] grown = Arrays.copyOf(bucket, bucket.length + 1);
+        grown[bucket.length] = edition;
+        index.put(key, grown);
+    }
+
+    private static <K> void removeFrom(Map<K, Edition[]> index, K key, Edition edition) {
+        Edition[] bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        for (int i = 0; i < bucket.length; i++) {
+            if (bucket[i] == edition) {
+                if (bucket.length == 1) {
+                    index.remove(key);
+                } else {
+                    Edition[] shrunk = new Edition[bucket.length - 1];
+                    System.arraycopy(bucket, 0, shrunk, 0, i);
+                    System.arraycopy(bucket, i + 1, shrunk, i, bucket.length - i - 1);
+                    index.put(key, shrunk);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * The editions in order, split into chunks. Chunk {@code k} holds the editions from {@code starts[k]} up to the
+     * start of the next chunk, or up to {@code size} for the last chunk, and every sequence in it is at least
+     * {@code firstSequences[k]} and below that of the next chunk. Chunks are never empty. All arrays may have spare
+     * room, which only {@link #append} writes to, so the published part never changes.
+     */
+    private static final class Contents {
+        private static final Contents EMPTY = new Contents(new Edition[0][], new int[0], new long[0], 0, 0);
+
+        private final Edition[][] chunks;
+        private final int[] starts;
+        private final long[] firstSequences;
+        private final int count;
+        private final int size;
+
+        private Contents(Edition[][] chunks, int[] starts, long[] firstSequences, int count, int size) {
+            this.chunks = chunks;
+            this.starts = starts;
+            this.firstSequences = firstSequences;
+            this.count = count;
+            this.size = size;
+        }
+
+        private Edition get(int index) {
+            // Chunks hold at most CHUNK_SIZE editions, so the edition is in this chunk or a later one; until
+            // editions are removed, it is in exactly this chunk
+            int low = Math.min(index / CHUNK_SIZE, count - 1);
+            if (low == count - 1 || starts[low + 1] > index) {
+                return chunks[low][index - starts[low]];
+            }
+            int high = count - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (starts[middle] <= index) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return chunks[low][index - starts[low]];
+        }
+
+        private Contents append(Edition edition, long sequence) {
+            Edition[][] chunks = this.chunks;
+            int[] starts = this.starts;
+            long[] firstSequences = this.firstSequences;
+            int count = this.count;
+            int length = count == 0 ? CHUNK_SIZE : size - starts[count - 1];
+            if (length == CHUNK_SIZE) {
+                if (count == chunks.length) {
+                    int capacity = Math.max(4, count + (count >> 1));
+                    chunks = Arrays.copyOf(chunks, capacity);
+                    starts = Arrays.copyOf(starts, capacity);
+                    firstSequences = Arrays.copyOf(firstSequences, capacity);
+                }
+                chunks[count] = new Edition[CHUNK_SIZE];
+                starts[count] = size;
+                firstSequences[count] = sequence;
+                count++;
+                length = 0;
+            }
+            chunks[count - 1][length] = edition;
+            return new Contents(chunks, starts, firstSequences, count, size + 1);
+        }
+
+        private Contents remove(Edition edition, long sequence) {
+            int chunk = chunkOf(sequence);
+            int length = lengthOf(chunk);
+            Edition[][] chunks = Arrays.copyOf(this.chunks, this.chunks.length);
+            int[] starts = Arrays.copyOf(this.starts, this.starts.length);
+            long[] firstSequences = this.firstSequences;
+            int count = this.count;
+            int next;
+            if (length == 1) {
+                firstSequences = Arrays.copyOf(firstSequences, firstSequences.length);
+                System.arraycopy(chunks, chunk + 1, chunks, chunk, count - chunk - 1);
+                System.arraycopy(starts, chunk + 1, starts, chunk, count - chunk - 1);
+                System.arraycopy(firstSequences, chunk + 1, firstSequences, chunk, count - chunk - 1);
+                count--;
+                chunks[count] = null;
+                next = chunk;
+            } else {
+                Edition[] source = this.chunks[chunk];
+                int position = positionIn(chunk, edition);
+                Edition[] target = new Edition[CHUNK_SIZE];
+                System.arraycopy(source, 0, target, 0, position);
+                System.arraycopy(source, position + 1, target, position, length - position - 1);
+                chunks[chunk] = target;
+                next = chunk + 1;
+            }
+            for (int i = next; i < count; i++) {
+                starts[i]--;
+            }
+            return new Contents(chunks, starts, firstSequences, count, size - 1);
+        }
+
+        private Contents replace(Edition edition, long sequence, Edition replacement) {
+            int chunk = chunkOf(sequence);
+            Edition[] target = Arrays.copyOf(chunks[chunk], CHUNK_SIZE);
+            target[positionIn(chunk, edition)] = replacement;
+            Edition[][] chunks = Arrays.copyOf(this.chunks, this.chunks.length);
+            chunks[chunk] = target;
+            return new Contents(chunks, starts, firstSequences, count, size);
+        }
+
+        private int chunkOf(long sequence) {
+            int low = 0;
+            int high = count - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (firstSequences[middle] <= sequence) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+
+        private int lengthOf(int chunk) {
+            return (chunk == count - 1 ? size : starts[chunk + 1]) - starts[chunk];
+        }
+
+        private int positionIn(int chunk, Edition edition) {
+            Edition[] elements = chunks[chunk];
+            int position = 0;
+            while (elements[position] != edition) {
+                position++;
+            }
+            return position;
+        }
+    }
+
+    private static final class SnapshotView extends AbstractList<Edition> implements RandomAccess {
+        private final Contents contents;
+
+        private SnapshotView(Contents contents) {
+            this.contents = contents;
+        }
+
+        @Override
+        public Edition get(int index) {
+            Objects.checkIndex(index, contents.size);
+            return contents.get(index);
+        }
+
+        @Override
+        public int size() {
+            return contents.size;
+        }
+    }
+}
@@ -3,31 +3,45 @@ package services;
 import data.models.Edition;
 import data.models.PrintHouse;
 import data.models.Size;
+import services.contracts.IEditionCatalogService;
 import services.contracts.IEditionService;
 import services.contracts.ISerializationService;
 import utilities.exceptions.*;
 import utilities.globalconstants.ExceptionMessages;
 import utilities.globalconstants.ModelsConstants;
+import utilities.logging.LogSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages {@link Edition} entities associated with {@link PrintHouse} instances, including persistence.
+ * When constructed with an {@link IEditionCatalogService}, editions are resolved to shared canonical instances and
+ * are never mutated in place.
+ * <p>
+ * The service is thread-safe. Writes lock only the print house they change, so editors of different houses never
+ * contend, and reads do not lock at all.
  */
 public class EditionService implements IEditionService {
     private static final Logger logger = LoggerFactory.getLogger(EditionService.class);
-    private final Map<PrintHouse, List<Edition>> editionsByPrintHouse = new HashMap<>();
+    private final Map<PrintHouse, EditionIndex> editionsByPrintHouse = new ConcurrentHashMap<>();
     private final ISerializationService<Edition> serializationService;
+    private final IEditionCatalogService catalog;
 
     public EditionService(ISerializationService<Edition> serializationService) {
+        this(serializationService, null);
+    }
+
+    public EditionService(ISerializationService<Edition> serializationService, IEditionCatalogService catalog) {
         if (serializationService == null) {
             logger.error("Serialization service cannot be null");
             throw new IllegalArgumentException("Serialization service cannot be null");
         }
         this.serializationService = serializationService;
-        logger.info("EditionService initialized with serialization support");
+        this.catalog = catalog;
+        logger.info("EditionService initialized with serialization support{}", catalog == null ? "" : " and a shared edition catalog");
     }
 
     /** {@inheritDoc} */
@@ -35,34 +49,58 @@ public class EditionService implements IEditionService {
     public void addEdition(PrintHouse printHouse, Edition edition) {
         validatePrintHouse(printHouse);
         validateEdition(edition);
-        List<Edition> editions = editionsByPrintHouse.computeIfAbsent(printHouse, k -> new ArrayList<>());
-        if (editions.contains(edition)) {
-            logger.warn("Edition already exists for PrintHouse {}: {}", printHouse, edition);
+        EditionIndex editions = editionsByPrintHouse.computeIfAbsent(printHouse, k -> new EditionIndex());
+        edition = canonical(edition);
+        if (!editions.add(edition)) {
+            release(edition);
+            logger.warn("Edition already exists for PrintHouse {}: {}", LogSummary.of(printHouse), edition);
             throw new InvalidEditionException(ExceptionMessages.EDITION_NOT_IN_PRINT_HOUSE);
         }
-        editions.add(edition);
-        logger.info("Edition added to PrintHouse {}: {}", printHouse, edition);
+        logger.info("Edition added to PrintHouse {}: {}", LogSummary.of(printHouse), edition);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int addEditions(PrintHouse printHouse, List<Edition> editions) {
+        validatePrintHouse(printHouse);
+        if (editions == null) {
+            logger.error("Editions list cannot be null");
+            throw new IllegalArgumentException("Editions list cannot be null");
+        }
+        List<Edition> batch = new ArrayList<>(editions.size());
+        for (Edition edition : editions) {
+            validateEdition(edition);
+        }
+        for (Edition edition : editions) {
+            batch.add(canonical(edition));
+        }
+        EditionIndex index = editionsByPrintHouse.computeIfAbsent(printHouse, k -> new EditionIndex());
+        List<Edition> added = index.addAll(batch);
+        releaseSkipped(batch, added);
+        logger.info("Added {} of {} editions to PrintHouse {}", added.size(), editions.size(), LogSummary.of(printHouse));
+        return added.size();
     }
 
     /** {@inheritDoc} */
     @Override
     public List<Edition> getEditions(PrintHouse printHouse) {
         validatePrintHouse(printHouse);
-        List<Edition> editions = editionsByPrintHouse.getOrDefault(printHouse, Collections.emptyList());
-        logger.debug("Retrieved {} editions for PrintHouse {}", editions.size(), printHouse);
-        return new ArrayList<>(editions);
+        List<Edition> editions = editionsOf(printHouse);
+        logger.debug("Retrieved {} editions for PrintHouse {}", editions.size(), LogSummary.of(printHouse));
+        return editions;
     }
 
     /** {@inheritDoc} */
     @Override
     public Edition getEdition(PrintHouse printHouse, int index) {
         validatePrintHouse(printHouse);
-        List<Edition> editions = getEditions(printHouse);
-        if (index < 0 || index >= editions.size()) {
-            logger.error("Invalid edition index {} for PrintHouse {}", index, printHouse);
+        EditionIndex editions = editionsByPrintHouse.get(printHouse);
+        Edition edition = editions == null ? null : editions.get(index);
+        if (edition == null) {
+            logger.error("Invalid edition index {} for PrintHouse {}", index, LogSummary.of(printHouse));
             throw new InvalidEditionException(ExceptionMessages.EDITION_NOT_IN_PRINT_HOUSE);
         }
-        return editions.get(index);
+        return edition;
     }
 
     /** {@inheritDoc} */
@@ -70,24 +108,54 @@ public class EditionService implements IEditionService {
     public void updateEdition(PrintHouse printHouse, Edition edition, String title, Integer numberOfPages, Size size) {
         validatePrintHouse(printHouse);
         validateEdition(edition);
-        List<Edition> editions = editionsByPrintHouse.get(printHouse);
-        if (editions == null || !editions.contains(edition)) {
-            logger.error("Edition not found in PrintHouse {}: {}", printHouse, edition);
+        boolean hasTitle = title != null && !title.trim().isEmpty();
+        validateUpdate(hasTitle ? title : null, numberOfPages);
+        EditionIndex editions = editionsByPrintHouse.get(printHouse);
+        if (editions == null) {
+            logger.error("Edition not found in PrintHouse {}: {}", LogSummary.of(printHouse), edition);
             throw new InvalidEditionException(ExceptionMessages.EDITION_NOT_IN_PRINT_HOUSE);
         }
-        if (title != null && !title.trim().isEmpty()) {
-            if (title.length() < ModelsConstants.MIN_TITLE_LENGTH || title.length() > ModelsConstants.MAX_TITLE_LENGTH) {
-                logger.error("Invalid title length: {}", title);
-                throw new InvalidTitleException(ExceptionMessages.TITLE_LENGTH_INVALID);
+        synchronized (editions) {
+            if (!editions.contains(edition)) {
+                logger.error("Edition not found in PrintHouse {}: {}", LogSummary.of(printHouse), edition);
+                throw new InvalidEditionException(ExceptionMessages.EDITION_NOT_IN_PRINT_HOUSE);
             }
+            if (catalog == null) {
+                editions.update(edition, changed -> applyUpdate(changed, hasTitle ? title : null, numberOfPages, size));
+                logger.info("Edition updated in PrintHouse {}: {}", LogSummary.of(printHouse), edition);
+                return;
+            }
+            // Catalog editions are shared between houses, so the update swaps in another canonical instance
+            Edition replacement = catalog.acquire(hasTitle ? title : edition.getTitle(),
+                    numberOfPages != null ? numberOfPages : edition.getNumberOfPages(),
+                    size != null ? size : edition.getSize());
+            if (replacement != edition && !editions.replace(edition, replacement)) {
+                catalog.release(replacement);
+                logger.warn("Edition already exists for PrintHouse {}: {}", LogSummary.of(printHouse), replacement);
+                throw new InvalidEditionException(ExceptionMessages.EDITION_NOT_IN_PRINT_HOUSE);
+            }
+            catalog.release(edition);
+            logger.info("Edition updated in PrintHouse {}: {}", LogSummary.of(printHouse), replacement);
+        }
+    }
+
+    private void validateUpdate(String title, Integer numberOfPages) {
+        if (title != null && (title.length() < ModelsConstants.MIN_TITLE_LENGTH || title.length() > ModelsConstants.MAX_TITLE_LENGTH)) {
+            logger.error("Invalid title length: {}", title);
+            throw new InvalidTitleException(ExceptionMessages.TITLE_LENGTH_INVALID);
+        }
+        if (numberOfPages != null && (numberOfPages < ModelsConstants.MIN_PAGE_COUNT || numberOfPages > ModelsConstants.MAX_PAGE_COUNT)) {
+            logger.error("Invalid page count: {}", numberOfPages);
+            throw new InvalidNumberOfPagesException(ExceptionMessages.NUMBER_OF_PAGES_INVALID);
+        }
+    }
+
+    private void applyUpdate(Edition edition, String title, Integer numberOfPages, Size size) {
+        if (title != null) {
             edition.setTitle(title);
             logger.debug("Updated title to: {}", title);
         }
         if (numberOfPages != null) {
-            if (numberOfPages < ModelsConstants.MIN_PAGE_COUNT || numberOfPages > ModelsConstants.MAX_PAGE_COUNT) {
-                logger.error("Invalid page count: {}", numberOfPages);
-                throw new InvalidNumberOfPagesException(ExceptionMessages.NUMBER_OF_PAGES_INVALID);
-            }
             edition.setNumberOfPages(numberOfPages);
             logger.debug("Updated page count to: {}", numberOfPages);
         }
@@ -95,7 +163,6 @@ public class EditionService implements IEditionService {
             edition.setSize(size);
             logger.debug("Updated size to: {}", size);
         }
-        logger.info("Edition updated in PrintHouse {}: {}", printHouse, edition);
     }
 
     /** {@inheritDoc} */
@@ -103,11 +170,12 @@ public class EditionService implements IEditionService {
     public void removeEdition(PrintHouse printHouse, Edition edition) {
         validatePrintHouse(printHouse);
         validateEdition(edition);
-        List<Edition> editions = editionsByPrintHouse.get(printHouse);
+        EditionIndex editions = editionsByPrintHouse.get(printHouse);
         if (editions == null || !editions.remove(edition)) {
-            logger.warn("Edition not found for removal in PrintHouse {}: {}", printHouse, edition);
+            logger.warn("Edition not found for removal in PrintHouse {}: {}", LogSummary.of(printHouse), edition);
         } else {
-            logger.info("Edition removed from PrintHouse {}: {}", printHouse, edition);
+            release(edition);
+            logger.info("Edition removed from PrintHouse {}: {}", LogSummary.of(printHouse), edition);
         }
     }
 
@@ -119,10 +187,10 @@ public class EditionService implements IEditionService {
             logger.error("File path cannot be null or empty");
             throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
         }
-        List<Edition> editions = editionsByPrintHouse.getOrDefault(printHouse, Collections.emptyList());
+        List<Edition> editions = new ArrayList<>(editionsOf(printHouse));
         String fullPath = filePath + "_ph" + printHouse.hashCode() + ".ser"; // Unique per PrintHouse
         serializationService.serialize(editions, fullPath);
-        logger.info("Saved {} editions for PrintHouse {} to {}", editions.size(), printHouse, fullPath);
+        logger.info("Saved {} editions for PrintHouse {} to {}", editions.size(), LogSummary.of(printHouse), fullPath);
     }
 
     /** {@inheritDoc} */
@@ -135,8 +203,96 @@ public class EditionService implements IEditionService {
         }
         String fullPath = filePath + "_ph" + printHouse.hashCode() + ".ser";
         List<Edition> loadedEditions = serializationService.deserialize(fullPath);
-        editionsByPrintHouse.put(printHouse, new ArrayList<>(loadedEditions));
-        logger.info("Loaded {} editions for PrintHouse {} from {}", loadedEditions.size(), printHouse, fullPath);
+        List<Edition> batch = new ArrayList<>(loadedEditions.size());
+        for (Edition edition : loadedEditions) {
+            batch.add(canonical(edition));
+        }
+        // Load into the existing index under its lock, so concurrent writers are never left holding a detached index
+        EditionIndex index = editionsByPrintHouse.computeIfAbsent(printHouse, k -> new EditionIndex());
+        List<Edition> previous;
+        List<Edition> added;
+        synchronized (index) {
+            previous = index.editions();
+            added = index.replaceAll(batch);
+        }
+        for (Edition edition : previous) {
+            release(edition);
+        }
+        releaseSkipped(batch, added);
+        logger.info("Loaded {} editions for PrintHouse {} from {}", loadedEditions.size(), LogSummary.of(printHouse), fullPath);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Edition> findByTitlePrefix(PrintHouse printHouse, String prefix) {
+        validatePrintHouse(printHouse);
+        if (prefix == null) {
+            logger.error(ExceptionMessages.TITLE_PREFIX_CANNOT_BE_NULL);
+            throw new IllegalArgumentException(ExceptionMessages.TITLE_PREFIX_CANNOT_BE_NULL);
+        }
+        EditionIndex editions = editionsByPrintHouse.get(printHouse);
+        List<Edition> found = editions == null ? new ArrayList<>() : editions.findByTitlePrefix(prefix);
+        logger.debug("Found {} editions with title prefix '{}' in PrintHouse {}", found.size(), prefix, LogSummary.of(printHouse));
+        return found;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Edition> findBySize(PrintHouse printHouse, Size size) {
+        validatePrintHouse(printHouse);
+        if (size == null) {
+            logger.error(ExceptionMessages.INVALID_PAGE_SIZE);
+            throw new InvalidPageSizeException(ExceptionMessages.INVALID_PAGE_SIZE);
+        }
+        EditionIndex editions = editionsByPrintHouse.get(printHouse);
+        List<Edition> found = editions == null ? new ArrayList<>() : editions.findBySize(size);
+        logger.debug("Found {} editions of size {} in PrintHouse {}", found.size(), size, LogSummary.of(printHouse));
+        return found;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Edition> findByPageRange(PrintHouse printHouse, int minPages, int maxPages) {
+        validatePrintHouse(printHouse);
+        if (minPages > maxPages) {
+            logger.error("Invalid page range: {} - {}", minPages, maxPages);
+            throw new InvalidNumberOfPagesException(ExceptionMessages.PAGE_RANGE_INVALID);
+        }
+        EditionIndex editions = editionsByPrintHouse.get(printHouse);
+        List<Edition> found = editions == null ? new ArrayList<>() : editions.findByPageRange(minPages, maxPages);
+        logger.debug("Found {} editions with {} - {} pages in PrintHouse {}", found.size(), minPages, maxPages, LogSummary.of(printHouse));
+        return found;
+    }
+
+    private Edition canonical(Edition edition) {
+        return catalog == null ? edition : catalog.acquire(edition);
+    }
+
+    private void release(Edition edition) {
+        if (catalog != null) {
+            catalog.release(edition);
+        }
+    }
+
+    /**
+     * Releases the catalog references taken for the editions of {@code batch} that were not added.
+     */
+    private void releaseSkipped(List<Edition> batch, List<Edition> added) {
+        if (catalog == null || added.size() == batch.size()) {
+            return;
+        }
+        Set<Edition> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(added);
+        for (Edition edition : batch) {
+            if (!kept.remove(edition)) {
+                catalog.release(edition);
+            }
+        }
+    }
+
+    private List<Edition> editionsOf(PrintHouse printHouse) {
+        EditionIndex editions = editionsByPrintHouse.get(printHouse);
+        return editions == null ? Collections.emptyList() : editions.editions();
     }
 
     private void validatePrintHouse(PrintHouse printHouse) {
@@ -6,31 +6,57 @@ import services.contracts.IPrintingPressService;
 import utilities.EgnValidator;
 import utilities.exceptions.*;
 import utilities.globalconstants.ExceptionMessages;
+import utilities.jfr.PayrollEvent;
+import utilities.logging.LogSummary;
+import utilities.metrics.BusinessMetric;
+import utilities.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
- * Manages {@link Employee} entities within a {@link PrintHouse}.
+ * Manages {@link Employee} entities within a {@link PrintHouse}. When constructed with a {@link MetricsRegistry},
+ * added employees are counted per house.
+ * <p>
+ * Duplicate EGNs are detected through a per-house hash set of the EGNs in the house's employee list, so adding an
+ * employee takes constant time however many the house already has. The set is rebuilt whenever the list was replaced,
+ * changed size, or got a different last employee outside this service. Any other change, such as replacing an
+ * employee in the middle of the list with one of another EGN, is not detected, so employees must only be changed
+ * through this service.
  */
 public class EmployeeService implements IEmployeeService {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
     private final IPrintingPressService printingPressService;
+    private final MetricsRegistry metrics;
+    // Weak keys: print houses that were removed or replaced by a load drop their EGN sets with them
+    private final Map<PrintHouse, EgnIndex> egnsByPrintHouse = Collections.synchronizedMap(new WeakHashMap<>());
 
     public EmployeeService(IPrintingPressService printingPressService) {
+        this(printingPressService, null);
+    }
+
+    public EmployeeService(IPrintingPressService printingPressService, MetricsRegistry metrics) {
         this.printingPressService = printingPressService;
+        this.metrics = metrics;
     }
 
     /** {@inheritDoc} */
     @Override
     public void addEmployee(PrintHouse printHouse, Employee employee) {
         validatePrintHouse(printHouse);
-        validateEmployee(employee, printHouse);
-        printHouse.getEmployees().add(employee);
-        logger.info("Added employee {} to print house: {}", employee, printHouse);
+        EgnIndex egns = egnsByPrintHouse.computeIfAbsent(printHouse, house -> new EgnIndex());
+        synchronized (egns) {
+            egns.syncWith(printHouse.getEmployees());
+            validateEmployee(employee, printHouse, egns);
+            printHouse.getEmployees().add(employee);
+            egns.added(employee);
+        }
+        if (metrics != null) {
+            metrics.increment(BusinessMetric.EMPLOYEES_ADDED, printHouse, null);
+        }
+        logger.info("Added employee {} to print house: {}", employee, LogSummary.of(printHouse));
     }
 
     /** {@inheritDoc} */
@@ -55,7 +81,7 @@ public class EmployeeService implements IEmployeeService {
         }
 
         existingEmployee.setEmployeeType(updatedEmployee.getEmployeeType());
-        logger.info("Updated employee at index {} in PrintHouse {}: {}", employeeIndex, printHouse, existingEmployee);
+        logger.info("Updated employee at index {} in PrintHouse {}: {}", employeeIndex, LogSummary.of(printHouse), existingEmployee);
     }
 
     /** {@inheritDoc} */
@@ -68,31 +94,60 @@ public class EmployeeService implements IEmployeeService {
             throw new InvalidEmployeeException("Invalid employee index");
         }
         Employee removedEmployee = employees.remove(employeeIndex);
-        logger.info("Removed employee {} at index {} from PrintHouse {}", removedEmployee, employeeIndex, printHouse);
+        EgnIndex egns = egnsByPrintHouse.get(printHouse);
+        if (egns != null) {
+            // Another employee may share the EGN if the list was filled directly, so rebuild rather than remove it
+            egns.invalidate();
+        }
+        logger.info("Removed employee {} at index {} from PrintHouse {}", removedEmployee, employeeIndex, LogSummary.of(printHouse));
     }
 
     /** {@inheritDoc} */
     @Override
     public BigDecimal getTotalCostForEmployees(PrintHouse printHouse) {
+        validatePrintHouse(printHouse);
+        return getTotalCostForEmployees(printHouse, printingPressService.getTotalRevenue(printHouse));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal getTotalCostForEmployees(PrintHouse printHouse, BigDecimal revenue) {
+        PayrollEvent event = new PayrollEvent();
+        event.begin();
         validatePrintHouse(printHouse);
         BigDecimal totalCost = BigDecimal.ZERO;
-        // Note: Dependency on PrintingPressService for revenue is kept for demo simplicity.
-        // In a fuller design, revenue could be passed as a parameter to avoid entanglement.
-        BigDecimal revenue = printingPressService.getTotalRevenue(printHouse);
+        if (printHouse.getEmployees().isEmpty()) {
+            logger.info("Calculated total cost: {}", totalCost);
+            commitPayroll(event, printHouse, false, totalCost);
+            return totalCost;
+        }
+        boolean incrementApplies = isRevenueTargetMet(printHouse, revenue);
         BigDecimal baseSalary = printHouse.getBaseSalary();
+        BigDecimal incrementedSalary = baseSalary.multiply(
+                BigDecimal.ONE.add(printHouse.getEmployeeSalaryIncrementPercentage().divide(BigDecimal.valueOf(100))));
         for (Employee employee : printHouse.getEmployees()) {
-            BigDecimal employeeCost = baseSalary;
-            if (revenue.compareTo(printHouse.getRevenueTarget()) >= 0 &&
-                    printHouse.getIncrementEligibleRoles().contains(employee.getEmployeeType())) {
-                employeeCost = employeeCost.multiply(
-                        BigDecimal.ONE.add(printHouse.getEmployeeSalaryIncrementPercentage().divide(BigDecimal.valueOf(100))));
+            if (incrementApplies && printHouse.getIncrementEligibleRoles().contains(employee.getEmployeeType())) {
+                totalCost = totalCost.add(incrementedSalary);
+            } else {
+                totalCost = totalCost.add(baseSalary);
             }
-            totalCost = totalCost.add(employeeCost);
         }
         logger.info("Calculated total cost: {}", totalCost);
+        commitPayroll(event, printHouse, incrementApplies, totalCost);
         return totalCost;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRevenueTargetMet(PrintHouse printHouse, BigDecimal revenue) {
+        validatePrintHouse(printHouse);
+        if (revenue == null) {
+            logger.error(ExceptionMessages.REVENUE_CANNOT_BE_NULL);
+            throw new InvalidRevenueException(ExceptionMessages.REVENUE_CANNOT_BE_NULL);
+        }
+        return revenue.compareTo(printHouse.getRevenueTarget()) >= 0;
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<Employee> getEmployees(PrintHouse printHouse) {
@@ -102,6 +157,16 @@ public class EmployeeService implements IEmployeeService {
         return new ArrayList<>(employees);
     }
 
+    private static void commitPayroll(PayrollEvent event, PrintHouse printHouse, boolean revenueTargetMet, BigDecimal totalCost) {
+        if (event.shouldCommit()) {
+            event.printHouse = LogSummary.id(printHouse);
+            event.employees = printHouse.getEmployees().size();
+            event.revenueTargetMet = revenueTargetMet;
+            event.totalCost = totalCost.doubleValue();
+            event.commit();
+        }
+    }
+
     private void validatePrintHouse(PrintHouse printHouse) {
         if (printHouse == null) {
             logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
@@ -109,7 +174,7 @@ public class EmployeeService implements IEmployeeService {
         }
     }
 
-    private void validateEmployee(Employee employee, PrintHouse printHouse) {
+    private void validateEmployee(Employee employee, PrintHouse printHouse, EgnIndex egns) {
         if (employee == null || employee.getEmployeeType() == null || employee.getEgn() == null) {
             logger.error("Employee, type, or EGN cannot be null");
             throw new InvalidEmployeeException("Employee, type, or EGN cannot be null");
@@ -122,9 +187,48 @@ public class EmployeeService implements IEmployeeService {
             throw new InvalidEmployeeException("Invalid EGN");
         }
 
-        if (printHouse.getEmployees().stream().anyMatch(e -> e.getEgn().equals(egn))) {
-            logger.warn("Employee with EGN {} already exists in PrintHouse {}", egn, printHouse);
+        if (egns.contains(egn)) {
+            logger.warn("Employee with EGN {} already exists in PrintHouse {}", egn, LogSummary.of(printHouse));
             throw new InvalidEmployeeException("Employee with this EGN already exists");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The EGNs of one house's employee list, together with the list instance, size and last employee they were read
+     * from. Checking these is constant time; a full check such as the list's hash code would make every addition
+     * linear in the number of employees.
+     */
+    private static final class EgnIndex {
+        private final Set<String> egns = new HashSet<>();
+        private List<Employee> source;
+        private int size = -1;
+        private Employee last;
+
+        private void syncWith(List<Employee> employees) {
+            if (employees == source && employees.size() == size && (size == 0 || employees.get(size - 1) == last)) {
+                return;
+            }
+            egns.clear();
+            for (Employee employee : employees) {
+                egns.add(employee.getEgn());
+            }
+            source = employees;
+            size = employees.size();
+            last = size == 0 ? null : employees.get(size - 1);
+        }
+
+        private boolean contains(String egn) {
+            return egns.contains(egn);
+        }
+
+        private void added(Employee employee) {
+            egns.add(employee.getEgn());
+            last = employee;
+            size++;
+        }
+
+        private synchronized void invalidate() {
+            size = -1;
+        }
+    }
+}
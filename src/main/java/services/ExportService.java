@@ -0,0 +1,181 @@
+package services;
+
+import data.models.PrintHouse;
+import data.models.PrintedItem;
+import data.models.PrintingPress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IExportService;
+import services.persistence.ExportFormat;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams the print history of {@link PrintHouse} instances as CSV or JSON Lines using constant memory.
+ */
+public class ExportService implements IExportService {
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+    private static final String CSV_HEADER = "house,press,title,pages,paper_type,size,colour,price,copies";
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    /** {@inheritDoc} */
+    @Override
+    public long exportPrintHistory(List<PrintHouse> printHouses, String filePath, ExportFormat format) {
+        return exportPrintHistory(printHouses, ALL_PRINT_HOUSES, filePath, format);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long exportPrintHistory(List<PrintHouse> printHouses, int houseIndex, String filePath, ExportFormat format) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            logger.error("Invalid file path: {}", filePath);
+            throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
+        }
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(Path.of(filePath)), StandardCharsets.UTF_8)) {
+            return exportPrintHistory(printHouses, houseIndex, writer, format);
+        } catch (IOException e) {
+            logger.error("Export failed for {}: {}", filePath, e.getMessage(), e);
+            throw new RuntimeException("Export failed: " + e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long exportPrintHistory(List<PrintHouse> printHouses, int houseIndex, Writer writer, ExportFormat format) {
+        if (printHouses == null) {
+            logger.error("Print houses list cannot be null");
+            throw new IllegalArgumentException("Print houses list cannot be null");
+        }
+        if (writer == null || format == null) {
+            logger.error("Writer and format cannot be null");
+            throw new IllegalArgumentException("Writer and format cannot be null");
+        }
+        if (houseIndex != ALL_PRINT_HOUSES && (houseIndex < 0 || houseIndex >= printHouses.size())) {
+            logger.error("Invalid print house index: {}", houseIndex);
+            throw new InvalidPrintHouseException("Invalid print house index: " + houseIndex);
+        }
+
+        BufferedWriter out = writer instanceof BufferedWriter buffered ? buffered : new BufferedWriter(writer, BUFFER_SIZE);
+        long rows = 0;
+        try {
+            if (format == ExportFormat.CSV) {
+                out.write(CSV_HEADER);
+                out.write('\n');
+            }
+            int first = houseIndex == ALL_PRINT_HOUSES ? 0 : houseIndex;
+            int last = houseIndex == ALL_PRINT_HOUSES ? printHouses.size() - 1 : houseIndex;
+            for (int h = first; h <= last; h++) {
+                List<PrintingPress> presses = printHouses.get(h).getPrintingPresses();
+                for (int p = 0; p < presses.size(); p++) {
+                    for (Map.Entry<PrintedItem, Integer> entry : presses.get(p).getPrintedItems().entrySet()) {
+                        if (format == ExportFormat.CSV) {
+                            writeCsvRow(out, h, p, entry.getKey(), entry.getValue());
+                        } else {
+                            writeJsonRow(out, h, p, entry.getKey(), entry.getValue());
+                        }
+                        rows++;
+                    }
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            logger.error("Export failed after {} rows: {}", rows, e.getMessage(), e);
+            throw new RuntimeException("Export failed: " + e.getMessage(), e);
+        }
+        logger.info("Exported {} print records as {}", rows, format);
+        return rows;
+    }
+
+    private static void writeCsvRow(Writer out, int house, int press, PrintedItem item, int copies) throws IOException {
+        out.write(Integer.toString(house));
+        out.write(',');
+        out.write(Integer.toString(press));
+        out.write(',');
+        writeCsvText(out, item.getEdition().getTitle());
+        out.write(',');
+        out.write(Integer.toString(item.getEdition().getNumberOfPages()));
+        out.write(',');
+        out.write(item.getPaperType().name());
+        out.write(',');
+        out.write(item.getEdition().getSize().name());
+        out.write(',');
+        out.write(item.isColour() ? "true" : "false");
+        out.write(',');
+        out.write(item.getPrice().toPlainString());
+        out.write(',');
+        out.write(Integer.toString(copies));
+        out.write('\n');
+    }
+
+    private static void writeJsonRow(Writer out, int house, int press, PrintedItem item, int copies) throws IOException {
+        out.write("{\"house\":");
+        out.write(Integer.toString(house));
+        out.write(",\"press\":");
+        out.write(Integer.toString(press));
+        out.write(",\"title\":");
+        writeJsonText(out, item.getEdition().getTitle());
+        out.write(",\"pages\":");
+        out.write(Integer.toString(item.getEdition().getNumberOfPages()));
+        out.write(",\"paperType\":\"");
+        out.write(item.getPaperType().name());
+        out.write("\",\"size\":\"");
+        out.write(item.getEdition().getSize().name());
+        out.write("\",\"colour\":");
+        out.write(item.isColour() ? "true" : "false");
+        out.write(",\"price\":");
+        out.write(item.getPrice().toPlainString());
+        out.write(",\"copies\":");
+        out.write(Integer.toString(copies));
+        out.write("}\n");
+    }
+
+    private static void writeCsvText(Writer out, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static void writeJsonText(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
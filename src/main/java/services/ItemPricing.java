@@ -0,0 +1,38 @@
+package services;
+
+import data.models.Edition;
+import data.models.PrintHouse;
+import data.models.PrintedItem;
+import services.persistence.PaperCostTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Per-house pricing inputs resolved once per traversal of the print history: the discount factor and the paper
+ * cost table. Mirrors {@code PrintingPressService.getTotalRevenue} and {@code getTotalCostForPrint} item by item.
+ */
+final class ItemPricing {
+    private final BigDecimal[][] costPerPage;
+    private final BigDecimal discountFactor;
+    private final int discountCount;
+
+    ItemPricing(PrintHouse printHouse) {
+        costPerPage = PaperCostTable.costPerPage(printHouse.getPaperIncrementPercentage());
+        discountFactor = BigDecimal.ONE.subtract(printHouse.getSalesDiscountPercentage()
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+        discountCount = printHouse.getSalesDiscountCount();
+    }
+
+    BigDecimal revenue(PrintedItem item, int copies) {
+        BigDecimal price = copies > discountCount ? item.getPrice().multiply(discountFactor) : item.getPrice();
+        return price.multiply(BigDecimal.valueOf(copies));
+    }
+
+    BigDecimal paperCost(PrintedItem item, int copies) {
+        Edition edition = item.getEdition();
+        return costPerPage[item.getPaperType().ordinal()][edition.getSize().ordinal()]
+                .multiply(BigDecimal.valueOf(edition.getNumberOfPages()))
+                .multiply(BigDecimal.valueOf(copies));
+    }
+}
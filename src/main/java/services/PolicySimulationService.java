@@ -0,0 +1,220 @@
+package services;
+
+import data.models.*;
+import data.reports.Distribution;
+import data.reports.PolicyRanges;
+import data.reports.PolicySimulationResult;
+import data.reports.PolicyVariant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IPolicySimulationService;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.globalconstants.ExceptionMessages;
+import utilities.logging.LogSummary;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo policy simulator. The print history is first reduced to a few aggregates that make each variant
+ * cheap to evaluate: printed items sorted by copies with suffix sums of their undiscounted revenue (so the
+ * discounted revenue for any discount threshold is one binary search away), base paper cost per {@link Size}
+ * (so any paper increment is a short polynomial), and employee counts. Variants are then evaluated in parallel,
+ * each with a random generator derived from the seed and its index, so results do not depend on thread scheduling.
+ * <p>
+ * Figures use the same rules as {@code PrintingPressService} and {@code EmployeeService}, including rounding of
+ * percentage rates to two decimals, but are computed in double precision.
+ */
+public class PolicySimulationService implements IPolicySimulationService {
+    private static final Logger logger = LoggerFactory.getLogger(PolicySimulationService.class);
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    /** {@inheritDoc} */
+    @Override
+    public PolicySimulationResult simulate(PrintHouse printHouse, PolicyRanges ranges, int variants, long seed) {
+        if (printHouse == null) {
+            logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+            throw new InvalidPrintHouseException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+        }
+        validateRanges(ranges);
+        if (variants <= 0 || variants > MAX_VARIANTS) {
+            logger.error("Invalid number of variants: {}", variants);
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.SIMULATION_VARIANTS_INVALID,
+                    Integer.toString(MAX_VARIANTS)));
+        }
+
+        HistoryModel model = new HistoryModel(printHouse);
+        int[] discountCounts = new int[variants];
+        double[][] policy = new double[4][variants];
+        double[] revenue = new double[variants];
+        double[] paperCost = new double[variants];
+        double[] payroll = new double[variants];
+        IntStream.range(0, variants).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(seed + i * SEED_STEP);
+            int discountCount = (int) Math.round(sample(random, ranges.getSalesDiscountCount()));
+            double discountPercentage = sample(random, ranges.getSalesDiscountPercentage());
+            double paperIncrement = sample(random, ranges.getPaperIncrementPercentage());
+            double salaryIncrement = sample(random, ranges.getEmployeeSalaryIncrementPercentage());
+            double revenueTarget = sample(random, ranges.getRevenueTarget());
+            discountCounts[i] = discountCount;
+            policy[0][i] = discountPercentage;
+            policy[1][i] = paperIncrement;
+            policy[2][i] = salaryIncrement;
+            policy[3][i] = revenueTarget;
+            revenue[i] = model.revenue(discountCount, discountPercentage);
+            paperCost[i] = model.paperCost(paperIncrement);
+            payroll[i] = model.payroll(revenue[i], salaryIncrement, revenueTarget);
+        });
+
+        int best = 0;
+        int targetMet = 0;
+        double[] netProfit = new double[variants];
+        for (int i = 0; i < variants; i++) {
+            netProfit[i] = revenue[i] - paperCost[i] - payroll[i];
+            if (netProfit[i] > netProfit[best]) {
+                best = i;
+            }
+            if (revenue[i] >= policy[3][i]) {
+                targetMet++;
+            }
+        }
+        PolicyVariant bestVariant = new PolicyVariant(discountCounts[best], policy[0][best], policy[1][best],
+                policy[2][best], policy[3][best], revenue[best], paperCost[best], payroll[best]);
+        PolicySimulationResult result = new PolicySimulationResult(variants,
+                Distribution.of(revenue), Distribution.of(paperCost), Distribution.of(payroll), Distribution.of(netProfit),
+                (double) targetMet / variants, model.current(printHouse), bestVariant);
+        logger.info("Simulated {} policy variants for PrintHouse {} with seed {}", variants, LogSummary.of(printHouse), seed);
+        return result;
+    }
+
+    private static double sample(SplittableRandom random, PolicyRanges.Range range) {
+        return range.getMin() == range.getMax() ? range.getMin() : random.nextDouble(range.getMin(), range.getMax());
+    }
+
+    /**
+     * Percentage rates are divided by 100 with two decimals, half up, as the live services do.
+     */
+    private static double rate(double percentage) {
+        return Math.round(percentage) / 100.0;
+    }
+
+    private void validateRanges(PolicyRanges ranges) {
+        if (ranges == null) {
+            logger.error(ExceptionMessages.POLICY_RANGES_CANNOT_BE_NULL);
+            throw new IllegalArgumentException(ExceptionMessages.POLICY_RANGES_CANNOT_BE_NULL);
+        }
+        validateRange("salesDiscountCount", ranges.getSalesDiscountCount(), Integer.MAX_VALUE);
+        validateRange("salesDiscountPercentage", ranges.getSalesDiscountPercentage(), 100);
+        validateRange("paperIncrementPercentage", ranges.getPaperIncrementPercentage(), Double.MAX_VALUE);
+        validateRange("employeeSalaryIncrementPercentage", ranges.getEmployeeSalaryIncrementPercentage(), Double.MAX_VALUE);
+        validateRange("revenueTarget", ranges.getRevenueTarget(), Double.MAX_VALUE);
+    }
+
+    private void validateRange(String field, PolicyRanges.Range range, double limit) {
+        if (range == null || !(range.getMin() >= 0) || !(range.getMin() <= range.getMax()) || range.getMax() > limit) {
+            logger.error("Invalid policy range for {}: {}", field, range);
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.POLICY_RANGE_INVALID, field));
+        }
+    }
+
+    /**
+     * Aggregates of a print house's history and staff that do not depend on the simulated policy.
+     */
+    private static final class HistoryModel {
+        private final int[] copies;
+        private final double[] grossFrom;
+        private final double[] baseCostBySize = new double[Size.values().length];
+        private final int employees;
+        private final int eligibleEmployees;
+        private final double baseSalary;
+
+        private HistoryModel(PrintHouse printHouse) {
+            int items = 0;
+            for (PrintingPress press : printHouse.getPrintingPresses()) {
+                items += press.getPrintedItems().size();
+            }
+            long[] packed = new long[items];
+            double[] gross = new double[items];
+            int next = 0;
+            for (PrintingPress press : printHouse.getPrintingPresses()) {
+                for (Map.Entry<PrintedItem, Integer> entry : press.getPrintedItems().entrySet()) {
+                    PrintedItem item = entry.getKey();
+                    int itemCopies = entry.getValue();
+                    Edition edition = item.getEdition();
+                    gross[next] = item.getPrice().doubleValue() * itemCopies;
+                    // Sort by copies while remembering which gross amount belongs to each item
+                    packed[next] = ((long) itemCopies << 32) | next;
+                    baseCostBySize[edition.getSize().ordinal()] +=
+                            item.getPaperType().getCost().doubleValue() * edition.getNumberOfPages() * itemCopies;
+                    next++;
+                }
+            }
+            Arrays.sort(packed);
+            copies = new int[items];
+            grossFrom = new double[items + 1];
+            for (int i = items - 1; i >= 0; i--) {
+                copies[i] = (int) (packed[i] >>> 32);
+                grossFrom[i] = grossFrom[i + 1] + gross[(int) packed[i]];
+            }
+
+            employees = printHouse.getEmployees().size();
+            int eligible = 0;
+            for (Employee employee : printHouse.getEmployees()) {
+                if (printHouse.getIncrementEligibleRoles() != null
+                        && printHouse.getIncrementEligibleRoles().contains(employee.getEmployeeType())) {
+                    eligible++;
+                }
+            }
+            eligibleEmployees = eligible;
+            baseSalary = printHouse.getBaseSalary() == null ? 0 : printHouse.getBaseSalary().doubleValue();
+        }
+
+        private double revenue(int discountCount, double discountPercentage) {
+            // Items with more copies than the threshold are discounted; they form a suffix of the sorted items
+            int low = 0;
+            int high = copies.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (copies[middle] <= discountCount) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return grossFrom[0] - rate(discountPercentage) * grossFrom[low];
+        }
+
+        private double paperCost(double paperIncrementPercentage) {
+            double factor = 1 + rate(paperIncrementPercentage);
+            double total = 0;
+            double multiplier = 1;
+            for (double baseCost : baseCostBySize) {
+                total += baseCost * multiplier;
+                multiplier *= factor;
+            }
+            return total;
+        }
+
+        private double payroll(double revenue, double salaryIncrementPercentage, double revenueTarget) {
+            double total = employees * baseSalary;
+            if (revenue >= revenueTarget) {
+                total += eligibleEmployees * baseSalary * salaryIncrementPercentage / 100;
+            }
+            return total;
+        }
+
+        private PolicyVariant current(PrintHouse printHouse) {
+            int discountCount = printHouse.getSalesDiscountCount();
+            double discountPercentage = printHouse.getSalesDiscountPercentage().doubleValue();
+            double paperIncrement = printHouse.getPaperIncrementPercentage().doubleValue();
+            double salaryIncrement = printHouse.getEmployeeSalaryIncrementPercentage().doubleValue();
+            double revenueTarget = printHouse.getRevenueTarget().doubleValue();
+            double revenue = revenue(discountCount, discountPercentage);
+            return new PolicyVariant(discountCount, discountPercentage, paperIncrement, salaryIncrement, revenueTarget,
+                    revenue, paperCost(paperIncrement), payroll(revenue, salaryIncrement, revenueTarget));
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package services;
+
+import data.models.Edition;
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import data.reports.PressThroughput;
+import data.reports.PrintEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IPressThroughputService;
+import utilities.exceptions.InvalidEditionException;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.exceptions.InvalidPrintingPressException;
+import utilities.globalconstants.ExceptionMessages;
+import utilities.globalconstants.ServicesConstants;
+import utilities.logging.LogSampler;
+import utilities.logging.LogSummary;
+
+import java.text.MessageFormat;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tracks print jobs per {@link PrintingPress} without locking. Each press keeps a ring buffer of its most recent
+ * {@link PrintEvent}s and one page counter per second of the last hour; a counter slot is reused once its second
+ * falls out of the hour, so rolling throughput is a sum over at most 3600 slots regardless of how many jobs ran.
+ * Time comes from an injectable {@link Clock}.
+ */
+public class PressThroughputService implements IPressThroughputService {
+    private static final Logger logger = LoggerFactory.getLogger(PressThroughputService.class);
+    private static final int EVENT_CAPACITY = 256;
+    private static final int SECONDS = (int) MAX_WINDOW.getSeconds();
+    /** Marks a counter slot while its previous second is being cleared. */
+    private static final long RESETTING = Long.MIN_VALUE;
+
+    private final LogSampler recordLogSampler = new LogSampler(ServicesConstants.PRINT_LOG_SAMPLE_INTERVAL);
+    private final Clock clock;
+    private final Map<PrintingPress, PressHistory> histories = new ConcurrentHashMap<>();
+
+    public PressThroughputService() {
+        this(Clock.systemUTC());
+    }
+
+    public PressThroughputService(Clock clock) {
+        if (clock == null) {
+            logger.error("Clock cannot be null");
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordPrint(PrintingPress press, Edition edition, int copies, boolean colour) {
+        validatePrintingPress(press);
+        if (edition == null) {
+            logger.error(ExceptionMessages.EDITION_CANNOT_BE_NULL);
+            throw new InvalidEditionException(ExceptionMessages.EDITION_CANNOT_BE_NULL);
+        }
+        Instant now = clock.instant();
+        long pages = (long) edition.getNumberOfPages() * copies;
+        histories.computeIfAbsent(press, p -> new PressHistory())
+                .record(new PrintEvent(now, edition.getTitle(), copies, pages, colour));
+        if (logger.isDebugEnabled() && recordLogSampler.sample()) {
+            logger.debug("Recorded {} pages on {} at {} (1 in {} logged)", pages, LogSummary.id(press), now,
+                    recordLogSampler.getInterval());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<PrintEvent> getRecentEvents(PrintingPress press) {
+        validatePrintingPress(press);
+        PressHistory history = histories.get(press);
+        return history == null ? List.of() : history.recentEvents();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PressThroughput getThroughput(PrintingPress press, Duration window) {
+        validatePrintingPress(press);
+        validateWindow(window);
+        return throughput(press, window, clock.instant().getEpochSecond());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<PressThroughput> getBottlenecks(PrintHouse printHouse, Duration window) {
+        if (printHouse == null) {
+            logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+            throw new InvalidPrintHouseException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+        }
+        validateWindow(window);
+        long now = clock.instant().getEpochSecond();
+        List<PressThroughput> result = new ArrayList<>();
+        for (PrintingPress press : printHouse.getPrintingPresses()) {
+            result.add(throughput(press, window, now));
+        }
+        result.sort(Comparator.comparingDouble(PressThroughput::getUtilization).reversed());
+        logger.info("Computed throughput of {} presses over {}", result.size(), window);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forget(PrintingPress press) {
+        if (press != null && histories.remove(press) != null) {
+            logger.debug("Discarded print history of {}", LogSummary.id(press));
+        }
+    }
+
+    private PressThroughput throughput(PrintingPress press, Duration window, long now) {
+        PressHistory history = histories.get(press);
+        long pages = history == null ? 0 : history.pagesSince(now - window.getSeconds() + 1, now);
+        return new PressThroughput(press, window, pages);
+    }
+
+    private void validatePrintingPress(PrintingPress press) {
+        if (press == null) {
+            logger.error(ExceptionMessages.PRINTING_PRESS_CANNOT_BE_NULL);
+            throw new InvalidPrintingPressException(ExceptionMessages.PRINTING_PRESS_CANNOT_BE_NULL);
+        }
+    }
+
+    private void validateWindow(Duration window) {
+        if (window == null || window.getSeconds() < 1 || window.compareTo(MAX_WINDOW) > 0) {
+            logger.error("Invalid throughput window: {}", window);
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.THROUGHPUT_WINDOW_INVALID,
+                    Long.toString(MAX_WINDOW.getSeconds())));
+        }
+    }
+
+    /**
+     * Lock-free history of one press: writers claim ring slots with a sequence counter and add pages to the counter
+     * of the current second, clearing the slot first if it still holds a second from more than an hour ago.
+     */
+    private static final class PressHistory {
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicReferenceArray<Slot> events = new AtomicReferenceArray<>(EVENT_CAPACITY);
+        private final AtomicLongArray seconds = new AtomicLongArray(SECONDS);
+        private final AtomicLongArray pages = new AtomicLongArray(SECONDS);
+
+        private PressHistory() {
+            for (int i = 0; i < SECONDS; i++) {
+                seconds.set(i, -1);
+            }
+        }
+
+        private void record(PrintEvent event) {
+            long position = sequence.getAndIncrement();
+            events.set((int) (position % EVENT_CAPACITY), new Slot(position, event));
+
+            long second = event.getTimestamp().getEpochSecond();
+            int slot = (int) Math.floorMod(second, (long) SECONDS);
+            while (true) {
+                long current = seconds.get(slot);
+                if (current == second) {
+                    pages.addAndGet(slot, event.getPrintedPages());
+                    return;
+                }
+                if (current > second) {
+                    // The slot already counts a later second; this event is older than the retained hour
+                    return;
+                }
+                if (current != RESETTING && seconds.compareAndSet(slot, current, RESETTING)) {
+                    pages.set(slot, event.getPrintedPages());
+                    seconds.set(slot, second);
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        private long pagesSince(long fromSecond, long toSecond) {
+            long total = 0;
+            for (long second = fromSecond; second <= toSecond; second++) {
+                int slot = (int) Math.floorMod(second, (long) SECONDS);
+                if (seconds.get(slot) == second) {
+                    total += pages.get(slot);
+                }
+            }
+            return total;
+        }
+
+        private List<PrintEvent> recentEvents() {
+            long end = sequence.get();
+            long start = Math.max(0, end - EVENT_CAPACITY);
+            List<PrintEvent> result = new ArrayList<>((int) (end - start));
+            for (long position = start; position < end; position++) {
+                Slot slot = events.get((int) (position % EVENT_CAPACITY));
+                // Skip slots not yet written or already overwritten by a newer job
+                if (slot != null && slot.position == position) {
+                    result.add(slot.event);
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Slot {
+        private final long position;
+        private final PrintEvent event;
+
+        private Slot(long position, PrintEvent event) {
+            this.position = position;
+            this.event = event;
+        }
+    }
+}
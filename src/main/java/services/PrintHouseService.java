@@ -5,27 +5,68 @@ import services.contracts.*;
 import utilities.exceptions.*;
 import utilities.globalconstants.ExceptionMessages;
 import utilities.globalconstants.ModelsConstants;
+import utilities.globalconstants.ServicesConstants;
+import utilities.logging.LogSummary;
+import utilities.metrics.BusinessMetric;
+import utilities.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
 
 /**
- * Manages {@link PrintHouse} entities, focusing solely on their lifecycle and persistence.
+ * Manages {@link PrintHouse} entities, focusing solely on their lifecycle and persistence. When constructed with a
+ * {@link MetricsRegistry}, saves are counted and the metrics of removed or replaced houses are dropped; when
+ * constructed with an {@link IPressThroughputService}, the print history of their presses is dropped as well.
  */
 public class PrintHouseService implements IPrintHouseService {
     private static final Logger logger = LoggerFactory.getLogger(PrintHouseService.class);
     private final List<PrintHouse> printHouses = new ArrayList<>();
     private final ISerializationService<PrintHouse> serializationService;
+    private final IEditionCatalogService catalog;
+    private final MetricsRegistry metrics;
+    private final IPressThroughputService throughputService;
 
     public PrintHouseService(ISerializationService<PrintHouse> serializationService) {
+        this(serializationService, null);
+    }
+
+    public PrintHouseService(ISerializationService<PrintHouse> serializationService, IEditionCatalogService catalog) {
+        this(serializationService, catalog, null);
+    }
+
+    public PrintHouseService(ISerializationService<PrintHouse> serializationService, IEditionCatalogService catalog,
+                             MetricsRegistry metrics) {
+        this(serializationService, catalog, metrics, null);
+    }
+
+    public PrintHouseService(ISerializationService<PrintHouse> serializationService, IEditionCatalogService catalog,
+                             MetricsRegistry metrics, IPressThroughputService throughputService) {
         if (serializationService == null) {
             logger.error("Serialization service cannot be null");
             throw new IllegalArgumentException("Serialization service cannot be null");
         }
         this.serializationService = serializationService;
+        this.catalog = catalog;
+        this.metrics = metrics;
+        this.throughputService = throughputService;
         logger.info("PrintHouseService initialized");
     }
 
@@ -43,7 +84,7 @@ public class PrintHouseService implements IPrintHouseService {
         PrintHouse printHouse = new PrintHouse(salaryIncrementPercentage, paperIncrementPercentage, baseSalary,
                 incrementEligibleRoles, revenueTarget, salesDiscountCount, salesDiscountPercentage);
         printHouses.add(printHouse);
-        logger.info("PrintHouse created: {}", printHouse);
+        logger.info("PrintHouse created: {}", LogSummary.of(printHouse));
         return printHouse;
     }
 
@@ -122,14 +163,18 @@ public class PrintHouseService implements IPrintHouseService {
         if (salesDiscountPercentage != null) {
             printHouse.setSalesDiscountPercentage(salesDiscountPercentage);
         }
-        logger.info("PrintHouse updated at index {}: {}", index, printHouse);
+        logger.info("PrintHouse updated at index {}: {}", index, LogSummary.of(printHouse));
     }
 
     /** {@inheritDoc} */
     @Override
     public void removePrintHouse(int index) {
         PrintHouse removed = printHouses.remove(index);
-        logger.info("PrintHouse removed: {}", removed);
+        if (catalog != null) {
+            catalog.releasePrintedItems(removed);
+        }
+        forget(removed);
+        logger.info("PrintHouse removed: {}", LogSummary.of(removed));
     }
 
     /** {@inheritDoc} */
@@ -140,6 +185,9 @@ public class PrintHouseService implements IPrintHouseService {
             throw new IllegalArgumentException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
         }
         serializationService.serialize(printHouses, filePath);
+        if (metrics != null) {
+            metrics.increment(BusinessMetric.SAVES_PERFORMED, null, null);
+        }
         logger.info("Saved {} print houses to {}", printHouses.size(), filePath);
     }
 
@@ -151,9 +199,255 @@ public class PrintHouseService implements IPrintHouseService {
             throw new IllegalArgumentException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
         }
         List<PrintHouse> loaded = serializationService.deserialize(filePath);
+        replacePrintHouses(loaded);
+        logger.info("Loaded {} print houses from {}", printHouses.size(), filePath);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveAllPrintHousesSharded(String directoryPath, int housesPerShard) {
+        validateDirectoryPath(directoryPath);
+        if (housesPerShard <= 0) {
+            logger.error("Invalid houses per shard: {}", housesPerShard);
+            throw new IllegalArgumentException(ServicesConstants.SHARDS_PER_FILE_MUST_BE_POSITIVE);
+        }
+        Path directory = Path.of(directoryPath);
+        List<PrintHouse> snapshot = new ArrayList<>(printHouses);
+        int shardCount = (snapshot.size() + housesPerShard - 1) / housesPerShard;
+        // Shard names are unique to this save, so the shards of the published snapshot are never overwritten
+        String saveId = UUID.randomUUID().toString();
+
+        Properties manifest = new Properties();
+        manifest.setProperty("version", "1");
+        manifest.setProperty("save", saveId);
+        manifest.setProperty("houses", Integer.toString(snapshot.size()));
+        manifest.setProperty("shards", Integer.toString(shardCount));
+        List<Callable<Void>> tasks = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<PrintHouse> houses = new ArrayList<>(snapshot.subList(shard * housesPerShard,
+                    Math.min(snapshot.size(), (shard + 1) * housesPerShard)));
+            String fileName = String.format(ServicesConstants.SHARD_FILE_NAME_PATTERN, saveId, shard);
+            manifest.setProperty("shard." + shard + ".file", fileName);
+            manifest.setProperty("shard." + shard + ".houses", Integer.toString(houses.size()));
+            tasks.add(() -> {
+                serializationService.serialize(houses, directory.resolve(fileName).toString());
+                return null;
+            });
+        }
+
+        Path temporaryManifest = null;
+        try {
+            Files.createDirectories(directory);
+            runConcurrently(tasks);
+            // The manifest is published last, in one atomic rename, so an interrupted save leaves the previous
+            // manifest and the shards it refers to untouched
+            temporaryManifest = Files.createTempFile(directory, ServicesConstants.SHARD_MANIFEST_FILE_NAME, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryManifest, StandardCharsets.UTF_8)) {
+                manifest.store(writer, "PrintHouse sharded snapshot");
+            }
+            Files.move(temporaryManifest, directory.resolve(ServicesConstants.SHARD_MANIFEST_FILE_NAME),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Sharded save failed for {}: {}", directoryPath, e.getMessage(), e);
+            deleteQuietly(temporaryManifest);
+            deleteShards(directory, Set.of(), saveId);
+            throw e instanceof RuntimeException runtimeException
+                    ? runtimeException : new RuntimeException("Serialization failed: " + e.getMessage(), e);
+        }
+        deleteShards(directory, referencedShards(manifest, shardCount), null);
+        if (metrics != null) {
+            metrics.increment(BusinessMetric.SAVES_PERFORMED, null, null);
+        }
+        logger.info("Saved {} print houses to {} in {} shards", snapshot.size(), directoryPath, shardCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void loadAllPrintHousesSharded(String directoryPath) {
+        validateDirectoryPath(directoryPath);
+        Path directory = Path.of(directoryPath);
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(directory.resolve(ServicesConstants.SHARD_MANIFEST_FILE_NAME),
+                StandardCharsets.UTF_8)) {
+            manifest.load(reader);
+        } catch (NoSuchFileException e) {
+            logger.error("Shard manifest not found in {}", directoryPath);
+            throw new IllegalArgumentException(MessageFormat.format(ServicesConstants.SHARD_MANIFEST_NOT_FOUND, directoryPath), e);
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalidManifest(directoryPath, e.getMessage());
+        }
+
+        int shardCount = manifestInt(manifest, "shards", directoryPath);
+        int houseCount = manifestInt(manifest, "houses", directoryPath);
+        int[] expectedCounts = new int[shardCount];
+        List<Callable<List<PrintHouse>>> tasks = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            expectedCounts[shard] = manifestInt(manifest, "shard." + shard + ".houses", directoryPath);
+            String fileName = manifest.getProperty("shard." + shard + ".file");
+            if (fileName == null) {
+                throw invalidManifest(directoryPath, "missing file name for shard " + shard);
+            }
+            String shardPath = shardPath(directory, fileName, directoryPath).toString();
+            tasks.add(() -> serializationService.deserialize(shardPath));
+        }
+
+        List<List<PrintHouse>> shards = runConcurrently(tasks);
+        List<PrintHouse> loaded = new ArrayList<>(houseCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<PrintHouse> houses = shards.get(shard);
+            if (houses.size() != expectedCounts[shard]) {
+                String message = MessageFormat.format(ServicesConstants.SHARD_COUNT_MISMATCH,
+                        Integer.toString(shard), houses.size(), expectedCounts[shard]);
+                logger.error(message);
+                throw new CorruptSnapshotException(message, shard);
+            }
+            loaded.addAll(houses);
+        }
+        if (loaded.size() != houseCount) {
+            throw invalidManifest(directoryPath, "expected " + houseCount + " print houses, found " + loaded.size());
+        }
+        replacePrintHouses(loaded);
+        logger.info("Loaded {} print houses from {} shards in {}", printHouses.size(), shardCount, directoryPath);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void verifySavedPrintHouses(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            logger.error("Invalid file path: {}", filePath);
+            throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
+        }
+        serializationService.verify(filePath);
+        logger.info("Verified saved print houses in {}", filePath);
+    }
+
+    private void replacePrintHouses(List<PrintHouse> loaded) {
+        if (catalog != null) {
+            // Loaded snapshots carry their own edition copies; move the catalog references over to them
+            for (PrintHouse printHouse : printHouses) {
+                catalog.releasePrintedItems(printHouse);
+            }
+            for (PrintHouse printHouse : loaded) {
+                catalog.acquirePrintedItems(printHouse);
+            }
+        }
+        for (PrintHouse printHouse : printHouses) {
+            forget(printHouse);
+        }
         printHouses.clear();
         printHouses.addAll(loaded);
-        logger.info("Loaded {} print houses from {}", printHouses.size(), filePath);
+    }
+
+    /**
+     * Drops the metrics and press print histories of a print house that is no longer managed.
+     */
+    private void forget(PrintHouse printHouse) {
+        if (metrics != null) {
+            metrics.forget(printHouse);
+        }
+        if (throughputService != null) {
+            for (PrintingPress press : printHouse.getPrintingPresses()) {
+                throughputService.forget(press);
+            }
+        }
+    }
+
+    /**
+     * Resolves a shard file named in a manifest, which must be a file directly inside the snapshot directory.
+     */
+    private Path shardPath(Path directory, String fileName, String directoryPath) {
+        Path base = directory.toAbsolutePath().normalize();
+        Path resolved = base.resolve(fileName).normalize();
+        if (!base.equals(resolved.getParent())) {
+            throw invalidManifest(directoryPath, "shard file " + fileName + " is outside the snapshot directory");
+        }
+        return resolved;
+    }
+
+    private static Set<String> referencedShards(Properties manifest, int shardCount) {
+        Set<String> referenced = new HashSet<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            referenced.add(manifest.getProperty("shard." + shard + ".file"));
+        }
+        return referenced;
+    }
+
+    /**
+     * Deletes the shard files in {@code directory} that are not in {@code keep}; if {@code saveId} is given, only the
+     * shards written by that save. Failures are logged, since the snapshot itself is already consistent.
+     */
+    private static void deleteShards(Path directory, Set<String> keep, String saveId) {
+        String glob = saveId == null ? ServicesConstants.SHARD_FILE_NAME_GLOB : "shard-" + saveId + "-*.ser";
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, glob)) {
+            for (Path shard : shards) {
+                if (!keep.contains(shard.getFileName().toString())) {
+                    deleteQuietly(shard);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not clean up shards in {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void validateDirectoryPath(String directoryPath) {
+        if (directoryPath == null || directoryPath.trim().isEmpty()) {
+            logger.error("Invalid directory path: {}", directoryPath);
+            throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
+        }
+    }
+
+    private int manifestInt(Properties manifest, String key, String directoryPath) {
+        try {
+            int value = Integer.parseInt(manifest.getProperty(key, ""));
+            if (value < 0) {
+                throw invalidManifest(directoryPath, key + " is negative");
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw invalidManifest(directoryPath, "missing or malformed " + key);
+        }
+    }
+
+    private CorruptSnapshotException invalidManifest(String directoryPath, String detail) {
+        String message = MessageFormat.format(ServicesConstants.SHARD_MANIFEST_INVALID, directoryPath, detail);
+        logger.error(message);
+        return new CorruptSnapshotException(message, CorruptSnapshotException.HEADER_BLOCK);
+    }
+
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while processing shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private void validateParameters(BigDecimal salaryIncrementPercentage, BigDecimal paperIncrementPercentage,
@@ -1,22 +1,61 @@
 package services;
 
 import data.models.*;
+import data.reports.RankedItem;
+import data.reports.RankingMetric;
+import services.contracts.IEditionCatalogService;
+import services.contracts.IPressThroughputService;
 import services.contracts.IPrintingPressService;
 import utilities.exceptions.*;
 import utilities.globalconstants.ExceptionMessages;
 import utilities.globalconstants.ModelsConstants;
+import utilities.globalconstants.ServicesConstants;
+import utilities.logging.LogSampler;
+import utilities.jfr.PaperLoadEvent;
+import utilities.jfr.PrintJobEvent;
+import utilities.jfr.ReportEvent;
+import utilities.logging.LogSummary;
+import utilities.metrics.BusinessMetric;
+import utilities.metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.MessageFormat;
+import java.util.*;
 
 /**
  * Manages {@link PrintingPress} entities and printing operations within a {@link PrintHouse}.
+ * When constructed with an {@link IEditionCatalogService}, printed items reference the catalog's canonical editions;
+ * when constructed with an {@link IPressThroughputService}, every print job is recorded with its time; when constructed
+ * with a {@link MetricsRegistry}, pages, paper and rejected jobs are counted per house and press.
  */
 public class PrintingPressService implements IPrintingPressService {
     private static final Logger logger = LoggerFactory.getLogger(PrintingPressService.class);
+    private final LogSampler printLogSampler = new LogSampler(ServicesConstants.PRINT_LOG_SAMPLE_INTERVAL);
+    private final IEditionCatalogService catalog;
+    private final IPressThroughputService throughputService;
+    private final MetricsRegistry metrics;
+
+    public PrintingPressService() {
+        this(null, null);
+    }
+
+    public PrintingPressService(IEditionCatalogService catalog) {
+        this(catalog, null);
+    }
+
+    public PrintingPressService(IEditionCatalogService catalog, IPressThroughputService throughputService) {
+        this(catalog, throughputService, null);
+    }
+
+    public PrintingPressService(IEditionCatalogService catalog, IPressThroughputService throughputService,
+                                MetricsRegistry metrics) {
+        this.catalog = catalog;
+        this.throughputService = throughputService;
+        this.metrics = metrics;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -25,7 +64,7 @@ public class PrintingPressService implements IPrintingPressService {
         validatePrintingPress(printingPress);
         validatePressParameters(printingPress);
         printHouse.getPrintingPresses().add(printingPress);
-        logger.info("Added printing press to PrintHouse {}: {}", printHouse, printingPress);
+        logger.info("Added printing press to PrintHouse {}: {}", LogSummary.of(printHouse), LogSummary.of(printingPress));
     }
 
     /** {@inheritDoc} */
@@ -60,7 +99,7 @@ public class PrintingPressService implements IPrintingPressService {
             }
             printingPress.setMaximumPagesPerMinute(maxPagesPerMinute);
         }
-        logger.info("Printing press updated: {}", printingPress);
+        logger.info("Printing press updated: {}", LogSummary.of(printingPress));
     }
 
     /** {@inheritDoc} */
@@ -69,9 +108,20 @@ public class PrintingPressService implements IPrintingPressService {
         validatePrintHouse(printHouse);
         validatePrintingPress(printingPress);
         if (!printHouse.getPrintingPresses().remove(printingPress)) {
-            logger.warn("Printing press not found: {}", printingPress);
+            logger.warn("Printing press not found: {}", LogSummary.of(printingPress));
         } else {
-            logger.info("Printing press removed: {}", printingPress);
+            if (catalog != null) {
+                for (PrintedItem item : printingPress.getPrintedItems().keySet()) {
+                    catalog.release(item.getEdition());
+                }
+            }
+            if (throughputService != null) {
+                throughputService.forget(printingPress);
+            }
+            if (metrics != null) {
+                metrics.forget(printingPress);
+            }
+            logger.info("Printing press removed: {}", LogSummary.of(printingPress));
         }
     }
 
@@ -79,26 +129,53 @@ public class PrintingPressService implements IPrintingPressService {
     @Override
     public void printItem(PrintHouse printHouse, PrintingPress press, Edition edition, PaperType paperType,
                           BigDecimal pricePerCopy, int copies, boolean isColour) {
+        PrintJobEvent event = new PrintJobEvent();
+        event.begin();
         validatePrintHouse(printHouse);
         validatePrintingPress(press);
         validatePressParameters(press);
-        validatePrintParameters(edition, paperType, pricePerCopy, copies, isColour, press);
+        validatePrintParameters(printHouse, edition, paperType, pricePerCopy, copies, isColour, press);
         int pagesNeeded = (int) Math.ceil(edition.getNumberOfPages() / 2.0) * copies;
         if (pagesNeeded > press.getCurrentPaperLoad()) {
+            if (metrics != null) {
+                metrics.increment(BusinessMetric.JOBS_REJECTED_INSUFFICIENT_PAPER, printHouse, press);
+            }
             logger.error("Insufficient paper: needed={}, available={}", pagesNeeded, press.getCurrentPaperLoad());
             throw new InvalidPaperLoadException(MessageFormat
                     .format(ExceptionMessages.INSUFFICIENT_PAPER_LOAD, pagesNeeded, press.getCurrentPaperLoad()));
         }
 
-        PrintedItem item = new PrintedItem(edition, paperType, pricePerCopy, isColour);
+        PrintedItem item = new PrintedItem(catalog == null ? edition : catalog.acquire(edition), paperType, pricePerCopy, isColour);
         press.getPrintedItems().merge(item, copies, Integer::sum);
         press.setCurrentPaperLoad(press.getCurrentPaperLoad() - pagesNeeded);
-        logger.info("Printed {} copies of {} using {}", copies, item, press);
+        if (throughputService != null) {
+            throughputService.recordPrint(press, item.getEdition(), copies, isColour);
+        }
+        if (metrics != null) {
+            metrics.add(BusinessMetric.PAGES_PRINTED, printHouse, press, (long) edition.getNumberOfPages() * copies);
+            metrics.add(BusinessMetric.PAPER_CONSUMED, printHouse, press, pagesNeeded);
+        }
+        if (logger.isInfoEnabled() && printLogSampler.sample()) {
+            logger.info("Printed {} copies of {} on {} in {} (print job {}, 1 in {} logged)", copies, item.getEdition(),
+                    LogSummary.id(press), LogSummary.id(printHouse), printLogSampler.getEvents(), printLogSampler.getInterval());
+        }
+        if (event.shouldCommit()) {
+            event.printHouse = LogSummary.id(printHouse);
+            event.press = LogSummary.id(press);
+            event.edition = item.getEdition().getTitle();
+            event.copies = copies;
+            event.pages = (long) edition.getNumberOfPages() * copies;
+            event.sheets = pagesNeeded;
+            event.colour = isColour;
+            event.commit();
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public BigDecimal getTotalCostForPrint(PrintHouse printHouse) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
         validatePrintHouse(printHouse);
         BigDecimal total = BigDecimal.ZERO;
         for (PrintingPress press : printHouse.getPrintingPresses()) {
@@ -110,12 +187,17 @@ public class PrintingPressService implements IPrintingPressService {
             }
         }
         logger.info("Total print cost: {}", total);
+        if (event.shouldCommit()) {
+            event.commitFor("totalCostForPrint", printHouse);
+        }
         return total;
     }
 
     /** {@inheritDoc} */
     @Override
     public BigDecimal getTotalRevenue(PrintHouse printHouse) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
         validatePrintHouse(printHouse);
         BigDecimal total = BigDecimal.ZERO;
         for (PrintingPress press : printHouse.getPrintingPresses()) {
@@ -131,6 +213,9 @@ public class PrintingPressService implements IPrintingPressService {
             }
         }
         logger.info("Total revenue: {}", total);
+        if (event.shouldCommit()) {
+            event.commitFor("totalRevenue", printHouse);
+        }
         return total;
     }
 
@@ -173,6 +258,8 @@ public class PrintingPressService implements IPrintingPressService {
     /** {@inheritDoc} */
     @Override
     public void loadPaper(PrintHouse printHouse, PrintingPress press, int amount) {
+        PaperLoadEvent event = new PaperLoadEvent();
+        event.begin();
         validatePrintHouse(printHouse);
         validatePrintingPress(press);
         if (amount <= 0) {
@@ -187,7 +274,102 @@ public class PrintingPressService implements IPrintingPressService {
         }
 
         press.setCurrentPaperLoad(newLoad);
+        if (metrics != null) {
+            metrics.add(BusinessMetric.PAPER_LOADED, printHouse, press, amount);
+        }
         logger.info("Loaded {} paper, new load: {}", amount, newLoad);
+        if (event.shouldCommit()) {
+            event.printHouse = LogSummary.id(printHouse);
+            event.press = LogSummary.id(press);
+            event.amount = amount;
+            event.paperLoad = newLoad;
+            event.commit();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<RankedItem<Edition>> getTopEditions(PrintHouse printHouse, RankingMetric metric, int limit) {
+        validatePrintHouse(printHouse);
+        return getTopEditions(List.of(printHouse), metric, limit);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<RankedItem<Edition>> getTopEditions(List<PrintHouse> printHouses, RankingMetric metric, int limit) {
+        validateRanking(printHouses, metric, limit);
+        // An edition's copies are spread over printed items with different paper and prices, so sum per edition
+        // first. This map holds one total per distinct edition; only the selection below is bounded by the limit.
+        Map<Long, EditionTotal> totals = new HashMap<>();
+        for (PrintHouse printHouse : printHouses) {
+            ItemPricing pricing = new ItemPricing(printHouse);
+            for (PrintingPress press : printHouse.getPrintingPresses()) {
+                for (var entry : press.getPrintedItems().entrySet()) {
+                    Edition edition = entry.getKey().getEdition();
+                    EditionTotal total = totals.computeIfAbsent(EditionIndex.key(edition), key -> new EditionTotal(edition));
+                    total.value = total.value.add(measure(metric, pricing, entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+        TopN<Edition> top = new TopN<>(limit);
+        for (EditionTotal total : totals.values()) {
+            top.offer(total.edition, total.value);
+        }
+        List<RankedItem<Edition>> result = top.result();
+        logger.info("Ranked {} editions by {}, returning top {}", totals.size(), metric, result.size());
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<RankedItem<PrintingPress>> getTopPrintingPresses(PrintHouse printHouse, RankingMetric metric, int limit) {
+        validatePrintHouse(printHouse);
+        return getTopPrintingPresses(List.of(printHouse), metric, limit);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<RankedItem<PrintingPress>> getTopPrintingPresses(List<PrintHouse> printHouses, RankingMetric metric, int limit) {
+        validateRanking(printHouses, metric, limit);
+        TopN<PrintingPress> top = new TopN<>(limit);
+        for (PrintHouse printHouse : printHouses) {
+            ItemPricing pricing = new ItemPricing(printHouse);
+            for (PrintingPress press : printHouse.getPrintingPresses()) {
+                BigDecimal value = BigDecimal.ZERO;
+                for (var entry : press.getPrintedItems().entrySet()) {
+                    value = value.add(measure(metric, pricing, entry.getKey(), entry.getValue()));
+                }
+                top.offer(press, value);
+            }
+        }
+        List<RankedItem<PrintingPress>> result = top.result();
+        logger.info("Ranked printing presses by {}, returning top {}", metric, result.size());
+        return result;
+    }
+
+    private static BigDecimal measure(RankingMetric metric, ItemPricing pricing, PrintedItem item, int copies) {
+        return switch (metric) {
+            case COPIES -> BigDecimal.valueOf(copies);
+            case PAGES -> BigDecimal.valueOf((long) item.getEdition().getNumberOfPages() * copies);
+            case REVENUE -> pricing.revenue(item, copies);
+            case PAPER_COST -> pricing.paperCost(item, copies);
+        };
+    }
+
+    private void validateRanking(List<PrintHouse> printHouses, RankingMetric metric, int limit) {
+        if (printHouses == null) {
+            logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+            throw new InvalidPrintHouseException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+        }
+        printHouses.forEach(this::validatePrintHouse);
+        if (metric == null) {
+            logger.error(ExceptionMessages.RANKING_METRIC_CANNOT_BE_NULL);
+            throw new IllegalArgumentException(ExceptionMessages.RANKING_METRIC_CANNOT_BE_NULL);
+        }
+        if (limit <= 0) {
+            logger.error("Invalid ranking limit: {}", limit);
+            throw new IllegalArgumentException(ExceptionMessages.RANKING_LIMIT_MUST_BE_POSITIVE);
+        }
     }
 
     private void validatePrintHouse(PrintHouse printHouse) {
@@ -219,7 +401,7 @@ public class PrintingPressService implements IPrintingPressService {
         }
     }
 
-    private void validatePrintParameters(Edition edition, PaperType paperType, BigDecimal pricePerCopy, int copies, boolean isColour, PrintingPress press) {
+    private void validatePrintParameters(PrintHouse printHouse, Edition edition, PaperType paperType, BigDecimal pricePerCopy, int copies, boolean isColour, PrintingPress press) {
         if (edition == null) {
             logger.error(ExceptionMessages.EDITION_CANNOT_BE_NULL);
             throw new InvalidEditionException(ExceptionMessages.EDITION_CANNOT_BE_NULL);
@@ -238,8 +420,69 @@ public class PrintingPressService implements IPrintingPressService {
         }
 
         if (isColour && !press.isColour()) {
+            if (metrics != null) {
+                metrics.increment(BusinessMetric.JOBS_REJECTED_COLOUR_MISMATCH, printHouse, press);
+            }
             logger.error("Color mismatch: press={}, requested={}", press.isColour(), isColour);
             throw new UnsupportedPrintColorException(MessageFormat.format(ExceptionMessages.INCOMPATIBLE_COLOR_TYPE, press.isColour(), isColour));
         }
     }
-}
\ No newline at end of file
+
+    private static final class EditionTotal {
+        private final Edition edition;
+        private BigDecimal value = BigDecimal.ZERO;
+
+        private EditionTotal(Edition edition) {
+            this.edition = edition;
+        }
+    }
+
+    /**
+     * Keeps the {@code limit} highest-valued items offered to it in a bounded min-heap, so memory stays proportional
+     * to the limit however many items are offered. On equal values the item offered first ranks higher.
+     */
+    private static final class TopN<T> {
+        private final int limit;
+        private final Comparator<Candidate<T>> ascending =
+                Comparator.<Candidate<T>, BigDecimal>comparing(c -> c.value).thenComparingLong(c -> -c.order);
+        private final PriorityQueue<Candidate<T>> heap;
+        private long offered;
+
+        private TopN(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, ascending);
+        }
+
+        private void offer(T item, BigDecimal value) {
+            long order = offered++;
+            if (heap.size() < limit) {
+                heap.add(new Candidate<>(item, value, order));
+            } else if (value.compareTo(heap.peek().value) > 0) {
+                heap.poll();
+                heap.add(new Candidate<>(item, value, order));
+            }
+        }
+
+        private List<RankedItem<T>> result() {
+            List<Candidate<T>> candidates = new ArrayList<>(heap);
+            candidates.sort(ascending.reversed());
+            List<RankedItem<T>> result = new ArrayList<>(candidates.size());
+            for (Candidate<T> candidate : candidates) {
+                result.add(new RankedItem<>(candidate.item, candidate.value));
+            }
+            return result;
+        }
+    }
+
+    private static final class Candidate<T> {
+        private final T item;
+        private final BigDecimal value;
+        private final long order;
+
+        private Candidate(T item, BigDecimal value, long order) {
+            this.item = item;
+            this.value = value;
+            this.order = order;
+        }
+    }
+}
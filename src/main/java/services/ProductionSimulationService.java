@@ -0,0 +1,422 @@
+package services;
+
+import data.models.Edition;
+import data.models.PrintHouse;
+import data.models.PrintedItem;
+import data.models.PrintingPress;
+import data.reports.PressUtilization;
+import data.reports.ProductionJob;
+import data.reports.ProductionReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IProductionSimulationService;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.text.MessageFormat;
+import java.util.*;
+
+/**
+ * Discrete-event production simulator. Jobs and presses are copied into parallel primitive arrays before the run;
+ * the event loop then merges the arrival-ordered jobs with a binary heap of press completion events packed into
+ * {@code long}s (completion second in the high bits, press index in the low bits), and keeps waiting jobs in
+ * {@code int} ring buffers, so simulating an event allocates nothing.
+ */
+public class ProductionSimulationService implements IProductionSimulationService {
+    private static final Logger logger = LoggerFactory.getLogger(ProductionSimulationService.class);
+    private static final int PRESS_BITS = 20;
+    private static final long PRESS_MASK = (1L << PRESS_BITS) - 1;
+    /** Latest completion second that still fits in an event next to the press index. */
+    private static final long MAX_EVENT_SECOND = Long.MAX_VALUE >>> PRESS_BITS;
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final long WORKDAY_START = 8 * 60 * 60;
+    private static final long WORKDAY_LENGTH = 8 * 60 * 60;
+
+    /** {@inheritDoc} */
+    @Override
+    public ProductionReport simulate(PrintHouse printHouse, List<ProductionJob> jobs, long refillSeconds) {
+        validatePrintHouse(printHouse);
+        if (printHouse.getPrintingPresses().size() > PRESS_MASK) {
+            logger.error("Too many printing presses to simulate: {}", printHouse.getPrintingPresses().size());
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.PRODUCTION_TOO_MANY_PRESSES,
+                    Long.toString(PRESS_MASK)));
+        }
+        if (jobs == null) {
+            logger.error(ExceptionMessages.PRODUCTION_JOBS_CANNOT_BE_NULL);
+            throw new IllegalArgumentException(ExceptionMessages.PRODUCTION_JOBS_CANNOT_BE_NULL);
+        }
+        for (ProductionJob job : jobs) {
+            validateJob(job);
+        }
+        if (refillSeconds < 0) {
+            logger.error("Invalid refill time: {}", refillSeconds);
+            throw new IllegalArgumentException(ExceptionMessages.PRODUCTION_REFILL_TIME_INVALID);
+        }
+
+        Run run = new Run(printHouse.getPrintingPresses(), jobs, refillSeconds);
+        run.execute();
+        ProductionReport report = run.report();
+        logger.info("Simulated {} jobs on {} presses: makespan {}s, {} rejected", jobs.size(),
+                printHouse.getPrintingPresses().size(), report.getMakespanSeconds(), report.getRejectedJobs());
+        return report;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ProductionJob> replayHistory(PrintHouse printHouse, int days, long seed) {
+        validatePrintHouse(printHouse);
+        if (days <= 0) {
+            logger.error("Invalid number of days: {}", days);
+            throw new IllegalArgumentException(ExceptionMessages.PRODUCTION_DAYS_INVALID);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        List<ProductionJob> jobs = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            for (PrintingPress press : printHouse.getPrintingPresses()) {
+                for (Map.Entry<PrintedItem, Integer> entry : press.getPrintedItems().entrySet()) {
+                    long arrival = day * SECONDS_PER_DAY + WORKDAY_START + random.nextLong(WORKDAY_LENGTH);
+                    jobs.add(new ProductionJob(arrival, entry.getKey().getEdition(), entry.getValue(),
+                            entry.getKey().isColour()));
+                }
+            }
+        }
+        jobs.sort(Comparator.comparingLong(ProductionJob::getArrivalSecond));
+        logger.debug("Built {} replay jobs over {} days", jobs.size(), days);
+        return jobs;
+    }
+
+    private void validatePrintHouse(PrintHouse printHouse) {
+        if (printHouse == null) {
+            logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+            throw new InvalidPrintHouseException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+        }
+    }
+
+    private void validateJob(ProductionJob job) {
+        if (job == null || job.getEdition() == null || job.getEdition().getNumberOfPages() <= 0 || job.getCopies() <= 0
+                || job.getArrivalSecond() < 0 || job.getArrivalSecond() > MAX_ARRIVAL_SECOND) {
+            logger.error("Invalid production job: {}", job);
+            throw new IllegalArgumentException(MessageFormat.format(ExceptionMessages.PRODUCTION_JOB_INVALID, job));
+        }
+    }
+
+    /**
+     * State of one simulation run. Presses that cannot print (no paper capacity or speed) take no jobs.
+     */
+    private static final class Run {
+        private final List<PrintingPress> fleet;
+        private final long refillSeconds;
+
+        private final boolean[] colourPress;
+        private final long[] pagesPerMinute;
+        private final long[] capacity;
+        private final long[] paper;
+        private final long[] busy;
+        private final long[] refilling;
+        private final int[] jobsDone;
+        private final long[] pagesDone;
+        private final int[] refills;
+        private final int[] runningJob;
+        private final int[] idleColour;
+        private final int[] idleMonochrome;
+        private int idleColourCount;
+        private int idleMonochromeCount;
+        private final boolean hasColourPress;
+        private final boolean hasAnyPress;
+
+        private final long[] arrival;
+        private final long[] jobPages;
+        private final long[] jobSheets;
+        private final boolean[] jobColour;
+        private final int[] order;
+        private final long[] completion;
+
+        private final IntQueue colourQueue = new IntQueue();
+        private final IntQueue monochromeQueue = new IntQueue();
+        private final LongHeap events;
+
+        private long now;
+        private long colourQueueArea;
+        private long monochromeQueueArea;
+        private int maxColourQueue;
+        private int maxMonochromeQueue;
+        private long totalWait;
+        private long maxWait;
+        private int started;
+        private int rejected;
+
+        private Run(List<PrintingPress> presses, List<ProductionJob> jobs, long refillSeconds) {
+            this.fleet = presses;
+            this.refillSeconds = refillSeconds;
+            int pressCount = presses.size();
+            colourPress = new boolean[pressCount];
+            pagesPerMinute = new long[pressCount];
+            capacity = new long[pressCount];
+            paper = new long[pressCount];
+            busy = new long[pressCount];
+            refilling = new long[pressCount];
+            jobsDone = new int[pressCount];
+            pagesDone = new long[pressCount];
+            refills = new int[pressCount];
+            runningJob = new int[pressCount];
+            idleColour = new int[pressCount];
+            idleMonochrome = new int[pressCount];
+            events = new LongHeap(Math.max(1, pressCount));
+            boolean colour = false;
+            // Pushed in reverse so that presses are picked in house order
+            for (int p = pressCount - 1; p >= 0; p--) {
+                PrintingPress press = presses.get(p);
+                colourPress[p] = press.isColour();
+                pagesPerMinute[p] = press.getMaximumPagesPerMinute();
+                capacity[p] = press.getMaxPaperLoad();
+                paper[p] = Math.max(0, Math.min(press.getCurrentPaperLoad(), press.getMaxPaperLoad()));
+                if (pagesPerMinute[p] <= 0 || capacity[p] <= 0) {
+                    continue;
+                }
+                if (colourPress[p]) {
+                    idleColour[idleColourCount++] = p;
+                    colour = true;
+                } else {
+                    idleMonochrome[idleMonochromeCount++] = p;
+                }
+            }
+            hasColourPress = colour;
+            hasAnyPress = idleColourCount + idleMonochromeCount > 0;
+
+            int jobCount = jobs.size();
+            arrival = new long[jobCount];
+            jobPages = new long[jobCount];
+            jobSheets = new long[jobCount];
+            jobColour = new boolean[jobCount];
+            completion = new long[jobCount];
+            Arrays.fill(completion, -1);
+            for (int j = 0; j < jobCount; j++) {
+                ProductionJob job = jobs.get(j);
+                Edition edition = job.getEdition();
+                arrival[j] = job.getArrivalSecond();
+                jobPages[j] = (long) edition.getNumberOfPages() * job.getCopies();
+                // Two pages per sheet, as PrintingPressService.printItem consumes paper
+                jobSheets[j] = (long) Math.ceil(edition.getNumberOfPages() / 2.0) * job.getCopies();
+                jobColour[j] = job.isColour();
+            }
+            order = sortByArrival(arrival);
+        }
+
+        private void execute() {
+            int next = 0;
+            while (next < order.length || !events.isEmpty()) {
+                long nextArrival = next < order.length ? arrival[order[next]] : Long.MAX_VALUE;
+                long nextCompletion = events.isEmpty() ? Long.MAX_VALUE : events.peek() >>> PRESS_BITS;
+                // Completions first on ties, so a press freed at the same second can take the arriving job
+                if (nextCompletion <= nextArrival) {
+                    long event = events.poll();
+                    advanceTo(nextCompletion);
+                    int press = (int) (event & PRESS_MASK);
+                    completion[runningJob[press]] = now;
+                    release(press);
+                } else {
+                    advanceTo(nextArrival);
+                    arrive(order[next++]);
+                }
+            }
+        }
+
+        private void arrive(int job) {
+            if (!hasAnyPress || jobColour[job] && !hasColourPress) {
+                rejected++;
+                return;
+            }
+            int press = -1;
+            if (jobColour[job]) {
+                if (idleColourCount > 0) press = idleColour[--idleColourCount];
+            } else if (idleMonochromeCount > 0) {
+                press = idleMonochrome[--idleMonochromeCount];
+            } else if (idleColourCount > 0) {
+                press = idleColour[--idleColourCount];
+            }
+            if (press >= 0) {
+                start(press, job);
+            } else if (jobColour[job]) {
+                colourQueue.add(job);
+                maxColourQueue = Math.max(maxColourQueue, colourQueue.size());
+            } else {
+                monochromeQueue.add(job);
+                maxMonochromeQueue = Math.max(maxMonochromeQueue, monochromeQueue.size());
+            }
+        }
+
+        private void release(int press) {
+            if (colourPress[press] && !colourQueue.isEmpty()) {
+                start(press, colourQueue.poll());
+            } else if (!monochromeQueue.isEmpty()) {
+                start(press, monochromeQueue.poll());
+            } else if (colourPress[press]) {
+                idleColour[idleColourCount++] = press;
+            } else {
+                idleMonochrome[idleMonochromeCount++] = press;
+            }
+        }
+
+        private void start(int press, int job) {
+            long wait = now - arrival[job];
+            totalWait += wait;
+            maxWait = Math.max(maxWait, wait);
+            started++;
+
+            long sheets = jobSheets[job];
+            long refillTime = 0;
+            if (sheets > paper[press]) {
+                // Each refill sets the load to the maximum: the first tops the press up before the job, further
+                // ones refill it whenever it runs empty in the middle of a large job
+                long needed = (sheets + capacity[press] - 1) / capacity[press];
+                if (refillSeconds > 0 && needed > MAX_EVENT_SECOND / refillSeconds) {
+                    throw horizonExceeded();
+                }
+                refillTime = needed * refillSeconds;
+                paper[press] = needed * capacity[press] - sheets;
+                refills[press] += (int) needed;
+                refilling[press] += refillTime;
+            } else {
+                paper[press] -= sheets;
+            }
+            long printTime = (jobPages[job] * 60 + pagesPerMinute[press] - 1) / pagesPerMinute[press];
+            // Each term is at most MAX_EVENT_SECOND, so the sum cannot overflow before it is checked
+            if (printTime > MAX_EVENT_SECOND || now + refillTime + printTime > MAX_EVENT_SECOND) {
+                throw horizonExceeded();
+            }
+            long finish = now + refillTime + printTime;
+            busy[press] += printTime;
+            jobsDone[press]++;
+            pagesDone[press] += jobPages[job];
+            runningJob[press] = job;
+            events.add((finish << PRESS_BITS) | press);
+        }
+
+        private static IllegalArgumentException horizonExceeded() {
+            logger.error("Simulated time exceeds {} seconds", MAX_EVENT_SECOND);
+            return new IllegalArgumentException(MessageFormat.format(ExceptionMessages.PRODUCTION_HORIZON_EXCEEDED,
+                    Long.toString(MAX_EVENT_SECOND)));
+        }
+
+        private void advanceTo(long time) {
+            colourQueueArea += colourQueue.size() * (time - now);
+            monochromeQueueArea += monochromeQueue.size() * (time - now);
+            now = time;
+        }
+
+        private ProductionReport report() {
+            long makespan = 0;
+            for (long finished : completion) {
+                makespan = Math.max(makespan, finished);
+            }
+            List<PressUtilization> presses = new ArrayList<>(fleet.size());
+            for (int p = 0; p < fleet.size(); p++) {
+                presses.add(new PressUtilization(fleet.get(p), busy[p], refilling[p],
+                        Math.max(0, makespan - busy[p] - refilling[p]), jobsDone[p], pagesDone[p], refills[p]));
+            }
+            return new ProductionReport(presses, completion, rejected, makespan,
+                    started == 0 ? 0 : (double) totalWait / started, maxWait, maxColourQueue, maxMonochromeQueue,
+                    makespan == 0 ? 0 : (double) colourQueueArea / makespan,
+                    makespan == 0 ? 0 : (double) monochromeQueueArea / makespan);
+        }
+
+        private static int[] sortByArrival(long[] arrival) {
+            int[] order = new int[arrival.length];
+            boolean sorted = true;
+            for (int j = 0; j < order.length; j++) {
+                order[j] = j;
+                sorted &= j == 0 || arrival[j - 1] <= arrival[j];
+            }
+            if (!sorted) {
+                order = Arrays.stream(order).boxed()
+                        .sorted(Comparator.comparingLong(j -> arrival[j]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+            return order;
+        }
+    }
+
+    /**
+     * Growable FIFO ring buffer of job indices.
+     */
+    private static final class IntQueue {
+        private int[] elements = new int[64];
+        private int head;
+        private int size;
+
+        private void add(int value) {
+            if (size == elements.length) {
+                int[] grown = new int[elements.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = elements[(head + i) & (elements.length - 1)];
+                }
+                elements = grown;
+                head = 0;
+            }
+            elements[(head + size++) & (elements.length - 1)] = value;
+        }
+
+        private int poll() {
+            int value = elements[head];
+            head = (head + 1) & (elements.length - 1);
+            size--;
+            return value;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    /**
+     * Binary min-heap of packed events.
+     */
+    private static final class LongHeap {
+        private final long[] heap;
+        private int size;
+
+        private LongHeap(int capacity) {
+            heap = new long[capacity];
+        }
+
+        private void add(long value) {
+            int child = size++;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (heap[parent] <= value) break;
+                heap[child] = heap[parent];
+                child = parent;
+            }
+            heap[child] = value;
+        }
+
+        private long peek() {
+            return heap[0];
+        }
+
+        private long poll() {
+            long top = heap[0];
+            long last = heap[--size];
+            int parent = 0;
+            int half = size >>> 1;
+            while (parent < half) {
+                int child = 2 * parent + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (last <= heap[child]) break;
+                heap[parent] = heap[child];
+                parent = child;
+            }
+            heap[parent] = last;
+            return top;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package services;
+
+import data.models.*;
+import data.reports.BreakdownLine;
+import data.reports.PrintHouseBreakdown;
+import data.reports.ProfitAndLossStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IEmployeeService;
+import services.contracts.IReportService;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.globalconstants.ExceptionMessages;
+import utilities.jfr.ReportEvent;
+import utilities.logging.LogSummary;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Computes financial reports for {@link PrintHouse} instances. Each report makes a single pass over the print
+ * history, accumulating every grouping into flat arrays indexed by press position and enum ordinal.
+ */
+public class ReportService implements IReportService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportService.class);
+    private static final PaperType[] PAPER_TYPES = PaperType.values();
+    private static final Size[] SIZES = Size.values();
+    private final IEmployeeService employeeService;
+
+    public ReportService(IEmployeeService employeeService) {
+        if (employeeService == null) {
+            logger.error("Employee service cannot be null");
+            throw new IllegalArgumentException("Employee service cannot be null");
+        }
+        this.employeeService = employeeService;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PrintHouseBreakdown getBreakdown(PrintHouse printHouse) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        validatePrintHouse(printHouse);
+        List<PrintingPress> presses = printHouse.getPrintingPresses();
+        int paperTypeSlot = presses.size();
+        int sizeSlot = paperTypeSlot + PAPER_TYPES.length;
+        int colourSlot = sizeSlot + SIZES.length;
+        int totalSlot = colourSlot + 2;
+        Accumulator accumulator = new Accumulator(totalSlot + 1);
+
+        ItemPricing pricing = new ItemPricing(printHouse);
+        for (int p = 0; p < presses.size(); p++) {
+            for (Map.Entry<PrintedItem, Integer> entry : presses.get(p).getPrintedItems().entrySet()) {
+                PrintedItem item = entry.getKey();
+                Edition edition = item.getEdition();
+                int copies = entry.getValue();
+                BigDecimal revenue = pricing.revenue(item, copies);
+                BigDecimal cost = pricing.paperCost(item, copies);
+                long pages = (long) edition.getNumberOfPages() * copies;
+
+                accumulator.add(p, copies, pages, revenue, cost);
+                accumulator.add(paperTypeSlot + item.getPaperType().ordinal(), copies, pages, revenue, cost);
+                accumulator.add(sizeSlot + edition.getSize().ordinal(), copies, pages, revenue, cost);
+                accumulator.add(colourSlot + (item.isColour() ? 0 : 1), copies, pages, revenue, cost);
+                accumulator.add(totalSlot, copies, pages, revenue, cost);
+            }
+        }
+
+        List<BreakdownLine> byPress = new ArrayList<>(presses.size());
+        for (int p = 0; p < presses.size(); p++) {
+            byPress.add(accumulator.line(p));
+        }
+        Map<PaperType, BreakdownLine> byPaperType = new EnumMap<>(PaperType.class);
+        for (PaperType paperType : PAPER_TYPES) {
+            byPaperType.put(paperType, accumulator.line(paperTypeSlot + paperType.ordinal()));
+        }
+        Map<Size, BreakdownLine> bySize = new EnumMap<>(Size.class);
+        for (Size size : SIZES) {
+            bySize.put(size, accumulator.line(sizeSlot + size.ordinal()));
+        }
+        PrintHouseBreakdown breakdown = new PrintHouseBreakdown(accumulator.line(totalSlot), byPress, byPaperType,
+                bySize, accumulator.line(colourSlot), accumulator.line(colourSlot + 1));
+        logger.info("Computed breakdown for PrintHouse {}: {}", LogSummary.of(printHouse), breakdown.getTotal());
+        if (event.shouldCommit()) {
+            event.commitFor("breakdown", printHouse);
+        }
+        return breakdown;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProfitAndLossStatement profitAndLoss(PrintHouse printHouse) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        validatePrintHouse(printHouse);
+        ItemPricing pricing = new ItemPricing(printHouse);
+        BigDecimal revenue = BigDecimal.ZERO;
+        BigDecimal paperCost = BigDecimal.ZERO;
+        for (PrintingPress press : printHouse.getPrintingPresses()) {
+            for (Map.Entry<PrintedItem, Integer> entry : press.getPrintedItems().entrySet()) {
+                revenue = revenue.add(pricing.revenue(entry.getKey(), entry.getValue()));
+                paperCost = paperCost.add(pricing.paperCost(entry.getKey(), entry.getValue()));
+            }
+        }
+        boolean targetMet = employeeService.isRevenueTargetMet(printHouse, revenue);
+        BigDecimal payroll = employeeService.getTotalCostForEmployees(printHouse, revenue);
+        ProfitAndLossStatement statement = new ProfitAndLossStatement(revenue, paperCost, payroll, targetMet);
+        logger.info("Computed profit and loss for PrintHouse {}: {}", LogSummary.of(printHouse), statement);
+        if (event.shouldCommit()) {
+            event.commitFor("profitAndLoss", printHouse);
+        }
+        return statement;
+    }
+
+    private void validatePrintHouse(PrintHouse printHouse) {
+        if (printHouse == null) {
+            logger.error(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+            throw new InvalidPrintHouseException(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL);
+        }
+    }
+
+    /**
+     * Parallel arrays of running totals, one slot per group.
+     */
+    private static final class Accumulator {
+        private final long[] copies;
+        private final long[] pages;
+        private final BigDecimal[] revenue;
+        private final BigDecimal[] cost;
+
+        private Accumulator(int slots) {
+            copies = new long[slots];
+            pages = new long[slots];
+            revenue = new BigDecimal[slots];
+            cost = new BigDecimal[slots];
+            Arrays.fill(revenue, BigDecimal.ZERO);
+            Arrays.fill(cost, BigDecimal.ZERO);
+        }
+
+        private void add(int slot, int itemCopies, long itemPages, BigDecimal itemRevenue, BigDecimal itemCost) {
+            copies[slot] += itemCopies;
+            pages[slot] += itemPages;
+            revenue[slot] = revenue[slot].add(itemRevenue);
+            cost[slot] = cost[slot].add(itemCost);
+        }
+
+        private BreakdownLine line(int slot) {
+            return new BreakdownLine(copies[slot], pages[slot], revenue[slot], cost[slot]);
+        }
+    }
+}
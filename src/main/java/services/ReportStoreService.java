@@ -0,0 +1,60 @@
+package services;
+
+import data.models.PrintHouse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import services.contracts.IReportStoreService;
+import services.persistence.MappedReportStore;
+import services.persistence.ReportStoreFormat;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes and opens memory-mapped reporting stores, letting reports run over archived data
+ * without loading it into the live services.
+ */
+public class ReportStoreService implements IReportStoreService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportStoreService.class);
+
+    /** {@inheritDoc} */
+    @Override
+    public void exportReportStore(List<PrintHouse> printHouses, String filePath) {
+        if (printHouses == null) {
+            logger.error("Print houses list cannot be null");
+            throw new IllegalArgumentException("Print houses list cannot be null");
+        }
+        validateFilePath(filePath);
+        try {
+            ReportStoreFormat.write(printHouses, new File(filePath));
+            logger.info("Exported report store for {} print houses to {}", printHouses.size(), filePath);
+        } catch (IOException e) {
+            logger.error("Report store export failed for {}: {}", filePath, e.getMessage(), e);
+            throw new RuntimeException("Report store export failed: " + e.getMessage(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedReportStore openReportStore(String filePath) {
+        validateFilePath(filePath);
+        try {
+            MappedReportStore store = MappedReportStore.open(Path.of(filePath));
+            logger.info("Opened report store {} with {} print houses", filePath, store.getPrintHouseCount());
+            return store;
+        } catch (IOException e) {
+            logger.error("Opening report store failed for {}: {}", filePath, e.getMessage(), e);
+            throw new RuntimeException("Opening report store failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void validateFilePath(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            logger.error("Invalid file path: {}", filePath);
+            throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
+        }
+    }
+}
@@ -3,18 +3,42 @@ package services;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import services.contracts.ISerializationService;
+import services.persistence.SnapshotCodec;
+import services.persistence.SnapshotFormat;
+import utilities.exceptions.CorruptSnapshotException;
 import utilities.globalconstants.ExceptionMessages;
+import utilities.globalconstants.ServicesConstants;
+import utilities.jfr.SnapshotEvent;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Provides serialization and deserialization functionality for objects within the services layer.
+ * Files are written in the {@link SnapshotFormat} container with a configurable {@link SnapshotCodec};
+ * plain Java serialization files written by earlier versions are still readable.
  * @param <T> The type of object to serialize/deserialize, must implement Serializable.
  */
 public class SerializationService<T extends Serializable> implements ISerializationService<T> {
     private static final Logger logger = LoggerFactory.getLogger(SerializationService.class);
+    private final SnapshotCodec codec;
+
+    public SerializationService() {
+        this(SnapshotCodec.NONE);
+    }
+
+    public SerializationService(SnapshotCodec codec) {
+        if (codec == null) {
+            logger.error("Snapshot codec cannot be null");
+            throw new IllegalArgumentException("Snapshot codec cannot be null");
+        }
+        this.codec = codec;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -27,8 +51,8 @@ public class SerializationService<T extends Serializable> implements ISerializat
             logger.error("Entity to serialize cannot be null for filePath: {}", filePath);
             throw new IllegalArgumentException("Entity cannot be null");
         }
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            oos.writeObject(entity);
+        try {
+            writeSnapshot(entity, filePath);
             logger.info("Serialized entity to {}", filePath);
         } catch (IOException e) {
             logger.error("Serialization failed for {}: {}", filePath, e.getMessage(), e);
@@ -47,9 +71,9 @@ public class SerializationService<T extends Serializable> implements ISerializat
             logger.error("Invalid file path: {}", filePath);
             throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
         }
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))) {
-            oos.writeObject(entities);
-            logger.info("Serialized {} entities to {}", entities.size(), filePath);
+        try {
+            writeSnapshot(entities, filePath);
+            logger.info("Serialized {} entities to {} using {}", entities.size(), filePath, codec);
         } catch (IOException e) {
             logger.error("Serialization failed for {}: {}", filePath, e.getMessage(), e);
             throw new RuntimeException("Serialization failed: " + e.getMessage(), e);
@@ -63,13 +87,15 @@ public class SerializationService<T extends Serializable> implements ISerializat
             logger.error("Invalid file path: {}", filePath);
             throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
         }
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
-            T entity = (T) ois.readObject();
+        try {
+            T entity = (T) readSnapshot(filePath);
             logger.info("Deserialized entity from {}", filePath);
             return entity;
-        } catch (IOException | ClassNotFoundException e) {
-            logger.warn("Deserialization failed for {}: {}", filePath, e.getMessage());
+        } catch (FileNotFoundException e) {
+            logger.warn("Deserialization skipped, file not found: {}", filePath);
             return null;
+        } catch (IOException | ClassNotFoundException | ClassCastException | CorruptSnapshotException e) {
+            throw corrupted(filePath, e);
         }
     }
 
@@ -80,13 +106,87 @@ public class SerializationService<T extends Serializable> implements ISerializat
             logger.error("Invalid file path: {}", filePath);
             throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
         }
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath))) {
-            List<T> entities = (List<T>) ois.readObject();
+        try {
+            List<T> entities = (List<T>) readSnapshot(filePath);
             logger.info("Deserialized {} entities from {}", entities.size(), filePath);
             return entities;
-        } catch (IOException | ClassNotFoundException e) {
-            logger.warn("Deserialization failed for {}: {}, returning empty list", filePath, e.getMessage());
+        } catch (FileNotFoundException e) {
+            logger.warn("Deserialization skipped, file not found: {}, returning empty list", filePath);
             return new ArrayList<>();
+        } catch (IOException | ClassNotFoundException | ClassCastException | CorruptSnapshotException e) {
+            throw corrupted(filePath, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void verify(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            logger.error("Invalid file path: {}", filePath);
+            throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
         }
+        try {
+            SnapshotFormat.verify(Path.of(filePath));
+            logger.info("Verified snapshot {}", filePath);
+        } catch (NoSuchFileException e) {
+            logger.error("Snapshot to verify not found: {}", filePath);
+            throw new IllegalArgumentException(MessageFormat.format(ServicesConstants.FILE_NOT_FOUND, filePath), e);
+        } catch (IOException | CorruptSnapshotException e) {
+            throw corrupted(filePath, e);
+        }
+    }
+
+    private void writeSnapshot(Object graph, String filePath) throws IOException {
+        SnapshotEvent event = new SnapshotEvent();
+        event.begin();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+        // Editions share canonical title instances, so the stream writes each distinct title once and back-references it
+        try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+            oos.writeObject(graph);
+        }
+        try (OutputStream out = new FileOutputStream(filePath)) {
+            SnapshotFormat.write(out, buffer.toByteArray(), codec);
+        }
+        commitSnapshot(event, SnapshotEvent.SAVE, filePath, graph, buffer.size());
+    }
+
+    private Object readSnapshot(String filePath) throws IOException, ClassNotFoundException {
+        SnapshotEvent event = new SnapshotEvent();
+        event.begin();
+        try (InputStream in = new BufferedInputStream(new FileInputStream(filePath), 64 * 1024)) {
+            byte[] expanded = null;
+            InputStream payload = in;
+            if (!SnapshotFormat.isLegacyStream(in)) {
+                expanded = SnapshotFormat.read(in);
+                payload = new ByteArrayInputStream(expanded);
+            }
+            try (ObjectInputStream ois = new ObjectInputStream(payload)) {
+                Object graph = ois.readObject();
+                commitSnapshot(event, SnapshotEvent.LOAD, filePath, graph, expanded == null ? -1 : expanded.length);
+                return graph;
+            }
+        }
+    }
+
+    private void commitSnapshot(SnapshotEvent event, String operation, String filePath, Object graph, long serializedBytes)
+            throws IOException {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.path = filePath;
+            event.codec = SnapshotEvent.SAVE.equals(operation) ? codec.name() : null;
+            event.entities = graph instanceof List<?> list ? list.size() : 1;
+            event.serializedBytes = serializedBytes;
+            event.fileBytes = Files.size(Path.of(filePath));
+            event.commit();
+        }
+    }
+
+    private CorruptSnapshotException corrupted(String filePath, Exception cause) {
+        int blockIndex = cause instanceof CorruptSnapshotException corrupt
+                ? corrupt.getBlockIndex()
+                : CorruptSnapshotException.HEADER_BLOCK;
+        String message = MessageFormat.format(ServicesConstants.SNAPSHOT_FILE_CORRUPTED, filePath, cause.getMessage());
+        logger.error(message);
+        return new CorruptSnapshotException(message, blockIndex, cause);
     }
-}
\ No newline at end of file
+}
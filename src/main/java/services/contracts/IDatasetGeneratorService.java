@@ -0,0 +1,43 @@
+package services.contracts;
+
+import data.models.PrintHouse;
+import services.generation.DatasetSpec;
+
+import java.util.List;
+
+/**
+ * Defines deterministic generation of large synthetic datasets of {@link PrintHouse} entities with employees,
+ * printing presses, editions and print history, for performance tests, benchmarks and demonstrations.
+ * All generated data passes the services' validation.
+ * <p>
+ * Datasets are built in memory, so a dataset cannot be larger than the heap; every method rejects a specification
+ * whose estimated footprint exceeds the maximum heap with an {@link IllegalArgumentException}. Larger volumes must
+ * be generated in several smaller parts.
+ */
+public interface IDatasetGeneratorService {
+    /**
+     * Generates print houses through the application services, so they are registered like user-created ones and
+     * their editions are added to the edition service.
+     *
+     * @param spec the dataset specification
+     * @return the generated print houses
+     */
+    List<PrintHouse> populate(DatasetSpec spec);
+
+    /**
+     * Generates print houses without registering them anywhere.
+     *
+     * @param spec the dataset specification
+     * @return the generated print houses
+     */
+    List<PrintHouse> generate(DatasetSpec spec);
+
+    /**
+     * Generates print houses and writes them to a snapshot file readable by {@link IPrintHouseService#loadAllPrintHouses}.
+     * The dataset and its serialized form are held in memory together, so the heap must fit about twice the dataset.
+     *
+     * @param spec     the dataset specification
+     * @param filePath the snapshot file to write
+     */
+    void writeSnapshot(DatasetSpec spec, String filePath);
+}
@@ -0,0 +1,86 @@
+package services.contracts;
+
+import data.models.Edition;
+import data.models.PrintHouse;
+import data.models.Size;
+
+/**
+ * Defines a shared, reference-counted catalog of canonical {@link Edition} instances.
+ * Editions with the same title, page count and size resolve to one canonical instance, so every print house and
+ * printed item producing the same title references a single object. Canonical editions must be treated as immutable.
+ */
+public interface IEditionCatalogService {
+    /**
+     * Returns the canonical instance for the edition's title, page count and size and takes a reference to it.
+     * If no such edition is catalogued yet, a copy of the given edition becomes the canonical one; the given instance
+     * itself is never catalogued.
+     *
+     * @param edition the edition to resolve
+     * @return the canonical edition
+     */
+    Edition acquire(Edition edition);
+
+    /**
+     * Returns the canonical instance for the given attributes and takes a reference to it, creating it if needed.
+     *
+     * @param title         the edition title
+     * @param numberOfPages the page count
+     * @param size          the edition size
+     * @return the canonical edition
+     */
+    Edition acquire(String title, int numberOfPages, Size size);
+
+    /**
+     * Drops one reference to a canonical edition. The edition leaves the catalog when its last reference is released.
+     * Editions that are not canonical instances of this catalog are ignored.
+     *
+     * @param edition the canonical edition to release
+     */
+    void release(Edition edition);
+
+    /**
+     * Resolves the printed items of a print house to canonical editions, taking a reference for each item.
+     * Used after a print house has been loaded from a snapshot.
+     *
+     * @param printHouse the print house whose printed items are resolved
+     */
+    void acquirePrintedItems(PrintHouse printHouse);
+
+    /**
+     * Releases the references held by the printed items of a print house.
+     *
+     * @param printHouse the print house whose printed items are released
+     */
+    void releasePrintedItems(PrintHouse printHouse);
+
+    /**
+     * Returns the catalog ID of a canonical edition.
+     *
+     * @param edition the canonical edition
+     * @return the edition's ID
+     */
+    long getId(Edition edition);
+
+    /**
+     * Looks up a canonical edition by ID.
+     *
+     * @param id the catalog ID
+     * @return the canonical edition
+     */
+    Edition getEdition(long id);
+
+    /**
+     * Returns the number of references currently held to a canonical edition.
+     *
+     * @param edition the canonical edition
+     * @return the reference count, or zero if the edition is not catalogued
+     */
+    int getReferenceCount(Edition edition);
+
+    /**
+     * Returns the number of distinct editions in the catalog.
+     *
+     * @return the catalog size
+     */
+    int size();
+}
@@ -0,0 +1,36 @@
+package services.contracts;
+
+import data.models.Edition;
+import data.models.PrintHouse;
+import services.persistence.EditionImportResult;
+
+import java.io.Reader;
+
+/**
+ * Defines bulk import of {@link Edition} catalogs into a {@link PrintHouse}.
+ * <p>
+ * The input is CSV with one edition per line as {@code title,pages,size}, optionally preceded by that header.
+ * Titles containing commas or quotes are quoted, with embedded quotes doubled.
+ */
+public interface IEditionImportService {
+    /** The optional header line of an import file. */
+    String HEADER = "title,pages,size";
+
+    /**
+     * Imports the editions listed in a file into a print house.
+     *
+     * @param printHouse the print house to import into
+     * @param filePath   the catalog file
+     * @return the import summary
+     */
+    EditionImportResult importEditions(PrintHouse printHouse, String filePath);
+
+    /**
+     * Imports the editions read from a character stream into a print house. The reader is not closed.
+     *
+     * @param printHouse the print house to import into
+     * @param reader     the catalog source
+     * @return the import summary
+     */
+    EditionImportResult importEditions(PrintHouse printHouse, Reader reader);
+}
@@ -18,11 +18,23 @@ public interface IEditionService {
      */
     void addEdition(PrintHouse printHouse, Edition edition);
 
+    /**
+     * Adds several editions to the specified print house in one write. Editions already in the print house,
+     * or repeated within the batch, are skipped.
+     *
+     * @param printHouse the print house to which the editions are added
+     * @param editions   the editions to add
+     * @return the number of editions added
+     */
+    int addEditions(PrintHouse printHouse, List<Edition> editions);
+
     /**
      * Retrieves all editions associated with the specified print house.
+     * The result is an unmodifiable snapshot: it is not copied on each call, and later changes to the print house's
+     * editions do not affect it.
      *
      * @param printHouse the print house whose editions are to be retrieved
-     * @return a list of editions
+     * @return an unmodifiable list of editions
      */
     List<Edition> getEditions(PrintHouse printHouse);
 
@@ -70,4 +82,32 @@ public interface IEditionService {
      * @param filePath   The base file path (will be appended with PrintHouse index).
      */
     void loadEditions(PrintHouse printHouse, String filePath);
-}
\ No newline at end of file
+
+    /**
+     * Finds the editions of a print house whose title starts with the given prefix, ignoring case.
+     *
+     * @param printHouse the print house to search
+     * @param prefix     the title prefix; an empty prefix matches every edition
+     * @return the matching editions, ordered by title
+     */
+    List<Edition> findByTitlePrefix(PrintHouse printHouse, String prefix);
+
+    /**
+     * Finds the editions of a print house with the given size.
+     *
+     * @param printHouse the print house to search
+     * @param size       the edition size
+     * @return the matching editions, ordered by title
+     */
+    List<Edition> findBySize(PrintHouse printHouse, Size size);
+
+    /**
+     * Finds the editions of a print house whose page count lies within the given inclusive range.
+     *
+     * @param printHouse the print house to search
+     * @param minPages   the minimum page count
+     * @param maxPages   the maximum page count
+     * @return the matching editions, ordered by page count
+     */
+    List<Edition> findByPageRange(PrintHouse printHouse, int minPages, int maxPages);
+}
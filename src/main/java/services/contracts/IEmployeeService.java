@@ -39,6 +39,24 @@ public interface IEmployeeService {
      */
     BigDecimal getTotalCostForEmployees(PrintHouse printHouse);
 
+    /**
+     * Calculates the total cost for all employees using a revenue figure the caller has already computed,
+     * avoiding another pass over the print history.
+     * @param printHouse The print house to calculate costs for.
+     * @param revenue The print house's total revenue.
+     * @return The total employee cost.
+     */
+    BigDecimal getTotalCostForEmployees(PrintHouse printHouse, BigDecimal revenue);
+
+    /**
+     * Checks whether a revenue figure reaches the print house's revenue target, which makes eligible roles
+     * receive the salary increment.
+     * @param printHouse The print house whose target is evaluated.
+     * @param revenue The print house's total revenue.
+     * @return true if the revenue target is met.
+     */
+    boolean isRevenueTargetMet(PrintHouse printHouse, BigDecimal revenue);
+
     /**
      * Retrieves the list of employees in the specified print house.
      * @param printHouse The print house to get employees from.
@@ -0,0 +1,49 @@
+package services.contracts;
+
+import data.models.PrintHouse;
+import data.models.PrintedItem;
+import services.persistence.ExportFormat;
+
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Defines operations for streaming the print history out of the system in text formats.
+ */
+public interface IExportService {
+    /** House index value that exports every print house. */
+    int ALL_PRINT_HOUSES = -1;
+
+    /**
+     * Exports every {@link PrintedItem} of all print houses to a file.
+     *
+     * @param printHouses the print houses to export
+     * @param filePath    the file path to write to
+     * @param format      the output format
+     * @return the number of records written
+     */
+    long exportPrintHistory(List<PrintHouse> printHouses, String filePath, ExportFormat format);
+
+    /**
+     * Exports every {@link PrintedItem} of one print house, or of all houses, to a file.
+     *
+     * @param printHouses the print houses to export
+     * @param houseIndex  the index of the house to export, or {@link #ALL_PRINT_HOUSES}
+     * @param filePath    the file path to write to
+     * @param format      the output format
+     * @return the number of records written
+     */
+    long exportPrintHistory(List<PrintHouse> printHouses, int houseIndex, String filePath, ExportFormat format);
+
+    /**
+     * Streams every {@link PrintedItem} of one print house, or of all houses, to a writer.
+     * Records are written as they are visited; nothing is collected in memory. The writer is flushed but not closed.
+     *
+     * @param printHouses the print houses to export
+     * @param houseIndex  the index of the house to export, or {@link #ALL_PRINT_HOUSES}
+     * @param writer      the destination
+     * @param format      the output format
+     * @return the number of records written
+     */
+    long exportPrintHistory(List<PrintHouse> printHouses, int houseIndex, Writer writer, ExportFormat format);
+}
@@ -0,0 +1,26 @@
+package services.contracts;
+
+import data.models.PrintHouse;
+import data.reports.PolicyRanges;
+import data.reports.PolicySimulationResult;
+
+/**
+ * Defines what-if simulation of pricing and salary policies against a {@link PrintHouse}'s print history and staff.
+ * Simulations never modify the print house.
+ */
+public interface IPolicySimulationService {
+    /** Largest number of variants a single simulation may evaluate. */
+    int MAX_VARIANTS = 1_000_000;
+
+    /**
+     * Evaluates randomly sampled policy variants against a print house's recorded print jobs and employees.
+     * The same seed always produces the same result.
+     *
+     * @param printHouse the print house whose history and staff are used
+     * @param ranges     the ranges each policy field is sampled from
+     * @param variants   the number of variants to evaluate, at most {@link #MAX_VARIANTS}
+     * @param seed       the random seed
+     * @return the distributions of revenue, paper cost, payroll and net profit over the variants
+     */
+    PolicySimulationResult simulate(PrintHouse printHouse, PolicyRanges ranges, int variants, long seed);
+}
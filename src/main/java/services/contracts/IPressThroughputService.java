@@ -0,0 +1,62 @@
+package services.contracts;
+
+import data.models.Edition;
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import data.reports.PressThroughput;
+import data.reports.PrintEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Defines timestamped print tracking and rolling throughput of {@link PrintingPress} entities.
+ * Throughput is available for trailing windows of up to {@link #MAX_WINDOW}.
+ */
+public interface IPressThroughputService {
+    /** Longest window for which throughput is retained. */
+    Duration MAX_WINDOW = Duration.ofHours(1);
+
+    /**
+     * Records a completed print job on a press at the current time.
+     *
+     * @param press   the press that printed
+     * @param edition the printed edition
+     * @param copies  the number of copies printed
+     * @param colour  whether the job was printed in colour
+     */
+    void recordPrint(PrintingPress press, Edition edition, int copies, boolean colour);
+
+    /**
+     * Returns the most recent print jobs of a press, oldest first. Only a bounded number of jobs is retained per press.
+     *
+     * @param press the printing press
+     * @return the recent print events
+     */
+    List<PrintEvent> getRecentEvents(PrintingPress press);
+
+    /**
+     * Returns the throughput of a press over a trailing window ending now.
+     *
+     * @param press  the printing press
+     * @param window the window length, between one second and {@link #MAX_WINDOW}
+     * @return the throughput
+     */
+    PressThroughput getThroughput(PrintingPress press, Duration window);
+
+    /**
+     * Returns the throughput of every press in a print house over a trailing window, most utilized first.
+     *
+     * @param printHouse the print house
+     * @param window     the window length, between one second and {@link #MAX_WINDOW}
+     * @return the presses' throughput, bottlenecks first
+     */
+    List<PressThroughput> getBottlenecks(PrintHouse printHouse, Duration window);
+
+    /**
+     * Discards the history of a press, e.g. after it was removed from its print house.
+     *
+     * @param press the printing press
+     */
+    void forget(PrintingPress press);
+}
@@ -78,9 +78,37 @@ public interface IPrintHouseService {
     void saveAllPrintHouses(String filePath);
 
     /**
-     * Loads print houses from a file, replacing current data.
+     * Loads print houses from a file, replacing current data. Current data is left untouched if the file is damaged.
      *
      * @param filePath the file path to load from
+     * @throws utilities.exceptions.CorruptSnapshotException if the file exists but is damaged or unreadable
      */
     void loadAllPrintHouses(String filePath);
+
+    /**
+     * Saves all print houses to a directory as a set of shard files plus a manifest recording their order.
+     * Shards are written concurrently on a bounded pool.
+     *
+     * @param directoryPath  the directory to write the shards and manifest to; created if missing
+     * @param housesPerShard the maximum number of print houses stored in one shard
+     */
+    void saveAllPrintHousesSharded(String directoryPath, int housesPerShard);
+
+    /**
+     * Loads print houses from a sharded directory written by {@link #saveAllPrintHousesSharded(String, int)},
+     * replacing current data. Shards are read concurrently and the original order is restored.
+     * Current data is left untouched if any shard is missing or damaged.
+     *
+     * @param directoryPath the directory holding the shards and manifest
+     * @throws utilities.exceptions.CorruptSnapshotException if the manifest or a shard is missing or damaged
+     */
+    void loadAllPrintHousesSharded(String directoryPath);
+
+    /**
+     * Verifies the integrity of a saved print house file without loading it.
+     *
+     * @param filePath the file path to verify
+     * @throws utilities.exceptions.CorruptSnapshotException if the file is damaged, identifying the offending block
+     */
+    void verifySavedPrintHouses(String filePath);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package services.contracts;
 
 import data.models.*;
+import data.reports.RankedItem;
+import data.reports.RankingMetric;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Defines operations for managing {@link PrintingPress} entities and printing operations within a {@link PrintHouse}.
@@ -96,4 +99,49 @@ public interface IPrintingPressService {
      * @param amount     the amount of paper to load
      */
     public void loadPaper(PrintHouse printHouse, PrintingPress press, int amount);
-}
\ No newline at end of file
+
+    /**
+     * Returns the editions with the highest value for a metric in one print house, highest first.
+     *
+     * @param printHouse the {@link PrintHouse} to rank
+     * @param metric     the {@link RankingMetric} to rank by
+     * @param limit      the maximum number of editions to return
+     * @return the top editions with their values
+     */
+    List<RankedItem<Edition>> getTopEditions(PrintHouse printHouse, RankingMetric metric, int limit);
+
+    /**
+     * Returns the editions with the highest value for a metric across several print houses, highest first.
+     * Editions with the same title, page count and size are counted as one.
+     * <p>
+     * Runs in time linear in the number of printed items. Memory is linear in the number of distinct editions,
+     * because an edition's total is only known once all of its printed items have been summed; only the final
+     * selection is bounded by {@code limit}.
+     *
+     * @param printHouses the print houses to rank
+     * @param metric      the {@link RankingMetric} to rank by
+     * @param limit       the maximum number of editions to return
+     * @return the top editions with their values
+     */
+    List<RankedItem<Edition>> getTopEditions(List<PrintHouse> printHouses, RankingMetric metric, int limit);
+
+    /**
+     * Returns the printing presses with the highest value for a metric in one print house, highest first.
+     *
+     * @param printHouse the {@link PrintHouse} to rank
+     * @param metric     the {@link RankingMetric} to rank by
+     * @param limit      the maximum number of presses to return
+     * @return the top presses with their values
+     */
+    List<RankedItem<PrintingPress>> getTopPrintingPresses(PrintHouse printHouse, RankingMetric metric, int limit);
+
+    /**
+     * Returns the printing presses with the highest value for a metric across several print houses, highest first.
+     *
+     * @param printHouses the print houses to rank
+     * @param metric      the {@link RankingMetric} to rank by
+     * @param limit       the maximum number of presses to return
+     * @return the top presses with their values
+     */
+    List<RankedItem<PrintingPress>> getTopPrintingPresses(List<PrintHouse> printHouses, RankingMetric metric, int limit);
+}
@@ -0,0 +1,41 @@
+package services.contracts;
+
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import data.reports.ProductionJob;
+import data.reports.ProductionReport;
+
+import java.util.List;
+
+/**
+ * Defines discrete-event simulation of print jobs on a {@link PrintHouse}'s {@link PrintingPress} fleet.
+ * Simulations work on copies of the presses' state and never modify the print house.
+ */
+public interface IProductionSimulationService {
+    /** Latest arrival time a job may have, in simulated seconds. */
+    long MAX_ARRIVAL_SECOND = 1L << 40;
+
+    /**
+     * Replays jobs against the print house's presses in simulated time. Each press prints at its maximum pages per
+     * minute, uses paper like {@link IPrintingPressService#printItem} and is refilled to its maximum load whenever a
+     * job needs more paper than it holds. Colour jobs only run on colour presses; monochrome jobs run on any press,
+     * preferring monochrome ones. Waiting jobs are served first come, first served.
+     *
+     * @param printHouse    the print house whose presses are simulated
+     * @param jobs          the jobs to print, in any order
+     * @param refillSeconds the time a paper refill takes
+     * @return press activity, queue lengths, waits and completion times
+     */
+    ProductionReport simulate(PrintHouse printHouse, List<ProductionJob> jobs, long refillSeconds);
+
+    /**
+     * Builds a job queue that repeats the print house's recorded printed items every day, each submitted at a random
+     * time during the working day.
+     *
+     * @param printHouse the print house whose print history is replayed
+     * @param days       the number of simulated days
+     * @param seed       the random seed
+     * @return the jobs, ordered by arrival
+     */
+    List<ProductionJob> replayHistory(PrintHouse printHouse, int days, long seed);
+}
@@ -0,0 +1,30 @@
+package services.contracts;
+
+import data.models.PrintHouse;
+import data.reports.PrintHouseBreakdown;
+import data.reports.ProfitAndLossStatement;
+
+/**
+ * Defines financial reports over the print history of a {@link PrintHouse}.
+ */
+public interface IReportService {
+    /**
+     * Computes the revenue and paper cost breakdown of a print house by printing press, paper type, size and
+     * colour in one pass over its print history. The totals equal those of
+     * {@link IPrintingPressService#getTotalRevenue(PrintHouse)} and
+     * {@link IPrintingPressService#getTotalCostForPrint(PrintHouse)}.
+     *
+     * @param printHouse the print house to report on
+     * @return the breakdown
+     */
+    PrintHouseBreakdown getBreakdown(PrintHouse printHouse);
+
+    /**
+     * Computes the profit-and-loss statement of a print house: revenue, paper cost, payroll and margins.
+     * The print history is traversed once and the resulting revenue also decides the payroll's salary increment.
+     *
+     * @param printHouse the print house to report on
+     * @return the statement
+     */
+    ProfitAndLossStatement profitAndLoss(PrintHouse printHouse);
+}
@@ -0,0 +1,31 @@
+package services.contracts;
+
+import data.models.PrintHouse;
+import services.persistence.MappedReportStore;
+
+import java.util.List;
+
+/**
+ * Defines operations for writing and opening read-only reporting stores of the print history.
+ */
+public interface IReportStoreService {
+    /**
+     * Writes the print history of the given print houses to a flat, memory-mappable reporting store.
+     *
+     * @param printHouses the print houses to export, in report index order
+     * @param filePath    the file path to write to
+     * @throws IllegalArgumentException if the list or file path is null or empty
+     * @throws RuntimeException         if writing fails
+     */
+    void exportReportStore(List<PrintHouse> printHouses, String filePath);
+
+    /**
+     * Opens a reporting store for read-only queries. The caller must close the returned store.
+     *
+     * @param filePath the file path of the store
+     * @return the opened {@link MappedReportStore}
+     * @throws IllegalArgumentException if the file path is null or empty
+     * @throws RuntimeException         if the file cannot be opened or is not a reporting store
+     */
+    MappedReportStore openReportStore(String filePath);
+}
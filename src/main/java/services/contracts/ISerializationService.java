@@ -37,8 +37,9 @@ public interface ISerializationService<T extends Serializable> {
      * Deserializes a single object from the specified file path.
      *
      * @param filePath the file path to read from
-     * @return the deserialized object, or null if deserialization fails
+     * @return the deserialized object, or null if the file does not exist
      * @throws IllegalArgumentException if the file path is null or empty
+     * @throws utilities.exceptions.CorruptSnapshotException if the file exists but is damaged or unreadable
      */
     T deserializeSingleObject(String filePath);
 
@@ -46,8 +47,18 @@ public interface ISerializationService<T extends Serializable> {
      * Deserializes a list of objects from the specified file path.
      *
      * @param filePath the file path to read from
-     * @return the list of deserialized objects, or an empty list if deserialization fails
+     * @return the list of deserialized objects, or an empty list if the file does not exist
      * @throws IllegalArgumentException if the file path is null or empty
+     * @throws utilities.exceptions.CorruptSnapshotException if the file exists but is damaged or unreadable
      */
     List<T> deserialize(String filePath);
+
+    /**
+     * Verifies the block checksums of a saved file without deserializing it.
+     *
+     * @param filePath the file path to verify
+     * @throws IllegalArgumentException if the file path is null or empty
+     * @throws utilities.exceptions.CorruptSnapshotException if the file is damaged, identifying the offending block
+     */
+    void verify(String filePath);
 }
\ No newline at end of file
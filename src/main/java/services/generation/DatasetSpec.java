@@ -0,0 +1,44 @@
+package services.generation;
+
+/**
+ * Immutable description of a synthetic dataset: how many print houses to generate and what each one contains.
+ * The same specification always produces the same dataset.
+ */
+public final class DatasetSpec {
+    private final long seed;
+    private final int printHouses;
+    private final int employeesPerHouse;
+    private final int pressesPerHouse;
+    private final int editionsPerHouse;
+    private final int printRecordsPerHouse;
+
+    public DatasetSpec(long seed, int printHouses, int employeesPerHouse, int pressesPerHouse,
+                       int editionsPerHouse, int printRecordsPerHouse) {
+        this.seed = seed;
+        this.printHouses = printHouses;
+        this.employeesPerHouse = employeesPerHouse;
+        this.pressesPerHouse = pressesPerHouse;
+        this.editionsPerHouse = editionsPerHouse;
+        this.printRecordsPerHouse = printRecordsPerHouse;
+    }
+
+    public long getSeed() { return seed; }
+
+    public int getPrintHouses() { return printHouses; }
+
+    public int getEmployeesPerHouse() { return employeesPerHouse; }
+
+    public int getPressesPerHouse() { return pressesPerHouse; }
+
+    public int getEditionsPerHouse() { return editionsPerHouse; }
+
+    /** @return the number of print jobs per house; each job is one {@code printItem} call */
+    public int getPrintRecordsPerHouse() { return printRecordsPerHouse; }
+
+    @Override
+    public String toString() {
+        return "DatasetSpec{seed=" + seed + ", printHouses=" + printHouses + ", employeesPerHouse=" + employeesPerHouse
+                + ", pressesPerHouse=" + pressesPerHouse + ", editionsPerHouse=" + editionsPerHouse
+                + ", printRecordsPerHouse=" + printRecordsPerHouse + "}";
+    }
+}
@@ -0,0 +1,43 @@
+package services.persistence;
+
+import java.util.List;
+
+/**
+ * Immutable summary of a bulk edition import.
+ */
+public final class EditionImportResult {
+    private final long rowsRead;
+    private final long imported;
+    private final long duplicates;
+    private final long rejected;
+    private final List<String> errors;
+
+    public EditionImportResult(long rowsRead, long imported, long duplicates, long rejected, List<String> errors) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.rejected = rejected;
+        this.errors = List.copyOf(errors);
+    }
+
+    /** @return the number of data rows read, excluding the header and blank lines */
+    public long getRowsRead() { return rowsRead; }
+
+    /** @return the number of editions added to the print house */
+    public long getImported() { return imported; }
+
+    /** @return the number of rows skipped because the edition already existed or was repeated in the file */
+    public long getDuplicates() { return duplicates; }
+
+    /** @return the number of rows that failed validation */
+    public long getRejected() { return rejected; }
+
+    /** @return messages for the first rejected rows, each prefixed with its line number */
+    public List<String> getErrors() { return errors; }
+
+    @Override
+    public String toString() {
+        return "EditionImportResult{rowsRead=" + rowsRead + ", imported=" + imported + ", duplicates=" + duplicates
+                + ", rejected=" + rejected + "}";
+    }
+}
@@ -0,0 +1,11 @@
+package services.persistence;
+
+/**
+ * Text formats supported by the print history export.
+ */
+public enum ExportFormat {
+    /** Comma-separated values with a header row, quoted per RFC 4180 where needed. */
+    CSV,
+    /** One JSON object per line. */
+    JSON_LINES
+}
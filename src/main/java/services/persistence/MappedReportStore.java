@@ -0,0 +1,218 @@
+package services.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view over a file written by {@link ReportStoreFormat}. Each house region is memory-mapped on first use
+ * and the financial totals are computed directly from the mapped bytes, without rebuilding any domain objects.
+ * The arithmetic mirrors {@code PrintingPressService}, so totals match those of the live service for the same data.
+ */
+public class MappedReportStore implements Closeable {
+    private final FileChannel channel;
+    private final long[] houseOffsets;
+    private final MappedByteBuffer[] houses;
+
+    private MappedReportStore(FileChannel channel, long[] houseOffsets) {
+        this.channel = channel;
+        this.houseOffsets = houseOffsets;
+        this.houses = new MappedByteBuffer[houseOffsets.length - 1];
+    }
+
+    /**
+     * Opens a report store for reading.
+     *
+     * @param path the store file
+     * @return the opened store
+     * @throws IOException if the file cannot be read or is not a report store
+     */
+    public static MappedReportStore open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(channel.size(), ReportStoreFormat.HEADER_BYTES));
+            header.order(ByteOrder.BIG_ENDIAN);
+            if (header.limit() < ReportStoreFormat.HEADER_BYTES || header.getInt(0) != ReportStoreFormat.MAGIC) {
+                throw new IOException("Not a report store: " + path);
+            }
+            if (header.getInt(4) != ReportStoreFormat.VERSION) {
+                throw new IOException("Unsupported report store version: " + header.getInt(4));
+            }
+            int houseCount = header.getInt(8);
+            long tableBytes = 8L * (houseCount + 1);
+            if (houseCount < 0 || ReportStoreFormat.HEADER_BYTES + tableBytes > channel.size()) {
+                throw new IOException("Corrupt report store header: " + path);
+            }
+            MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, ReportStoreFormat.HEADER_BYTES, tableBytes);
+            long[] offsets = new long[houseCount + 1];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = table.getLong(i * 8);
+                if (offsets[i] > channel.size() || (i > 0 && offsets[i] < offsets[i - 1])) {
+                    throw new IOException("Corrupt report store offset table: " + path);
+                }
+            }
+            return new MappedReportStore(channel, offsets);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of print houses in the store.
+     *
+     * @return the house count
+     */
+    public int getPrintHouseCount() {
+        return houses.length;
+    }
+
+    /**
+     * Returns the number of printing presses stored for a house.
+     *
+     * @param houseIndex the house index
+     * @return the press count
+     * @throws IOException if the house region cannot be mapped
+     */
+    public int getPrintingPressCount(int houseIndex) throws IOException {
+        return house(houseIndex).getInt(28);
+    }
+
+    /**
+     * Calculates the total revenue of a house, applying its bulk discount.
+     *
+     * @param houseIndex the house index
+     * @return the total revenue
+     * @throws IOException if the house region cannot be mapped
+     */
+    public BigDecimal getTotalRevenue(int houseIndex) throws IOException {
+        MappedByteBuffer house = house(houseIndex);
+        int discountCount = house.getInt(12);
+        BigDecimal discountFactor = BigDecimal.ONE.subtract(decimal(house, 16)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+        BigDecimal total = BigDecimal.ZERO;
+        int position = ReportStoreFormat.HOUSE_BYTES;
+        int pressCount = house.getInt(28);
+        for (int p = 0; p < pressCount; p++) {
+            int itemCount = house.getInt(position);
+            position += ReportStoreFormat.PRESS_BYTES;
+            for (int i = 0; i < itemCount; i++, position += ReportStoreFormat.ITEM_BYTES) {
+                int copies = house.getInt(position + 8);
+                BigDecimal price = decimal(house, position + 12);
+                if (copies > discountCount) {
+                    price = price.multiply(discountFactor);
+                }
+                total = total.add(price.multiply(BigDecimal.valueOf(copies)));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculates the total paper cost of everything a house has printed.
+     *
+     * @param houseIndex the house index
+     * @return the total print cost
+     * @throws IOException if the house region cannot be mapped
+     */
+    public BigDecimal getTotalCostForPrint(int houseIndex) throws IOException {
+        MappedByteBuffer house = house(houseIndex);
+        BigDecimal[][] costPerPage = PaperCostTable.costPerPage(decimal(house, 0));
+        BigDecimal total = BigDecimal.ZERO;
+        int position = ReportStoreFormat.HOUSE_BYTES;
+        int pressCount = house.getInt(28);
+        for (int p = 0; p < pressCount; p++) {
+            int itemCount = house.getInt(position);
+            position += ReportStoreFormat.PRESS_BYTES;
+            for (int i = 0; i < itemCount; i++, position += ReportStoreFormat.ITEM_BYTES) {
+                int pages = house.getInt(position);
+                BigDecimal cost = costPerPage[house.get(position + 5)][house.get(position + 4)]
+                        .multiply(BigDecimal.valueOf(pages));
+                total = total.add(cost.multiply(BigDecimal.valueOf(house.getInt(position + 8))));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculates the total number of pages printed by a house.
+     *
+     * @param houseIndex the house index
+     * @return the total printed pages
+     * @throws IOException if the house region cannot be mapped
+     */
+    public long getTotalPrintedPages(int houseIndex) throws IOException {
+        MappedByteBuffer house = house(houseIndex);
+        long total = 0;
+        int position = ReportStoreFormat.HOUSE_BYTES;
+        int pressCount = house.getInt(28);
+        for (int p = 0; p < pressCount; p++) {
+            int itemCount = house.getInt(position);
+            position += ReportStoreFormat.PRESS_BYTES;
+            for (int i = 0; i < itemCount; i++, position += ReportStoreFormat.ITEM_BYTES) {
+                total += (long) house.getInt(position) * house.getInt(position + 8);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Calculates the total number of pages printed by one press of a house.
+     *
+     * @param houseIndex the house index
+     * @param pressIndex the press index within the house
+     * @return the total printed pages
+     * @throws IOException if the house region cannot be mapped
+     */
+    public long getTotalPrintedPages(int houseIndex, int pressIndex) throws IOException {
+        MappedByteBuffer house = house(houseIndex);
+        int pressCount = house.getInt(28);
+        if (pressIndex < 0 || pressIndex >= pressCount) {
+            throw new IndexOutOfBoundsException("Invalid printing press index: " + pressIndex);
+        }
+        int position = ReportStoreFormat.HOUSE_BYTES;
+        for (int p = 0; p < pressIndex; p++) {
+            position += ReportStoreFormat.PRESS_BYTES + ReportStoreFormat.ITEM_BYTES * house.getInt(position);
+        }
+        int itemCount = house.getInt(position);
+        position += ReportStoreFormat.PRESS_BYTES;
+        long total = 0;
+        for (int i = 0; i < itemCount; i++, position += ReportStoreFormat.ITEM_BYTES) {
+            total += (long) house.getInt(position) * house.getInt(position + 8);
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private MappedByteBuffer house(int houseIndex) throws IOException {
+        if (houseIndex < 0 || houseIndex >= houses.length) {
+            throw new IndexOutOfBoundsException("Invalid print house index: " + houseIndex);
+        }
+        MappedByteBuffer house = houses[houseIndex];
+        if (house == null) {
+            long start = houseOffsets[houseIndex];
+            long length = houseOffsets[houseIndex + 1] - start;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Print house region too large to map: " + length + " bytes");
+            }
+            house = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            houses[houseIndex] = house;
+        }
+        return house;
+    }
+
+    private static BigDecimal decimal(MappedByteBuffer buffer, int position) {
+        return BigDecimal.valueOf(buffer.getLong(position), buffer.getInt(position + 8));
+    }
+}
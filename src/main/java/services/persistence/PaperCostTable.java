@@ -0,0 +1,39 @@
+package services.persistence;
+
+import data.models.PaperType;
+import data.models.Size;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Per-page paper cost for every {@link PaperType} and {@link Size}, computed the same way as
+ * {@code PrintingPressService.calculatePaperCost}. Shared by the live and archived reports so that both produce
+ * identical figures without repeating the per-size compounding for each printed item.
+ */
+public final class PaperCostTable {
+    private PaperCostTable() {
+    }
+
+    /**
+     * Builds the cost table for a paper increment percentage.
+     *
+     * @param paperIncrementPercentage the print house's paper increment percentage
+     * @return costs indexed by paper type ordinal, then size ordinal
+     */
+    public static BigDecimal[][] costPerPage(BigDecimal paperIncrementPercentage) {
+        BigDecimal increment = BigDecimal.ONE.add(paperIncrementPercentage
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+        PaperType[] paperTypes = PaperType.values();
+        Size[] sizes = Size.values();
+        BigDecimal[][] table = new BigDecimal[paperTypes.length][sizes.length];
+        for (PaperType paperType : paperTypes) {
+            BigDecimal cost = paperType.getCost();
+            for (Size size : sizes) {
+                table[paperType.ordinal()][size.ordinal()] = cost;
+                cost = cost.multiply(increment);
+            }
+        }
+        return table;
+    }
+}
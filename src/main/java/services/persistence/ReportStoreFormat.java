@@ -0,0 +1,96 @@
+package services.persistence;
+
+import data.models.PrintHouse;
+import data.models.PrintedItem;
+import data.models.PrintingPress;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat, fixed-width binary layout of the print history used for read-only reporting. Unlike a snapshot it holds
+ * only the fields the financial reports need, laid out so they can be read straight from a memory-mapped file.
+ *
+ * <pre>
+ * header   int magic "PHR1", int version, int house count, int reserved,
+ *          long[house count + 1] absolute house offsets (the last one is the end of the file)
+ * house    long paper increment unscaled, int scale, int sales discount count,
+ *          long sales discount unscaled, int scale, int press count
+ * press    int item count, int colour flag
+ * item     int pages, byte size, byte paper type, byte colour, byte pad, int copies, long price unscaled, int scale
+ * </pre>
+ */
+public final class ReportStoreFormat {
+    public static final int MAGIC = 0x50485231;
+    public static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 16;
+    static final int HOUSE_BYTES = 32;
+    static final int PRESS_BYTES = 8;
+    static final int ITEM_BYTES = 24;
+
+    private ReportStoreFormat() {
+    }
+
+    /**
+     * Writes the print history of the given houses in the flat reporting layout.
+     *
+     * @param printHouses the houses to write, in report index order
+     * @param file        the destination file
+     * @throws IOException if writing fails or a value does not fit the fixed-width layout
+     */
+    public static void write(List<PrintHouse> printHouses, File file) throws IOException {
+        long[] offsets = new long[printHouses.size() + 1];
+        offsets[0] = HEADER_BYTES + 8L * offsets.length;
+        for (int i = 0; i < printHouses.size(); i++) {
+            long size = HOUSE_BYTES;
+            for (PrintingPress press : printHouses.get(i).getPrintingPresses()) {
+                size += PRESS_BYTES + (long) ITEM_BYTES * press.getPrintedItems().size();
+            }
+            offsets[i + 1] = offsets[i] + size;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(printHouses.size());
+            out.writeInt(0);
+            for (long offset : offsets) {
+                out.writeLong(offset);
+            }
+            for (PrintHouse printHouse : printHouses) {
+                writeDecimal(out, printHouse.getPaperIncrementPercentage());
+                out.writeInt(printHouse.getSalesDiscountCount());
+                writeDecimal(out, printHouse.getSalesDiscountPercentage());
+                out.writeInt(printHouse.getPrintingPresses().size());
+                for (PrintingPress press : printHouse.getPrintingPresses()) {
+                    out.writeInt(press.getPrintedItems().size());
+                    out.writeInt(press.isColour() ? 1 : 0);
+                    for (Map.Entry<PrintedItem, Integer> entry : press.getPrintedItems().entrySet()) {
+                        PrintedItem item = entry.getKey();
+                        out.writeInt(item.getEdition().getNumberOfPages());
+                        out.writeByte(item.getEdition().getSize().ordinal());
+                        out.writeByte(item.getPaperType().ordinal());
+                        out.writeByte(item.isColour() ? 1 : 0);
+                        out.writeByte(0);
+                        out.writeInt(entry.getValue());
+                        writeDecimal(out, item.getPrice());
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            value = BigDecimal.ZERO;
+        }
+        if (value.unscaledValue().bitLength() > 63) {
+            throw new IOException("Value does not fit the report store layout: " + value);
+        }
+        out.writeLong(value.unscaledValue().longValue());
+        out.writeInt(value.scale());
+    }
+}
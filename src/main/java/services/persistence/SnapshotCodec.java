@@ -0,0 +1,185 @@
+package services.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression stages available for persisted snapshots. The codec id is written to the snapshot header,
+ * so ids must never be reused or reordered.
+ */
+public enum SnapshotCodec {
+    /** Stores the serialized bytes as they are. */
+    NONE(0) {
+        @Override
+        public byte[] compress(byte[] source, int offset, int length) {
+            byte[] copy = new byte[length];
+            System.arraycopy(source, offset, copy, 0, length);
+            return copy;
+        }
+
+        @Override
+        public void decompress(byte[] source, byte[] target, int targetOffset, int rawLength) throws IOException {
+            if (source.length != rawLength) {
+                throw new IOException("Stored block length " + source.length + " does not match raw length " + rawLength);
+            }
+            System.arraycopy(source, 0, target, targetOffset, rawLength);
+        }
+    },
+
+    /** Standard zlib compression at the default level. */
+    DEFLATE(1) {
+        @Override
+        public byte[] compress(byte[] source, int offset, int length) {
+            return deflate(source, offset, length, Deflater.DEFAULT_COMPRESSION, null);
+        }
+
+        @Override
+        public void decompress(byte[] source, byte[] target, int targetOffset, int rawLength) throws IOException {
+            inflate(source, target, targetOffset, rawLength, null);
+        }
+    },
+
+    /**
+     * zlib at its fastest level, primed with a preset dictionary of the class descriptors and enum constants
+     * that every snapshot repeats. Cheap on CPU while still removing most of the serialization overhead.
+     */
+    FAST(2) {
+        @Override
+        public byte[] compress(byte[] source, int offset, int length) {
+            return deflate(source, offset, length, Deflater.BEST_SPEED, PRESET_DICTIONARY);
+        }
+
+        @Override
+        public void decompress(byte[] source, byte[] target, int targetOffset, int rawLength) throws IOException {
+            inflate(source, target, targetOffset, rawLength, PRESET_DICTIONARY);
+        }
+    };
+
+    /**
+     * Preset dictionary for {@link #FAST}. Files written with it can only be read with the exact same bytes,
+     * so this must never change; introduce a new codec instead.
+     */
+    private static final byte[] PRESET_DICTIONARY = (
+            "java.util.ArrayList java.util.HashMap java.util.ImmutableCollections$ListN java.util.CollSer "
+            + "java.lang.Integer java.lang.Number java.lang.Enum java.math.BigInteger java.math.BigDecimal "
+            + "data.models.EmployeeType data.models.PaperType data.models.Size data.models.Employee "
+            + "data.models.Edition data.models.PrintedItem data.models.PrintingPress data.models.PrintHouse "
+            + "employeeSalaryIncrementPercentage paperIncrementPercentage baseSalary incrementEligibleRoles "
+            + "revenueTarget salesDiscountCount salesDiscountPercentage employees printingPresses "
+            + "maxPaperLoad currentPaperLoad isColour maximumPagesPerMinute printedItems "
+            + "edition paperType price title numberOfPages size egn employeeType "
+            + "intVal scale bitCount bitLength firstNonzeroByteNum lowestSetBit signum magnitude value "
+            + "OPERATOR MANAGER STANDARD GLOSSY NEWSPAPER A5 A4 A3 A2 A1")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private final int id;
+
+    SnapshotCodec(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the identifier stored in the snapshot header for this codec.
+     *
+     * @return the codec id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Compresses a range of bytes into a new array.
+     *
+     * @param source the bytes to compress
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the compressed block
+     */
+    public abstract byte[] compress(byte[] source, int offset, int length);
+
+    /**
+     * Decompresses a block into the target array.
+     *
+     * @param source       the stored block
+     * @param target       the array receiving the raw bytes
+     * @param targetOffset the position in {@code target} to write to
+     * @param rawLength    the expected number of raw bytes
+     * @throws IOException if the block is malformed or does not expand to {@code rawLength} bytes
+     */
+    public abstract void decompress(byte[] source, byte[] target, int targetOffset, int rawLength) throws IOException;
+
+    /**
+     * Resolves a codec from the id stored in a snapshot header.
+     *
+     * @param id the stored codec id
+     * @return the matching codec
+     * @throws IOException if no codec has that id
+     */
+    public static SnapshotCodec fromId(int id) throws IOException {
+        for (SnapshotCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IOException("Unknown snapshot codec id: " + id);
+    }
+
+    private static byte[] deflate(byte[] source, int offset, int length, int level, byte[] dictionary) {
+        Deflater deflater = new Deflater(level);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(source, offset, length);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 2));
+            byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void inflate(byte[] source, byte[] target, int targetOffset, int rawLength, byte[] dictionary)
+            throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(source);
+            byte[] probe = new byte[1];
+            int produced = 0;
+            while (!inflater.finished()) {
+                int count = produced < rawLength
+                        ? inflater.inflate(target, targetOffset + produced, rawLength - produced)
+                        : inflater.inflate(probe);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        if (dictionary == null) {
+                            throw new IOException("Compressed block requires an unknown preset dictionary");
+                        }
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.needsInput()) {
+                        throw new IOException("Compressed block is truncated");
+                    }
+                } else if (produced >= rawLength) {
+                    throw new IOException("Compressed block expands beyond " + rawLength + " bytes");
+                }
+                produced += count;
+            }
+            if (produced != rawLength) {
+                throw new IOException("Compressed block expanded to " + produced + " bytes, expected " + rawLength);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Malformed compressed block: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package services.persistence;
+
+import utilities.exceptions.CorruptSnapshotException;
+import utilities.globalconstants.ServicesConstants;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Container format for persisted snapshots: a header recording the codec and a block table, followed by the
+ * serialized payload split into independently compressed blocks. Every block carries a CRC32C of its stored bytes,
+ * so a file can be verified in parallel without expanding or deserializing anything.
+ *
+ * <pre>
+ * int   magic        "PHS1"
+ * byte  version      2
+ * byte  codec id
+ * int   payload length
+ * int   block size
+ * int   block count
+ * block count x { int raw length, int stored length, int crc32c of stored bytes }
+ * int   crc32c of everything above
+ * block count x byte[stored length]
+ * </pre>
+ *
+ * Version 1 files (no checksums, block headers interleaved with the data) are still readable.
+ */
+public final class SnapshotFormat {
+    public static final int MAGIC = 0x50485331;
+    public static final int VERSION = 2;
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final int VERSION_WITHOUT_CHECKSUMS = 1;
+    private static final int FIXED_HEADER_BYTES = 18;
+    private static final int BLOCK_ENTRY_BYTES = 12;
+    private static final int JAVA_SERIALIZATION_MAGIC = 0xACED;
+
+    private SnapshotFormat() {
+    }
+
+    /**
+     * Writes a payload as a snapshot using {@link #DEFAULT_CHUNK_SIZE} blocks.
+     *
+     * @param out     the destination stream
+     * @param payload the serialized bytes
+     * @param codec   the codec to compress blocks with
+     * @throws IOException if writing fails
+     */
+    public static void write(OutputStream out, byte[] payload, SnapshotCodec codec) throws IOException {
+        write(out, payload, codec, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Writes a payload as a snapshot. Blocks are compressed and checksummed in parallel when there is more than one.
+     *
+     * @param out       the destination stream
+     * @param payload   the serialized bytes
+     * @param codec     the codec to compress blocks with
+     * @param chunkSize the maximum number of raw bytes per block
+     * @throws IOException if writing fails
+     */
+    public static void write(OutputStream out, byte[] payload, SnapshotCodec codec, int chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        int chunkCount = (payload.length + chunkSize - 1) / chunkSize;
+        byte[][] chunks = new byte[chunkCount][];
+        int[] checksums = new int[chunkCount];
+        blocks(chunkCount).forEach(i -> {
+            int offset = i * chunkSize;
+            chunks[i] = codec.compress(payload, offset, Math.min(chunkSize, payload.length - offset));
+            checksums[i] = checksum(chunks[i]);
+        });
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(FIXED_HEADER_BYTES + BLOCK_ENTRY_BYTES * chunkCount);
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.writeByte(codec.getId());
+        header.writeInt(payload.length);
+        header.writeInt(chunkSize);
+        header.writeInt(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            header.writeInt(Math.min(chunkSize, payload.length - i * chunkSize));
+            header.writeInt(chunks[i].length);
+            header.writeInt(checksums[i]);
+        }
+        header.writeInt(checksum(headerBytes.toByteArray()));
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        headerBytes.writeTo(data);
+        for (byte[] chunk : chunks) {
+            data.write(chunk);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a snapshot and returns its expanded payload. Blocks are verified and expanded in parallel
+     * when there is more than one.
+     *
+     * @param in the source stream, positioned at the snapshot header
+     * @return the serialized bytes
+     * @throws CorruptSnapshotException if the header or a block is damaged, or a block is cut short
+     * @throws IOException              if reading fails or the stream ends inside the header
+     */
+    public static byte[] read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        Header header = readHeader(data);
+        byte[][] chunks = new byte[header.chunkCount][];
+        for (int i = 0; i < header.chunkCount; i++) {
+            if (header.version == VERSION_WITHOUT_CHECKSUMS) {
+                header.rawLengths[i] = data.readInt();
+                header.storedLengths[i] = data.readInt();
+                header.validateBlock(i);
+            }
+            chunks[i] = new byte[header.storedLengths[i]];
+            try {
+                data.readFully(chunks[i]);
+            } catch (EOFException e) {
+                throw new CorruptSnapshotException(
+                        MessageFormat.format(ServicesConstants.SNAPSHOT_BLOCK_TRUNCATED, Integer.toString(i)), i, e);
+            }
+        }
+
+        byte[] payload = new byte[header.payloadLength];
+        CorruptSnapshotException[] failure = new CorruptSnapshotException[1];
+        blocks(header.chunkCount).forEach(i -> {
+            CorruptSnapshotException error = null;
+            if (header.checksums != null && checksum(chunks[i]) != header.checksums[i]) {
+                error = new CorruptSnapshotException(
+                        MessageFormat.format(ServicesConstants.SNAPSHOT_BLOCK_CORRUPTED, Integer.toString(i)), i);
+            } else {
+                try {
+                    header.codec.decompress(chunks[i], payload, i * header.chunkSize, header.rawLengths[i]);
+                } catch (IOException e) {
+                    error = new CorruptSnapshotException(
+                            MessageFormat.format(ServicesConstants.SNAPSHOT_BLOCK_UNREADABLE, Integer.toString(i), e.getMessage()), i, e);
+                }
+            }
+            if (error != null) {
+                synchronized (failure) {
+                    if (failure[0] == null || failure[0].getBlockIndex() > i) {
+                        failure[0] = error;
+                    }
+                }
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return payload;
+    }
+
+    /**
+     * Verifies the header and block checksums of a snapshot file without expanding or deserializing it.
+     * Blocks are checked in parallel directly from the file.
+     *
+     * @param path the snapshot file
+     * @throws CorruptSnapshotException if the header or a block is damaged; the lowest damaged block is reported
+     * @throws IOException              if the file cannot be read or predates block checksums
+     */
+    public static void verify(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The stream is deliberately left open: closing it would close the channel the blocks are mapped from.
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024);
+            if (isLegacyStream(in)) {
+                throw new IOException("Plain serialization files carry no checksums: " + path);
+            }
+            Header header = readHeader(new DataInputStream(in));
+            if (header.checksums == null) {
+                throw new IOException("Snapshot version " + header.version + " carries no checksums: " + path);
+            }
+            long[] offsets = new long[header.chunkCount + 1];
+            offsets[0] = FIXED_HEADER_BYTES + (long) BLOCK_ENTRY_BYTES * header.chunkCount + 4;
+            for (int i = 0; i < header.chunkCount; i++) {
+                offsets[i + 1] = offsets[i] + header.storedLengths[i];
+            }
+            if (offsets[header.chunkCount] != channel.size()) {
+                throw new CorruptSnapshotException(MessageFormat.format(ServicesConstants.SNAPSHOT_HEADER_CORRUPTED,
+                        "file is " + channel.size() + " bytes, expected " + offsets[header.chunkCount]),
+                        CorruptSnapshotException.HEADER_BLOCK);
+            }
+
+            UncheckedIOException[] ioFailure = new UncheckedIOException[1];
+            OptionalInt damaged = blocks(header.chunkCount).filter(i -> {
+                try {
+                    CRC32C crc = new CRC32C();
+                    crc.update(channel.map(FileChannel.MapMode.READ_ONLY, offsets[i], header.storedLengths[i]));
+                    return (int) crc.getValue() != header.checksums[i];
+                } catch (IOException e) {
+                    ioFailure[0] = new UncheckedIOException(e);
+                    return true;
+                }
+            }).findFirst();
+            if (ioFailure[0] != null) {
+                throw ioFailure[0].getCause();
+            }
+            if (damaged.isPresent()) {
+                throw new CorruptSnapshotException(
+                        MessageFormat.format(ServicesConstants.SNAPSHOT_BLOCK_CORRUPTED, Integer.toString(damaged.getAsInt())),
+                        damaged.getAsInt());
+            }
+        }
+    }
+
+    /**
+     * Checks whether a stream starts with a plain Java serialization header, i.e. a file written before
+     * snapshots carried their own header. The stream must support mark/reset.
+     *
+     * @param in the source stream
+     * @return true if the stream holds a plain serialization stream
+     * @throws IOException if reading fails
+     */
+    public static boolean isLegacyStream(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first >= 0 && second >= 0 && ((first << 8) | second) == JAVA_SERIALIZATION_MAGIC;
+    }
+
+    private static Header readHeader(DataInputStream data) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] fixed = new byte[FIXED_HEADER_BYTES];
+        data.readFully(fixed);
+        crc.update(fixed);
+        DataInputStream fields = new DataInputStream(new ByteArrayInputStream(fixed));
+        int magic = fields.readInt();
+        if (magic != MAGIC) {
+            throw headerError("not a snapshot file (magic " + Integer.toHexString(magic) + ")");
+        }
+        int version = fields.readUnsignedByte();
+        if (version != VERSION && version != VERSION_WITHOUT_CHECKSUMS) {
+            throw headerError("unsupported version " + version);
+        }
+        SnapshotCodec codec;
+        try {
+            codec = SnapshotCodec.fromId(fields.readUnsignedByte());
+        } catch (IOException e) {
+            throw new CorruptSnapshotException(MessageFormat.format(ServicesConstants.SNAPSHOT_HEADER_CORRUPTED,
+                    e.getMessage()), CorruptSnapshotException.HEADER_BLOCK, e);
+        }
+        Header header = new Header(version, codec, fields.readInt(), fields.readInt(), fields.readInt());
+        if (version == VERSION_WITHOUT_CHECKSUMS) {
+            return header;
+        }
+
+        byte[] table = new byte[BLOCK_ENTRY_BYTES * header.chunkCount];
+        data.readFully(table);
+        crc.update(table);
+        if ((int) crc.getValue() != data.readInt()) {
+            throw headerError("header checksum mismatch");
+        }
+        DataInputStream entries = new DataInputStream(new ByteArrayInputStream(table));
+        header.checksums = new int[header.chunkCount];
+        for (int i = 0; i < header.chunkCount; i++) {
+            header.rawLengths[i] = entries.readInt();
+            header.storedLengths[i] = entries.readInt();
+            header.checksums[i] = entries.readInt();
+            header.validateBlock(i);
+        }
+        return header;
+    }
+
+    private static CorruptSnapshotException headerError(String detail) {
+        return new CorruptSnapshotException(MessageFormat.format(ServicesConstants.SNAPSHOT_HEADER_CORRUPTED, detail),
+                CorruptSnapshotException.HEADER_BLOCK);
+    }
+
+    private static IntStream blocks(int count) {
+        IntStream indexes = IntStream.range(0, count);
+        return count > 1 ? indexes.parallel() : indexes;
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static final class Header {
+        private final int version;
+        private final SnapshotCodec codec;
+        private final int payloadLength;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final int[] rawLengths;
+        private final int[] storedLengths;
+        private int[] checksums;
+
+        private Header(int version, SnapshotCodec codec, int payloadLength, int chunkSize, int chunkCount) {
+            if (payloadLength < 0 || chunkSize <= 0 || chunkCount != (payloadLength + (long) chunkSize - 1) / chunkSize
+                    || (long) BLOCK_ENTRY_BYTES * chunkCount > Integer.MAX_VALUE - 8) {
+                throw headerError("inconsistent block layout");
+            }
+            this.version = version;
+            this.codec = codec;
+            this.payloadLength = payloadLength;
+            this.chunkSize = chunkSize;
+            this.chunkCount = chunkCount;
+            this.rawLengths = new int[chunkCount];
+            this.storedLengths = new int[chunkCount];
+        }
+
+        private void validateBlock(int index) {
+            if (rawLengths[index] != Math.min(chunkSize, payloadLength - index * chunkSize) || storedLengths[index] < 0) {
+                throw new CorruptSnapshotException(
+                        MessageFormat.format(ServicesConstants.SNAPSHOT_HEADER_CORRUPTED, "bad entry for block " + index),
+                        index);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package utilities;
+
+import java.time.LocalDate;
+import java.util.random.RandomGenerator;
+
+/**
+ * Utility class for generating valid Bulgarian EGNs (Personal Identification Numbers), e.g. for test data.
+ * Every generated EGN passes {@link EgnValidator#isValidEGN(String)}.
+ */
+public class EgnGenerator {
+    private static final int[] WEIGHTS = {2, 4, 8, 5, 10, 9, 7, 3, 6};
+    private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1940, 1, 1);
+    // Birth dates stay before 2000: EgnValidator does not accept the month codes 50-52 used for late 2000s births
+    private static final int BIRTH_DATES = 60 * 365;
+    private static final int SERIALS = 1000;
+
+    /** Number of distinct EGNs {@link #fromIndex(long)} can produce. */
+    public static final long MAX_INDEX = (long) BIRTH_DATES * SERIALS;
+
+    /**
+     * Generates a random EGN for a birth date between 1940 and 1999.
+     *
+     * @param random the source of randomness
+     * @return a valid EGN
+     */
+    public static String random(RandomGenerator random) {
+        return fromIndex(random.nextLong(MAX_INDEX));
+    }
+
+    /**
+     * Generates the EGN with the given index. Distinct indices below {@link #MAX_INDEX} give distinct EGNs,
+     * so a counter yields unique EGNs without having to track the ones already issued.
+     *
+     * @param index the index, from 0 to {@link #MAX_INDEX} - 1
+     * @return a valid EGN
+     */
+    public static String fromIndex(long index) {
+        if (index < 0 || index >= MAX_INDEX) {
+            throw new IllegalArgumentException("EGN index out of range: " + index);
+        }
+        // Consecutive indices differ in the birth date first, so small datasets still get varied dates
+        LocalDate birthDate = FIRST_BIRTH_DATE.plusDays(index % BIRTH_DATES);
+        int serial = (int) (index / BIRTH_DATES);
+        int year = birthDate.getYear();
+        int month = birthDate.getMonthValue();
+
+        int[] digits = new int[10];
+        digits[0] = year / 10 % 10;
+        digits[1] = year % 10;
+        digits[2] = month / 10;
+        digits[3] = month % 10;
+        digits[4] = birthDate.getDayOfMonth() / 10;
+        digits[5] = birthDate.getDayOfMonth() % 10;
+        digits[6] = serial / 100;
+        digits[7] = serial / 10 % 10;
+        digits[8] = serial % 10;
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += digits[i] * WEIGHTS[i];
+        }
+        digits[9] = sum % 11 % 10;
+
+        char[] egn = new char[10];
+        for (int i = 0; i < 10; i++) {
+            egn[i] = (char) ('0' + digits[i]);
+        }
+        return new String(egn);
+    }
+}
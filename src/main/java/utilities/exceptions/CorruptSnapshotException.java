@@ -0,0 +1,26 @@
+package utilities.exceptions;
+
+public class CorruptSnapshotException extends RuntimeException {
+    public static final int HEADER_BLOCK = -1;
+
+    private final int blockIndex;
+
+    public CorruptSnapshotException(String message, int blockIndex) {
+        super(message);
+        this.blockIndex = blockIndex;
+    }
+
+    public CorruptSnapshotException(String message, int blockIndex, Throwable cause) {
+        super(message, cause);
+        this.blockIndex = blockIndex;
+    }
+
+    /**
+     * Returns the index of the block that failed verification, or {@link #HEADER_BLOCK} if the header is damaged.
+     *
+     * @return the offending block index
+     */
+    public int getBlockIndex() {
+        return blockIndex;
+    }
+}
@@ -11,6 +11,8 @@ public class ExceptionMessages {
     public static final String NUMBER_OF_PAGES_MUST_BE_GREATER_THAN_ZERO = "Number of pages must be greater than zero.";
     public static final String INVALID_PAGE_SIZE_INCREMENTAL_PERCENTAGE = "Incremental percentage must be greater than zero.";
     public static final String INVALID_PAGE_SIZE = "Page size cannot be null.";
+    public static final String TITLE_PREFIX_CANNOT_BE_NULL = "Title prefix cannot be null.";
+    public static final String PAGE_RANGE_INVALID = "Minimum page count cannot be greater than the maximum page count.";
 
     public static final String PAPER_TYPE_CANNOT_BE_NULL = "Paper type cannot be null.";
     public static final String PAPER_INCREMENT_PERCENTAGE_CANNOT_BE_NEGATIVE = "Paper increment percentage cannot be negative.";
@@ -57,10 +59,27 @@ public class ExceptionMessages {
 
     public static final String PRINT_HOUSE_CANNOT_BE_NULL = "Print house cannot be null.";
     public static final String EDITION_NOT_IN_PRINT_HOUSE = "Edition not found in print house.";
+    public static final String EDITION_NOT_IN_CATALOG = "Edition not found in the edition catalog.";
 
     public static final String FILE_PATH_CANNOT_BE_NULL_OR_EMPTY = "File path cannot be null or empty.";
 
     public static final String PRINT_REQUEST_FAILED = "Print request failed due to insufficient resources or invalid parameters.";
     public static final String INVALID_PRINT_PRESS_INDEX = "Invalid printing press index.";
+    public static final String THROUGHPUT_WINDOW_INVALID = "Throughput window must be between 1 and {0} seconds.";
+    public static final String RANKING_METRIC_CANNOT_BE_NULL = "Ranking metric cannot be null.";
+    public static final String RANKING_LIMIT_MUST_BE_POSITIVE = "Ranking limit must be a positive number.";
+    public static final String POLICY_RANGES_CANNOT_BE_NULL = "Policy ranges cannot be null.";
+    public static final String POLICY_RANGE_INVALID = "Invalid policy range for {0}: bounds must be non-negative, ordered and within limits.";
+    public static final String SIMULATION_VARIANTS_INVALID = "Number of simulated variants must be between 1 and {0}.";
+    public static final String PRODUCTION_JOBS_CANNOT_BE_NULL = "Production jobs cannot be null.";
+    public static final String PRODUCTION_JOB_INVALID = "Invalid production job: {0}.";
+    public static final String PRODUCTION_REFILL_TIME_INVALID = "Paper refill time cannot be negative.";
+    public static final String PRODUCTION_DAYS_INVALID = "Number of simulated days must be positive.";
+    public static final String PRODUCTION_TOO_MANY_PRESSES = "Cannot simulate more than {0} printing presses.";
+    public static final String PRODUCTION_HORIZON_EXCEEDED = "Simulated time cannot exceed {0} seconds.";
+    public static final String DATASET_SPEC_CANNOT_BE_NULL = "Dataset specification cannot be null.";
+    public static final String DATASET_SPEC_INVALID = "Dataset counts must be non-negative, print records need presses and editions, and employees must fit the EGN range.";
+    public static final String DATASET_TOO_LARGE = "Dataset needs about {0} MB of heap, more than the {1} MB available.";
+    public static final String METRIC_CANNOT_BE_NULL = "Metric cannot be null.";
     public static final String NO_PAPER_AVAILABLE = "No paper available in the printing press.";
 }
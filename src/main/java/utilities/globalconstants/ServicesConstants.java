@@ -4,6 +4,9 @@ public class ServicesConstants {
 
     public static final String FILE_NOT_FOUND = "File not found: {0}";
 
+    /** Only the first and then every this many print jobs are logged; printing is too frequent to log every job. */
+    public static final int PRINT_LOG_SAMPLE_INTERVAL = 100;
+
     public static final String SUCCESSFUL_SERIALIZATION_OF_A_SINGLE_OBJECT = "Serialization of a single object successful. Data saved to {0}.";
     public static final String SUCCESSFUL_SERIALIZATION_OF_A_LIST_OF_OBJECTS = "Serialization of list successful. Data saved to {0}";
     public static final String ERROR_DURING_SERIALIZATION = "Error during serialization: {0}";
@@ -11,4 +14,23 @@ public class ServicesConstants {
     public static final String SUCCESSFUL_DESERIALIZATION_OF_A_SINGLE_OBJECT = "Deserialization of a single object successful. Data read from {0}.";
     public static final String SUCCESSFUL_DESERIALIZATION_OF_A_LIST_OF_OBJECTS = "Deserialization of list successful. Data read from {0}";
     public static final String ERROR_DURING_DESERIALIZATION = "Error during deserialization: {0}";
+
+    public static final String SNAPSHOT_HEADER_CORRUPTED = "Snapshot header is corrupted: {0}";
+    public static final String SNAPSHOT_BLOCK_CORRUPTED = "Snapshot block {0} failed its checksum.";
+    public static final String SNAPSHOT_BLOCK_UNREADABLE = "Snapshot block {0} cannot be expanded: {1}";
+    public static final String SNAPSHOT_BLOCK_TRUNCATED = "Snapshot block {0} is truncated.";
+    public static final String SNAPSHOT_FILE_CORRUPTED = "Snapshot {0} is corrupted: {1}";
+
+    public static final String SHARD_MANIFEST_FILE_NAME = "manifest.properties";
+    public static final String SHARD_FILE_NAME_PATTERN = "shard-%s-%05d.ser";
+    public static final String SHARD_FILE_NAME_GLOB = "shard-*.ser";
+    public static final String SHARD_MANIFEST_NOT_FOUND = "Shard manifest not found in {0}";
+    public static final String SHARD_MANIFEST_INVALID = "Shard manifest in {0} is invalid: {1}";
+    public static final String SHARD_COUNT_MISMATCH = "Shard {0} holds {1} print houses, but the manifest lists {2}.";
+    public static final String SHARDS_PER_FILE_MUST_BE_POSITIVE = "Print houses per shard must be greater than zero.";
+
+    public static final String IMPORT_LINE_REJECTED = "Line {0}: {1}";
+    public static final String IMPORT_LINE_MALFORMED = "expected title,pages,size";
+    public static final String IMPORT_PAGES_NOT_A_NUMBER = "page count is not a number";
+    public static final String IMPORT_SIZE_UNKNOWN = "unknown size {0}";
 }
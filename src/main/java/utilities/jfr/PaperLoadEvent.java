@@ -0,0 +1,26 @@
+package utilities.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for paper loaded into a printing press. Committed by {@code PrintingPressService.loadPaper}.
+ */
+@Name("printhouse.PaperLoad")
+@Label("Paper Load")
+@Category({"Print House", "Printing"})
+@Description("Paper loaded into a printing press")
+@StackTrace(false)
+public class PaperLoadEvent extends Event {
+    @Label("Print House")
+    public String printHouse;
+
+    @Label("Printing Press")
+    public String press;
+
+    @Label("Sheets Loaded")
+    public int amount;
+
+    @Label("Paper Load")
+    @Description("Sheets in the press after loading")
+    public int paperLoad;
+}
@@ -0,0 +1,25 @@
+package utilities.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for a payroll computation. Committed by {@code EmployeeService.getTotalCostForEmployees}.
+ */
+@Name("printhouse.Payroll")
+@Label("Payroll")
+@Category({"Print House", "Reports"})
+@Description("Total salary cost computed for the employees of a print house")
+@StackTrace(false)
+public class PayrollEvent extends Event {
+    @Label("Print House")
+    public String printHouse;
+
+    @Label("Employees")
+    public int employees;
+
+    @Label("Revenue Target Met")
+    public boolean revenueTargetMet;
+
+    @Label("Total Cost")
+    public double totalCost;
+}
@@ -0,0 +1,35 @@
+package utilities.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for one successful print job. Committed by {@code PrintingPressService.printItem}.
+ */
+@Name("printhouse.PrintJob")
+@Label("Print Job")
+@Category({"Print House", "Printing"})
+@Description("A print job completed on a printing press")
+@StackTrace(false)
+public class PrintJobEvent extends Event {
+    @Label("Print House")
+    public String printHouse;
+
+    @Label("Printing Press")
+    public String press;
+
+    @Label("Edition")
+    public String edition;
+
+    @Label("Copies")
+    public int copies;
+
+    @Label("Pages")
+    public long pages;
+
+    @Label("Sheets")
+    @Description("Sheets of paper taken from the press")
+    public int sheets;
+
+    @Label("Colour")
+    public boolean colour;
+}
@@ -0,0 +1,46 @@
+package utilities.jfr;
+
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import jdk.jfr.*;
+import utilities.logging.LogSummary;
+
+/**
+ * JFR event for an aggregation over the print history of a house, such as total revenue or a breakdown report.
+ */
+@Name("printhouse.Report")
+@Label("Report Aggregation")
+@Category({"Print House", "Reports"})
+@Description("An aggregation over the print history of a print house")
+@StackTrace(false)
+public class ReportEvent extends Event {
+    @Label("Report")
+    public String report;
+
+    @Label("Print House")
+    public String printHouse;
+
+    @Label("Printing Presses")
+    public int presses;
+
+    @Label("Printed Items")
+    @Description("Distinct printed items visited")
+    public long items;
+
+    /**
+     * Fills in the fields describing the house and commits the event. Meant to be called only after
+     * {@link #shouldCommit()} returned true, since counting the items walks the house's presses.
+     *
+     * @param report     the name of the aggregation
+     * @param printHouse the aggregated house
+     */
+    public void commitFor(String report, PrintHouse printHouse) {
+        this.report = report;
+        this.printHouse = LogSummary.id(printHouse);
+        this.presses = printHouse.getPrintingPresses().size();
+        for (PrintingPress press : printHouse.getPrintingPresses()) {
+            this.items += press.getPrintedItems().size();
+        }
+        commit();
+    }
+}
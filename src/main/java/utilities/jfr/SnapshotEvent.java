@@ -0,0 +1,40 @@
+package utilities.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for writing or reading a snapshot file. Committed by {@code SerializationService}.
+ */
+@Name("printhouse.Snapshot")
+@Label("Snapshot")
+@Category({"Print House", "Persistence"})
+@Description("A snapshot file written or read")
+@StackTrace(false)
+public class SnapshotEvent extends Event {
+    /** Value of {@link #operation} for writes. */
+    public static final String SAVE = "save";
+    /** Value of {@link #operation} for reads. */
+    public static final String LOAD = "load";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("File")
+    public String path;
+
+    @Label("Codec")
+    @Description("Codec the snapshot was written with; saves only")
+    public String codec;
+
+    @Label("Entities")
+    public int entities;
+
+    @Label("Serialized Size")
+    @Description("Size of the serialized object graph before compression, or -1 for legacy snapshots")
+    @DataAmount
+    public long serializedBytes;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileBytes;
+}
@@ -0,0 +1,37 @@
+package utilities.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which occurrences of a high-frequency event are logged: the first one and then every
+ * {@code interval}-th, so the log shows that the event happens without one line per occurrence.
+ */
+public final class LogSampler {
+    private final int interval;
+    private final AtomicLong events = new AtomicLong();
+
+    public LogSampler(int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Sampling interval must be greater than zero: " + interval);
+        }
+        this.interval = interval;
+    }
+
+    /**
+     * Counts one occurrence of the event.
+     *
+     * @return true if this occurrence should be logged
+     */
+    public boolean sample() {
+        return events.getAndIncrement() % interval == 0;
+    }
+
+    /**
+     * Returns the number of occurrences counted so far.
+     */
+    public long getEvents() {
+        return events.get();
+    }
+
+    public int getInterval() { return interval; }
+}
@@ -0,0 +1,73 @@
+package utilities.logging;
+
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+
+/**
+ * Compact log arguments for entities whose {@code toString} grows with their contents. A summary names the entity
+ * by an id that stays the same for the lifetime of the object and adds a few counts; it is rendered only when the
+ * log event is actually written, in constant time.
+ * <p>
+ * Ids are identity hashes, because the models carry no persistent id; they tell entities apart within one run.
+ */
+public final class LogSummary {
+    private LogSummary() {
+    }
+
+    /**
+     * Returns a log argument rendering as {@code house#<id>{employees=<n>, presses=<n>}}.
+     *
+     * @param printHouse the print house, may be null
+     * @return the summary
+     */
+    public static Object of(PrintHouse printHouse) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return printHouse == null ? "house#null" : id("house", printHouse)
+                        + "{employees=" + printHouse.getEmployees().size()
+                        + ", presses=" + printHouse.getPrintingPresses().size() + "}";
+            }
+        };
+    }
+
+    /**
+     * Returns a log argument rendering as {@code press#<id>{items=<n>, paper=<n>}}.
+     *
+     * @param press the printing press, may be null
+     * @return the summary
+     */
+    public static Object of(PrintingPress press) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return press == null ? "press#null" : id("press", press)
+                        + "{items=" + press.getPrintedItems().size() + ", paper=" + press.getCurrentPaperLoad() + "}";
+            }
+        };
+    }
+
+    /**
+     * Returns the id of a print house as used in summaries, e.g. for log lines that only need to name it.
+     *
+     * @param printHouse the print house
+     * @return the id
+     */
+    public static String id(PrintHouse printHouse) {
+        return printHouse == null ? "house#null" : id("house", printHouse);
+    }
+
+    /**
+     * Returns the id of a printing press as used in summaries.
+     *
+     * @param press the printing press
+     * @return the id
+     */
+    public static String id(PrintingPress press) {
+        return press == null ? "press#null" : id("press", press);
+    }
+
+    private static String id(String kind, Object entity) {
+        return kind + "#" + Integer.toHexString(System.identityHashCode(entity));
+    }
+}
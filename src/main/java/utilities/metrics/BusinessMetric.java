@@ -0,0 +1,29 @@
+package utilities.metrics;
+
+/**
+ * Domain counters kept by {@link MetricsRegistry}. Each metric has the name it is written under in metric dumps.
+ */
+public enum BusinessMetric {
+    /** Pages printed, counting every page of every copy. */
+    PAGES_PRINTED("pages_printed"),
+    /** Sheets of paper taken from presses by print jobs. */
+    PAPER_CONSUMED("paper_consumed"),
+    /** Sheets of paper loaded into presses. */
+    PAPER_LOADED("paper_loaded"),
+    /** Print jobs rejected because the press did not hold enough paper. */
+    JOBS_REJECTED_INSUFFICIENT_PAPER("jobs_rejected_insufficient_paper"),
+    /** Print jobs rejected because colour was requested from a monochrome press. */
+    JOBS_REJECTED_COLOUR_MISMATCH("jobs_rejected_colour_mismatch"),
+    /** Employees added to print houses. */
+    EMPLOYEES_ADDED("employees_added"),
+    /** Print house snapshots saved. */
+    SAVES_PERFORMED("saves_performed");
+
+    private final String metricName;
+
+    BusinessMetric(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() { return metricName; }
+}
@@ -0,0 +1,96 @@
+package utilities.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects a {@link LatencyHistogram} per operation and times whole service interfaces through dynamic proxies.
+ * Instrumentation is opt-in: a service that is not passed through {@link #instrument(Class, Object, String)} is
+ * called directly and pays nothing.
+ */
+public class LatencyRecorder {
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the histogram of an operation, creating it on first use.
+     *
+     * @param operation the operation name
+     * @return the operation's histogram
+     */
+    public LatencyHistogram histogram(String operation) {
+        return histograms.computeIfAbsent(operation, name -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the histograms of all operations recorded so far, ordered by operation name.
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Wraps a service so that every call of a method of {@code type} is timed into the histogram
+     * {@code name.method}. Exceptions thrown by the service pass through unchanged and are timed as well.
+     *
+     * @param type    the interface to instrument
+     * @param service the service implementing it
+     * @param name    the prefix of the operation names, e.g. the interface name
+     * @return a proxy implementing {@code type} that delegates to {@code service}
+     */
+    public <T> T instrument(Class<T> type, T service, String name) {
+        if (type == null || !type.isInterface() || service == null || name == null) {
+            throw new IllegalArgumentException("An interface, a service and a name are required");
+        }
+        Map<Method, LatencyHistogram> byMethod = new ConcurrentHashMap<>();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(method, service, args);
+            }
+            LatencyHistogram histogram = byMethod.computeIfAbsent(method, m -> histogram(name + "." + m.getName()));
+            long start = System.nanoTime();
+            try {
+                return invoke(method, service, args);
+            } finally {
+                histogram.record(System.nanoTime() - start);
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * Writes one line per operation with its call count and the p50, p99, p99.9 and maximum latency in
+     * microseconds.
+     *
+     * @param writer the destination; flushed but not closed
+     */
+    public void writeTo(Writer writer) throws IOException {
+        for (Map.Entry<String, LatencyHistogram> entry : getHistograms().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            writer.write(String.format(Locale.ROOT, "%s count=%d p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus%n",
+                    entry.getKey(), histogram.getCount(), micros(histogram.getValueAtQuantile(0.5)),
+                    micros(histogram.getValueAtQuantile(0.99)), micros(histogram.getValueAtQuantile(0.999)),
+                    micros(histogram.getMax())));
+        }
+        writer.flush();
+    }
+
+    private static Object invoke(Method method, Object service, Object[] args) throws Throwable {
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
@@ -0,0 +1,170 @@
+package utilities.metrics;
+
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-local registry of {@link BusinessMetric} counters. Every metric has a total and, where the event belongs
+ * to one, a series per {@link PrintHouse} and per {@link PrintingPress}; an event on a press also counts towards its
+ * house. Counters are {@link LongAdder}s, so recording never blocks and scales with the number of writing threads.
+ * <p>
+ * Houses and presses are tracked by identity. Totals only ever grow; the series of a house or press are dropped
+ * with {@link #forget(PrintHouse)} and {@link #forget(PrintingPress)} when it is removed.
+ */
+public class MetricsRegistry {
+    private static final BusinessMetric[] METRICS = BusinessMetric.values();
+
+    private final LongAdder[] totals = newCounters();
+    private final Map<PrintHouse, HouseCounters> houses = new ConcurrentHashMap<>();
+
+    /**
+     * Counts one event.
+     *
+     * @param metric     the metric
+     * @param printHouse the house the event belongs to, or null
+     * @param press      the press the event belongs to, or null
+     */
+    public void increment(BusinessMetric metric, PrintHouse printHouse, PrintingPress press) {
+        add(metric, printHouse, press, 1);
+    }
+
+    /**
+     * Adds an amount to a metric.
+     *
+     * @param metric     the metric
+     * @param printHouse the house the amount belongs to, or null
+     * @param press      the press the amount belongs to, or null; ignored without a house
+     * @param amount     the amount to add
+     */
+    public void add(BusinessMetric metric, PrintHouse printHouse, PrintingPress press, long amount) {
+        if (metric == null) {
+            throw new IllegalArgumentException(ExceptionMessages.METRIC_CANNOT_BE_NULL);
+        }
+        int slot = metric.ordinal();
+        totals[slot].add(amount);
+        if (printHouse == null) {
+            return;
+        }
+        HouseCounters house = houses.computeIfAbsent(printHouse, h -> new HouseCounters());
+        house.counters[slot].add(amount);
+        if (press != null) {
+            house.presses.computeIfAbsent(press, p -> newCounters())[slot].add(amount);
+        }
+    }
+
+    /**
+     * Returns the total of a metric over all houses and presses, including forgotten ones.
+     */
+    public long getTotal(BusinessMetric metric) {
+        return totals[metric.ordinal()].sum();
+    }
+
+    /**
+     * Returns the value of a metric for one house, or 0 if nothing was recorded for it.
+     */
+    public long get(BusinessMetric metric, PrintHouse printHouse) {
+        HouseCounters house = houses.get(printHouse);
+        return house == null ? 0 : house.counters[metric.ordinal()].sum();
+    }
+
+    /**
+     * Returns the value of a metric for one press of a house, or 0 if nothing was recorded for it.
+     */
+    public long get(BusinessMetric metric, PrintHouse printHouse, PrintingPress press) {
+        HouseCounters house = houses.get(printHouse);
+        LongAdder[] counters = house == null ? null : house.presses.get(press);
+        return counters == null ? 0 : counters[metric.ordinal()].sum();
+    }
+
+    /**
+     * Drops the series of a house and its presses. Totals are kept.
+     */
+    public void forget(PrintHouse printHouse) {
+        houses.remove(printHouse);
+    }
+
+    /**
+     * Drops the series of a press. Its house's series and the totals are kept.
+     */
+    public void forget(PrintingPress press) {
+        for (HouseCounters house : houses.values()) {
+            house.presses.remove(press);
+        }
+    }
+
+    /**
+     * Writes all metrics in a line-oriented text format: the total of each metric, followed by its series for the
+     * given houses and their presses. Houses and presses are numbered from 1 in list order, as in the console;
+     * houses not in the list and series that are still zero are left out.
+     *
+     * @param writer      the destination; flushed but not closed
+     * @param printHouses the houses to break the metrics down by
+     */
+    public void writeTo(Writer writer, List<PrintHouse> printHouses) throws IOException {
+        for (BusinessMetric metric : METRICS) {
+            int slot = metric.ordinal();
+            String name = metric.getMetricName();
+            writer.write(name + " " + totals[slot].sum() + "\n");
+            for (int h = 0; h < printHouses.size(); h++) {
+                HouseCounters house = houses.get(printHouses.get(h));
+                long houseValue = house == null ? 0 : house.counters[slot].sum();
+                if (houseValue == 0) {
+                    continue;
+                }
+                String houseLabel = "house=\"" + (h + 1) + "\"";
+                writer.write(name + "{" + houseLabel + "} " + houseValue + "\n");
+                List<PrintingPress> presses = printHouses.get(h).getPrintingPresses();
+                for (int p = 0; p < presses.size(); p++) {
+                    LongAdder[] counters = house.presses.get(presses.get(p));
+                    long pressValue = counters == null ? 0 : counters[slot].sum();
+                    if (pressValue != 0) {
+                        writer.write(name + "{" + houseLabel + ",press=\"" + (p + 1) + "\"} " + pressValue + "\n");
+                    }
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes all metrics to a file, replacing it. See {@link #writeTo(Writer, List)} for the format.
+     *
+     * @param filePath    the file to write
+     * @param printHouses the houses to break the metrics down by
+     */
+    public void writeTo(String filePath, List<PrintHouse> printHouses) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new IllegalArgumentException(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY);
+        }
+        try (Writer writer = Files.newBufferedWriter(Path.of(filePath), StandardCharsets.UTF_8)) {
+            writeTo(writer, printHouses);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write metrics to " + filePath, e);
+        }
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[METRICS.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static final class HouseCounters {
+        private final LongAdder[] counters = newCounters();
+        private final Map<PrintingPress, LongAdder[]> presses = new ConcurrentHashMap<>();
+    }
+}
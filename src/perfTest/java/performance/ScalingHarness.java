@@ -0,0 +1,132 @@
+package performance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures how the per-operation cost of an operation grows between a base size and 10x and 100x that size, and
+ * checks the growth against a hard bound and against the checked-in baseline.
+ * <p>
+ * A scenario builds its fixture for a given size untimed and returns the timed part as a {@link Trial}. Each size is
+ * measured several times on a fresh fixture and the fastest run is kept, which filters out most GC and scheduling
+ * noise. The reported growth is the per-operation cost at 100x divided by the cost at 1x: about 1 for constant-time
+ * operations, about 100 for operations that are linear in the size when constant time is expected.
+ */
+final class ScalingHarness {
+    private static final Logger logger = LoggerFactory.getLogger(ScalingHarness.class);
+    static final String BASELINE_PROPERTY = "perf.baseline";
+    static final String UPDATE_PROPERTY = "perf.updateBaseline";
+    private static final int[] FACTORS = {1, 10, 100};
+    private static final int REPEATS = 5;
+    // How far a run may drift above its baseline before it counts as a regression
+    private static final double BASELINE_TOLERANCE = 2.0;
+    // Growth below this is cache and JIT noise rather than complexity, so smaller baselines are raised to it
+    private static final double BASELINE_FLOOR = 1.5;
+
+    private static final Properties baseline = new Properties();
+    private static final Properties measured = new Properties();
+
+    static {
+        Path path = baselinePath();
+        if (path != null && Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                baseline.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private ScalingHarness() {
+    }
+
+    /**
+     * The timed part of a scenario.
+     */
+    interface Trial {
+        /**
+         * Runs the operation and returns how many times it was performed.
+         */
+        long run();
+    }
+
+    /**
+     * Measures {@code scenario} at {@code baseSize}, 10x and 100x and asserts that the per-operation cost grows by
+     * at most {@code maxGrowth} and by at most twice the baseline growth recorded for {@code name}.
+     *
+     * @return the measured growth
+     */
+    static double assertScaling(String name, int baseSize, double maxGrowth, IntFunction<Trial> scenario) {
+        // Warm up on the middle size so the 1x measurement is not taken in the interpreter
+        for (int i = 0; i < REPEATS; i++) {
+            scenario.apply(baseSize * FACTORS[1]).run();
+        }
+        double[] costs = new double[FACTORS.length];
+        for (int i = 0; i < FACTORS.length; i++) {
+            costs[i] = nanosPerOperation(scenario, baseSize * FACTORS[i]);
+        }
+        double growth = costs[costs.length - 1] / costs[0];
+        String summary = String.format(Locale.ROOT, "%s: %.1f / %.1f / %.1f ns per op at n=%d x1/x10/x100, growth %.2f",
+                name, costs[0], costs[1], costs[2], baseSize, growth);
+        logger.info(summary);
+
+        assertTrue(growth <= maxGrowth, summary + " exceeds the bound of " + maxGrowth);
+        if (Boolean.getBoolean(UPDATE_PROPERTY)) {
+            record(name, growth);
+        } else {
+            String recorded = baseline.getProperty(name + ".growth");
+            assertNotNull(recorded, "No baseline for " + name + "; run ./gradlew perfTest -P" + UPDATE_PROPERTY + "=true");
+            double allowed = Math.max(Double.parseDouble(recorded), BASELINE_FLOOR) * BASELINE_TOLERANCE;
+            assertTrue(growth <= allowed, summary + " regressed against the baseline growth of " + recorded);
+        }
+        return growth;
+    }
+
+    private static double nanosPerOperation(IntFunction<Trial> scenario, int size) {
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < REPEATS; i++) {
+            Trial trial = scenario.apply(size);
+            long start = System.nanoTime();
+            long operations = trial.run();
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, (double) elapsed / operations);
+        }
+        return best;
+    }
+
+    private static synchronized void record(String name, double growth) {
+        measured.setProperty(name + ".growth", String.format(Locale.ROOT, "%.2f", growth));
+        Path path = baselinePath();
+        if (path == null) {
+            return;
+        }
+        Map<String, String> merged = new TreeMap<>();
+        baseline.forEach((key, value) -> merged.put(key.toString(), value.toString()));
+        measured.forEach((key, value) -> merged.put(key.toString(), value.toString()));
+        // Written by hand rather than with Properties.store, which adds a timestamp to every regenerated file
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.println("# Per-operation cost growth from 1x to 100x, written by ./gradlew perfTest -P"
+                    + UPDATE_PROPERTY + "=true");
+            merged.forEach((key, value) -> writer.println(key + "=" + value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path baselinePath() {
+        String path = System.getProperty(BASELINE_PROPERTY);
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+}
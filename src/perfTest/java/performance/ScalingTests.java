@@ -0,0 +1,178 @@
+package performance;
+
+import data.models.*;
+import org.junit.jupiter.api.Test;
+import services.EditionCatalogService;
+import services.EditionService;
+import services.EmployeeService;
+import services.PrintingPressService;
+import services.SerializationService;
+import services.contracts.IEditionService;
+import services.contracts.IEmployeeService;
+import services.contracts.IPrintingPressService;
+import utilities.EgnGenerator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static performance.ScalingHarness.assertScaling;
+
+/**
+ * Complexity checks for the operations that must stay cheap as a print house grows. Each test measures the cost per
+ * operation at a base size and at 10x and 100x that size; see {@link ScalingHarness}.
+ */
+public class ScalingTests {
+    // Allowed growth of the per-operation cost from 1x to 100x; a linear-time regression grows by ~100
+    private static final double CONSTANT_TIME = 4.0;
+    private static final BigDecimal PRICE = new BigDecimal("1.50");
+
+    @Test
+    void addEmployee_GrowingStaff_ConstantCostPerEmployee() {
+        assertScaling("addEmployee", 1_000, CONSTANT_TIME, size -> {
+            IEmployeeService employeeService = new EmployeeService(new PrintingPressService());
+            PrintHouse printHouse = newPrintHouse();
+            List<Employee> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                employees.add(new Employee(EgnGenerator.fromIndex(i), EmployeeType.OPERATOR));
+            }
+            return () -> {
+                for (Employee employee : employees) {
+                    employeeService.addEmployee(printHouse, employee);
+                }
+                return employees.size();
+            };
+        });
+    }
+
+    @Test
+    void getEdition_GrowingCatalog_ConstantCostPerLookup() {
+        int lookups = 100_000;
+        assertScaling("getEdition", 1_000, CONSTANT_TIME, size -> {
+            IEditionService editionService = new EditionService(new SerializationService<>());
+            PrintHouse printHouse = newPrintHouse();
+            List<Edition> editions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                editions.add(new Edition("Edition " + i, 10 + i % 500, Size.A4));
+            }
+            editionService.addEditions(printHouse, editions);
+            return () -> {
+                long found = 0;
+                for (int i = 0; i < lookups; i++) {
+                    if (editionService.getEdition(printHouse, (int) ((i * 7919L) % size)) != null) {
+                        found++;
+                    }
+                }
+                return found;
+            };
+        });
+    }
+
+    @Test
+    void updateEdition_GrowingCatalog_ConstantCostPerUpdate() {
+        int updates = 1_000;
+        assertScaling("updateEdition", 1_000, CONSTANT_TIME, size -> {
+            // With a catalog every update swaps in another shared instance in the edition's position
+            IEditionService editionService = new EditionService(new SerializationService<>(), new EditionCatalogService());
+            PrintHouse printHouse = newPrintHouse();
+            List<Edition> editions = newEditions(size);
+            editionService.addEditions(printHouse, editions);
+            List<Edition> chosen = spread(editionService.getEditions(printHouse), updates);
+            return () -> {
+                for (Edition edition : chosen) {
+                    editionService.updateEdition(printHouse, edition, null, edition.getNumberOfPages() + 1, null);
+                }
+                return updates;
+            };
+        });
+    }
+
+    @Test
+    void removeEdition_GrowingCatalog_ConstantCostPerRemoval() {
+        int removals = 1_000;
+        assertScaling("removeEdition", 1_000, CONSTANT_TIME, size -> {
+            IEditionService editionService = new EditionService(new SerializationService<>());
+            PrintHouse printHouse = newPrintHouse();
+            editionService.addEditions(printHouse, newEditions(size));
+            List<Edition> chosen = spread(editionService.getEditions(printHouse), removals);
+            return () -> {
+                for (Edition edition : chosen) {
+                    editionService.removeEdition(printHouse, edition);
+                }
+                return removals;
+            };
+        });
+    }
+
+    @Test
+    void printItem_GrowingHistory_ConstantCostPerJob() {
+        int jobs = 10_000;
+        IPrintingPressService printingPressService = new PrintingPressService();
+        PrintHouse printHouse = newPrintHouse();
+        Edition edition = new Edition("Scaling Weekly", 2, Size.A4);
+        assertScaling("printItem", 1_000, CONSTANT_TIME, size -> {
+            PrintingPress press = pressWithHistory(size);
+            return () -> {
+                for (int i = 0; i < jobs; i++) {
+                    printingPressService.printItem(printHouse, press, edition, PaperType.GLOSSY, PRICE, 1, true);
+                }
+                return jobs;
+            };
+        });
+    }
+
+    @Test
+    void getTotalRevenue_GrowingHistory_ConstantCostPerItem() {
+        IPrintingPressService printingPressService = new PrintingPressService();
+        assertScaling("getTotalRevenue", 100, CONSTANT_TIME, size -> {
+            PrintHouse printHouse = newPrintHouse();
+            printHouse.getPrintingPresses().add(pressWithHistory(size));
+            // Repeat small histories so every size does about the same amount of work
+            int calls = Math.max(1, 100_000 / size);
+            return () -> {
+                for (int i = 0; i < calls; i++) {
+                    printingPressService.getTotalRevenue(printHouse);
+                }
+                return (long) calls * size;
+            };
+        });
+    }
+
+    private static List<Edition> newEditions(int count) {
+        List<Edition> editions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            editions.add(new Edition("Edition " + i, 10 + i % 500, Size.A4));
+        }
+        return editions;
+    }
+
+    /**
+     * Picks {@code count} distinct editions spread over the whole list; 7919 is prime, so the stride never repeats
+     * within the 1x, 10x and 100x sizes.
+     */
+    private static List<Edition> spread(List<Edition> editions, int count) {
+        List<Edition> chosen = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            chosen.add(editions.get((int) ((i * 7919L) % editions.size())));
+        }
+        return chosen;
+    }
+
+    private static PrintHouse newPrintHouse() {
+        return new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+    }
+
+    /**
+     * A full press whose history already holds {@code items} distinct print jobs.
+     */
+    private static PrintingPress pressWithHistory(int items) {
+        PrintingPress press = new PrintingPress(100_000, 100_000, true, 1000);
+        for (int i = 0; i < items; i++) {
+            Edition edition = new Edition("History " + i, 10 + i % 500, Size.values()[i % Size.values().length]);
+            press.getPrintedItems().put(new PrintedItem(edition, PaperType.values()[i % PaperType.values().length],
+                    PRICE, i % 2 == 0), 1 + i % 20);
+        }
+        return press;
+    }
+}
@@ -0,0 +1,130 @@
+package UI;
+
+import data.models.PrintHouse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.*;
+import services.contracts.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScriptEngineTests {
+    private IPrintHouseService printHouseService;
+    private IEmployeeService employeeService;
+    private IPrintingPressService printingPressService;
+    private IEditionService editionService;
+    private ByteArrayOutputStream output;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        printHouseService = new PrintHouseService(new SerializationService<>());
+        printingPressService = new PrintingPressService();
+        employeeService = new EmployeeService(printingPressService);
+        editionService = new EditionService(new SerializationService<>());
+        output = new ByteArrayOutputStream();
+    }
+
+    // Happy Path Tests
+    @Test
+    void Run_ValidScript_ExecutesCommandsAndPrintsResults() {
+        String output = run("""
+                # one house with a press, an employee and an edition
+                house add 15 20 2000 10000 10 10
+                press add 1 5000 4000 true 300
+                employee add 1 7501020018 OPERATOR
+                edition add 1 "Lord of the Rings" 100 A4
+                print 1 1 1 STANDARD 60 5 true
+                report revenue 1
+                house list
+                """);
+
+        PrintHouse printHouse = printHouseService.getPrintHouse(0);
+        assertEquals(1, printHouse.getEmployees().size());
+        assertEquals("Lord of the Rings", editionService.getEdition(printHouse, 0).getTitle());
+        assertEquals(1, printHouse.getPrintingPresses().getFirst().getPrintedItems().size());
+        assertTrue(output.contains("revenue 1: 300"));
+        assertTrue(output.contains("house 1: employees=1, presses=1, editions=1"));
+        assertTrue(output.contains("Script: 7 commands, 7 succeeded, 0 failed"));
+    }
+
+    @Test
+    void Run_SaveAndLoad_RestoresPrintHouses() {
+        String file = tempDir.resolve("houses.ser").toString();
+        run("house add 15 20 2000 10000 10 10 OPERATOR,MANAGER\nsave \"" + file + "\"\nhouse remove 1\nload \"" + file + "\"");
+
+        assertEquals(1, printHouseService.getAllPrintHouses().size());
+        assertEquals(2, printHouseService.getPrintHouse(0).getIncrementEligibleRoles().size());
+    }
+
+    // Error Cases
+    @Test
+    void Run_FailingCommands_ReportsLinesAndContinues() {
+        ScriptEngine engine = engine("""
+                house add 15 20 2000 10000 10 10
+                employee add 1 123 OPERATOR
+                press add 1 five 4000 true 300
+                frobnicate 1
+                employee add 1 7501020018 OPERATOR
+                """);
+        engine.run();
+        String text = output.toString(StandardCharsets.UTF_8);
+
+        assertEquals(3, engine.getFailedCommands());
+        assertEquals(1, printHouseService.getPrintHouse(0).getEmployees().size());
+        assertTrue(text.contains("Script: 5 commands, 2 succeeded, 3 failed"));
+        assertTrue(text.contains("line 2: employee add 1 123 OPERATOR ->"));
+        assertTrue(text.contains("line 3: press add 1 five 4000 true 300 -> Not a whole number: five"));
+        assertTrue(text.contains("line 4: frobnicate 1 -> Unknown command: frobnicate 1"));
+    }
+
+    @Test
+    void Run_WrongArgumentCount_ReportsUsage() {
+        String output = run("house add 15 20\nprint 1");
+
+        assertTrue(output.contains("-> Usage: house add"));
+        assertTrue(output.contains("-> Usage: print <house>"));
+        assertTrue(printHouseService.getAllPrintHouses().isEmpty());
+    }
+
+    @Test
+    void Constructor_NullScript_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptEngine(null, System.out, printHouseService,
+                employeeService, printingPressService, editionService, null, null));
+    }
+
+    // Edge Cases
+    @Test
+    void Run_EmptyScript_PrintsEmptySummary() {
+        String output = run("\n   \n# nothing to do\n");
+
+        assertTrue(output.startsWith("Script: 0 commands, 0 succeeded, 0 failed"));
+    }
+
+    @Test
+    void Tokenize_QuotedArguments_KeepsSpacesAndEscapedQuotes() {
+        assertEquals(List.of("edition", "add", "1", "The \"Hobbit\"", "310", "A5"),
+                ScriptEngine.tokenize("edition  add 1 \"The \"\"Hobbit\"\"\" 310\tA5"));
+    }
+
+    private String run(String script) {
+        engine(script).run();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private ScriptEngine engine(String script) {
+        return new ScriptEngine(new StringReader(script), new PrintStream(output, true, StandardCharsets.UTF_8),
+                printHouseService, employeeService, printingPressService, editionService,
+                new EditionImportService(editionService), new ReportService(employeeService));
+    }
+}
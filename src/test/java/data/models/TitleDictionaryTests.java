@@ -0,0 +1,66 @@
+package data.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TitleDictionaryTests {
+    // Happy Path Tests
+    @Test
+    void encode_SameTitle_ReturnsSameCode() {
+        // Codes are stable while the canonical title is referenced
+        String title = TitleDictionary.intern("Crime and Punishment");
+        int code = TitleDictionary.encode(title);
+        assertEquals(code, TitleDictionary.encode(new String("Crime and Punishment".toCharArray())));
+        assertSame(title, TitleDictionary.intern(new String("Crime and Punishment".toCharArray())));
+        String other = TitleDictionary.intern("Crime and Punishment 2");
+        assertNotEquals(code, TitleDictionary.encode(other));
+        String cyrillic = TitleDictionary.intern("\u0421\u044a\u0432\u0440\u0435\u043c\u0435\u043d\u043d\u0438 \u0437\u0430\u0433\u043b\u0430\u0432\u0438\u044f \u2713");
+        assertEquals("\u0421\u044a\u0432\u0440\u0435\u043c\u0435\u043d\u043d\u0438 \u0437\u0430\u0433\u043b\u0430\u0432\u0438\u044f \u2713", TitleDictionary.decode(TitleDictionary.encode(cyrillic)));
+    }
+
+    @Test
+    void decode_ManyTitles_ReturnsEachTitle() {
+        String[] titles = new String[5000];
+        int[] codes = new int[titles.length];
+        for (int i = 0; i < codes.length; i++) {
+            titles[i] = TitleDictionary.intern("Dictionary Growth Title " + i);
+            codes[i] = TitleDictionary.encode(titles[i]);
+        }
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals("Dictionary Growth Title " + i, TitleDictionary.decode(codes[i]));
+            assertEquals(codes[i], TitleDictionary.encode("Dictionary Growth Title " + i));
+        }
+    }
+
+    @Test
+    void intern_SameTitle_EditionsShareOneInstance() {
+        Edition first = new Edition("Shared Instance Title", 10, Size.A4);
+        Edition second = new Edition(new String("Shared Instance Title".toCharArray()), 20, Size.A5);
+
+        assertSame(first.getTitle(), second.getTitle());
+        assertEquals(first.getTitleCode(), second.getTitleCode());
+    }
+
+    @Test
+    void reclaim_UnreferencedTitle_DropsEntryWithoutReusingCode() {
+        String title = TitleDictionary.intern("Reclaimed Title");
+        int code = TitleDictionary.encode(title);
+        int before = TitleDictionary.size();
+
+        TitleDictionary.reclaim(title);
+
+        assertTrue(TitleDictionary.size() < before);
+        assertThrows(IllegalArgumentException.class, () -> TitleDictionary.decode(code));
+        String again = TitleDictionary.intern("Reclaimed Title");
+        assertNotEquals(code, TitleDictionary.encode(again));
+    }
+
+    // Edge Cases
+    @Test
+    void encode_NullTitle_ReturnsNoTitle() {
+        assertEquals(TitleDictionary.NO_TITLE, TitleDictionary.encode(null));
+        assertNull(TitleDictionary.decode(TitleDictionary.NO_TITLE));
+        assertNull(TitleDictionary.intern(null));
+    }
+}
@@ -0,0 +1,142 @@
+package services;
+
+import data.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.contracts.*;
+import services.generation.DatasetSpec;
+import utilities.EgnGenerator;
+import utilities.EgnValidator;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetGeneratorServiceTests {
+    private IPrintHouseService printHouseService;
+    private IPrintingPressService printingPressService;
+    private IEditionService editionService;
+    private IDatasetGeneratorService service;
+
+    @BeforeEach
+    void setUp() {
+        printHouseService = new PrintHouseService(new SerializationService<>());
+        printingPressService = new PrintingPressService();
+        editionService = new EditionService(new SerializationService<>());
+        service = new DatasetGeneratorService(printHouseService, new EmployeeService(printingPressService),
+                printingPressService, editionService, new SerializationService<>());
+    }
+
+    // Happy Path
+    @Test
+    void generate_CreatesRequestedVolumes() {
+        List<PrintHouse> houses = service.generate(new DatasetSpec(1, 3, 40, 5, 30, 500));
+
+        assertEquals(3, houses.size());
+        for (PrintHouse house : houses) {
+            assertEquals(40, house.getEmployees().size());
+            assertEquals(5, house.getPrintingPresses().size());
+            int jobs = house.getPrintingPresses().stream().mapToInt(press -> press.getPrintedItems().size()).sum();
+            assertEquals(500, jobs);
+        }
+        assertTrue(printHouseService.getAllPrintHouses().isEmpty());
+    }
+
+    @Test
+    void generate_SameSeed_ProducesSameDataset() {
+        DatasetSpec spec = new DatasetSpec(99, 2, 10, 3, 20, 200);
+        List<PrintHouse> first = service.generate(spec);
+        List<PrintHouse> second = service.generate(spec);
+
+        for (int h = 0; h < first.size(); h++) {
+            assertEquals(first.get(h).getRevenueTarget(), second.get(h).getRevenueTarget());
+            assertEquals(first.get(h).getEmployees().stream().map(Employee::getEgn).toList(),
+                    second.get(h).getEmployees().stream().map(Employee::getEgn).toList());
+            assertEquals(printingPressService.getTotalRevenue(first.get(h)), printingPressService.getTotalRevenue(second.get(h)));
+            assertEquals(printingPressService.getTotalCostForPrint(first.get(h)),
+                    printingPressService.getTotalCostForPrint(second.get(h)));
+        }
+        assertNotEquals(printingPressService.getTotalRevenue(first.get(0)),
+                printingPressService.getTotalRevenue(service.generate(new DatasetSpec(100, 1, 10, 3, 20, 200)).get(0)));
+    }
+
+    @Test
+    void populate_RegistersHousesAndEditionsWithServices() {
+        List<PrintHouse> houses = service.populate(new DatasetSpec(5, 2, 5, 2, 15, 50));
+
+        assertEquals(houses, printHouseService.getAllPrintHouses());
+        assertEquals(15, editionService.getEditions(houses.get(0)).size());
+        Set<Edition> registered = new HashSet<>(editionService.getEditions(houses.get(1)));
+        for (PrintingPress press : houses.get(1).getPrintingPresses()) {
+            for (PrintedItem item : press.getPrintedItems().keySet()) {
+                assertTrue(registered.contains(item.getEdition()));
+            }
+        }
+    }
+
+    @Test
+    void populate_ManySeeds_CreatesOnlyValidPrintHouses() {
+        // 10 000 houses: enough draws to hit every boundary of the random policy ranges
+        for (long seed = 0; seed < 500; seed++) {
+            DatasetSpec spec = new DatasetSpec(seed, 20, 0, 0, 0, 0);
+            for (PrintHouse house : assertDoesNotThrow(() -> service.populate(spec))) {
+                assertTrue(house.getSalesDiscountPercentage().signum() > 0);
+            }
+        }
+        assertEquals(10_000, printHouseService.getAllPrintHouses().size());
+    }
+
+    @Test
+    void writeSnapshot_CanBeLoadedBack(@TempDir Path tempDir) {
+        String file = tempDir.resolve("generated.ser").toString();
+        service.writeSnapshot(new DatasetSpec(3, 4, 3, 2, 10, 40), file);
+
+        printHouseService.loadAllPrintHouses(file);
+
+        assertEquals(4, printHouseService.getAllPrintHouses().size());
+        assertEquals(3, printHouseService.getPrintHouse(3).getEmployees().size());
+    }
+
+    @Test
+    void egnGenerator_ProducesValidDistinctEgns() {
+        Set<String> egns = new HashSet<>();
+        for (long index = 0; index < 50_000; index++) {
+            String egn = EgnGenerator.fromIndex(index * 97 % EgnGenerator.MAX_INDEX);
+            assertTrue(EgnValidator.isValidEGN(egn), egn);
+            egns.add(egn);
+        }
+        assertEquals(50_000, egns.size());
+        assertTrue(EgnValidator.isValidEGN(EgnGenerator.random(new SplittableRandom(7))));
+        assertTrue(EgnValidator.isValidEGN(EgnGenerator.fromIndex(EgnGenerator.MAX_INDEX - 1)));
+    }
+
+    // Error Cases
+    @Test
+    void generate_InvalidSpec_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.generate(null));
+        assertThrows(IllegalArgumentException.class, () -> service.generate(new DatasetSpec(1, -1, 0, 0, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> service.generate(new DatasetSpec(1, 1, 0, 0, 10, 5)));
+        assertThrows(IllegalArgumentException.class, () -> EgnGenerator.fromIndex(EgnGenerator.MAX_INDEX));
+    }
+
+    @Test
+    void generate_DatasetLargerThanHeap_ThrowsIllegalArgumentException() {
+        DatasetSpec spec = new DatasetSpec(1, 1_000, 0, 1, 1, 1_000_000_000);
+        assertThrows(IllegalArgumentException.class, () -> service.generate(spec));
+        assertThrows(IllegalArgumentException.class, () -> service.writeSnapshot(spec, "unused.ser"));
+        assertTrue(printHouseService.getAllPrintHouses().isEmpty());
+    }
+
+    // Edge Cases
+    @Test
+    void generate_EmptySpec_ReturnsEmptyHouses() {
+        List<PrintHouse> houses = service.generate(new DatasetSpec(1, 2, 0, 0, 0, 0));
+        assertEquals(2, houses.size());
+        assertTrue(houses.get(0).getEmployees().isEmpty());
+    }
+}
@@ -0,0 +1,182 @@
+package services;
+
+import data.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.contracts.IEditionCatalogService;
+import services.contracts.IEditionService;
+import services.contracts.IPrintHouseService;
+import services.contracts.IPrintingPressService;
+import utilities.exceptions.InvalidEditionException;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditionCatalogServiceTests {
+    private IEditionCatalogService catalog;
+    private IEditionService editionService;
+    private IPrintingPressService printingPressService;
+    private PrintHouse firstHouse;
+    private PrintHouse secondHouse;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new EditionCatalogService();
+        editionService = new EditionService(new SerializationService<>(), catalog);
+        printingPressService = new PrintingPressService(catalog);
+        firstHouse = createPrintHouse();
+        secondHouse = createPrintHouse();
+    }
+
+    // Happy Path
+    @Test
+    void acquire_SameAttributes_ReturnsOneCanonicalInstance() {
+        Edition first = catalog.acquire(new Edition("Dune", 400, Size.A5));
+        Edition second = catalog.acquire(new Edition("Dune", 400, Size.A5));
+        Edition third = catalog.acquire("Dune", 400, Size.A5);
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, catalog.size());
+        assertEquals(3, catalog.getReferenceCount(first));
+    }
+
+    @Test
+    void acquire_NewEdition_CataloguesCopy() {
+        Edition edition = new Edition("Dune", 400, Size.A5);
+        Edition canonical = catalog.acquire(edition);
+        edition.setTitle("Emma");
+        assertNotSame(edition, canonical);
+        assertEquals("Dune", canonical.getTitle());
+        assertSame(canonical, catalog.acquire("Dune", 400, Size.A5));
+    }
+
+    @Test
+    void getEdition_ById_ReturnsCanonicalInstance() {
+        Edition edition = catalog.acquire("Dune", 400, Size.A5);
+        assertSame(edition, catalog.getEdition(catalog.getId(edition)));
+    }
+
+    @Test
+    void release_LastReference_RemovesEdition() {
+        Edition edition = catalog.acquire("Dune", 400, Size.A5);
+        catalog.acquire("Dune", 400, Size.A5);
+        catalog.release(edition);
+        assertEquals(1, catalog.size());
+        catalog.release(edition);
+        assertEquals(0, catalog.size());
+        assertEquals(0, catalog.getReferenceCount(edition));
+    }
+
+    @Test
+    void addEdition_SameTitleInTwoHouses_SharesInstance() {
+        editionService.addEdition(firstHouse, new Edition("Dune", 400, Size.A5));
+        editionService.addEdition(secondHouse, new Edition("Dune", 400, Size.A5));
+        assertSame(editionService.getEdition(firstHouse, 0), editionService.getEdition(secondHouse, 0));
+        assertEquals(1, catalog.size());
+    }
+
+    @Test
+    void printItem_WithCatalog_ReferencesCanonicalEdition() {
+        editionService.addEdition(firstHouse, new Edition("Dune", 400, Size.A5));
+        PrintingPress press = new PrintingPress(10000, 10000, true, 100);
+        printingPressService.addPrintingPress(firstHouse, press);
+        printingPressService.printItem(firstHouse, press, new Edition("Dune", 400, Size.A5),
+                PaperType.STANDARD, BigDecimal.TEN, 2, true);
+        PrintedItem item = press.getPrintedItems().keySet().iterator().next();
+        assertSame(editionService.getEdition(firstHouse, 0), item.getEdition());
+        assertEquals(2, catalog.getReferenceCount(item.getEdition()));
+    }
+
+    @Test
+    void updateEdition_WithCatalog_LeavesOtherHousesUntouched() {
+        editionService.addEdition(firstHouse, new Edition("Dune", 400, Size.A5));
+        editionService.addEdition(secondHouse, new Edition("Dune", 400, Size.A5));
+        Edition shared = editionService.getEdition(firstHouse, 0);
+        editionService.updateEdition(firstHouse, shared, "Dune Messiah", null, null);
+        assertEquals("Dune", shared.getTitle());
+        assertSame(shared, editionService.getEdition(secondHouse, 0));
+        assertEquals("Dune Messiah", editionService.getEdition(firstHouse, 0).getTitle());
+        assertEquals(1, catalog.getReferenceCount(shared));
+        assertEquals(2, catalog.size());
+    }
+
+    @Test
+    void removeEdition_WithCatalog_ReleasesReference() {
+        editionService.addEdition(firstHouse, new Edition("Dune", 400, Size.A5));
+        editionService.removeEdition(firstHouse, editionService.getEdition(firstHouse, 0));
+        assertEquals(0, catalog.size());
+    }
+
+    @Test
+    void loadAllPrintHouses_WithCatalog_ResolvesPrintedItems(@TempDir Path tempDir) {
+        IPrintHouseService printHouseService = new PrintHouseService(new SerializationService<>(), catalog);
+        PrintHouse printHouse = printHouseService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        PrintingPress press = new PrintingPress(10000, 10000, true, 100);
+        printingPressService.addPrintingPress(printHouse, press);
+        printingPressService.printItem(printHouse, press, new Edition("Dune", 400, Size.A5),
+                PaperType.STANDARD, BigDecimal.TEN, 2, true);
+        String filePath = tempDir.resolve("houses.ser").toString();
+        printHouseService.saveAllPrintHouses(filePath);
+
+        printHouseService.loadAllPrintHouses(filePath);
+
+        Edition canonical = catalog.acquire("Dune", 400, Size.A5);
+        PrintedItem item = printHouseService.getPrintHouse(0).getPrintingPresses().getFirst()
+                .getPrintedItems().keySet().iterator().next();
+        assertSame(canonical, item.getEdition());
+        assertEquals(2, catalog.getReferenceCount(canonical));
+    }
+
+    // Error Cases
+    @Test
+    void getId_NonCanonicalInstance_ThrowsInvalidEditionException() {
+        catalog.acquire("Dune", 400, Size.A5);
+        InvalidEditionException exception = assertThrows(InvalidEditionException.class, () ->
+                catalog.getId(new Edition("Dune", 400, Size.A5)));
+        assertEquals(ExceptionMessages.EDITION_NOT_IN_CATALOG, exception.getMessage());
+    }
+
+    @Test
+    void acquire_NullEdition_ThrowsInvalidEditionException() {
+        assertThrows(InvalidEditionException.class, () -> catalog.acquire(null));
+    }
+
+    @Test
+    void updateEdition_WithCatalogToExistingEdition_ThrowsAndKeepsCounts() {
+        editionService.addEdition(firstHouse, new Edition("Dune", 400, Size.A5));
+        editionService.addEdition(firstHouse, new Edition("Emma", 400, Size.A5));
+        Edition emma = editionService.getEdition(firstHouse, 1);
+        assertThrows(InvalidEditionException.class, () ->
+                editionService.updateEdition(firstHouse, emma, "Dune", null, null));
+        assertEquals(1, catalog.getReferenceCount(editionService.getEdition(firstHouse, 0)));
+        assertEquals(1, catalog.getReferenceCount(emma));
+    }
+
+    // Edge Cases
+    @Test
+    void release_NonCanonicalInstance_IsIgnored() {
+        Edition canonical = catalog.acquire("Dune", 400, Size.A5);
+        catalog.release(new Edition("Dune", 400, Size.A5));
+        assertEquals(1, catalog.getReferenceCount(canonical));
+    }
+
+    @Test
+    void updateEdition_WithCatalogNoChanges_KeepsReferenceCount() {
+        editionService.addEdition(firstHouse, new Edition("Dune", 400, Size.A5));
+        Edition edition = editionService.getEdition(firstHouse, 0);
+        editionService.updateEdition(firstHouse, edition, null, null, null);
+        assertSame(edition, editionService.getEdition(firstHouse, 0));
+        assertEquals(1, catalog.getReferenceCount(edition));
+    }
+
+    private static PrintHouse createPrintHouse() {
+        return new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+    }
+}
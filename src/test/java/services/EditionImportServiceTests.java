@@ -0,0 +1,137 @@
+package services;
+
+import data.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.contracts.IEditionImportService;
+import services.contracts.IEditionService;
+import services.persistence.EditionImportResult;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditionImportServiceTests {
+    private IEditionService editionService;
+    private IEditionImportService importService;
+    private PrintHouse printHouse;
+
+    @BeforeEach
+    void setUp() {
+        editionService = new EditionService(new SerializationService<>());
+        importService = new EditionImportService(editionService);
+        printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+    }
+
+    // Happy Path
+    @Test
+    void importEditions_WithHeaderAndQuotedTitle_ImportsInFileOrder() {
+        String csv = """
+                title,pages,size
+                Dune,400,A5
+                "War, and Peace",1200,a4
+                "The ""Quoted"" Book",90,A3
+                """;
+        EditionImportResult result = importService.importEditions(printHouse, new StringReader(csv));
+        assertEquals(3, result.getRowsRead());
+        assertEquals(3, result.getImported());
+        List<Edition> editions = editionService.getEditions(printHouse);
+        assertEquals("Dune", editions.get(0).getTitle());
+        assertEquals("War, and Peace", editions.get(1).getTitle());
+        assertEquals(Size.A4, editions.get(1).getSize());
+        assertEquals("The \"Quoted\" Book", editions.get(2).getTitle());
+    }
+
+    @Test
+    void importEditions_FromFile_ImportsAllRows(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("catalog.csv");
+        Files.writeString(file, "Dune,400,A5\nEmma,300,A4\n");
+        EditionImportResult result = importService.importEditions(printHouse, file.toString());
+        assertEquals(2, result.getImported());
+        assertEquals(2, editionService.getEditions(printHouse).size());
+    }
+
+    @Test
+    void importEditions_LargeCatalog_ImportsAcrossChunksAndBatches() {
+        StringBuilder csv = new StringBuilder(IEditionImportService.HEADER).append('\n');
+        int rows = 20_000;
+        for (int i = 0; i < rows; i++) {
+            csv.append("Catalog Title ").append(i).append(',').append(1 + i % 900).append(",A4\n");
+        }
+        EditionImportResult result = importService.importEditions(printHouse, new StringReader(csv.toString()));
+        assertEquals(rows, result.getImported());
+        List<Edition> editions = editionService.getEditions(printHouse);
+        assertEquals(rows, editions.size());
+        assertEquals("Catalog Title 0", editions.getFirst().getTitle());
+        assertEquals("Catalog Title " + (rows - 1), editions.getLast().getTitle());
+        assertEquals(111, editionService.findByTitlePrefix(printHouse, "Catalog Title 199").size());
+    }
+
+    // Error Cases
+    @Test
+    void importEditions_InvalidRows_AreRejectedWithLineNumbers() {
+        String csv = """
+                title,pages,size
+                X,100,A4
+                Valid Title,0,A4
+                Another,abc,A4
+                Third,100,B5
+                Missing columns
+                Good Book,100,A4
+                """;
+        EditionImportResult result = importService.importEditions(printHouse, new StringReader(csv));
+        assertEquals(6, result.getRowsRead());
+        assertEquals(1, result.getImported());
+        assertEquals(5, result.getRejected());
+        assertEquals(5, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("Line 2: "));
+        assertTrue(result.getErrors().get(4).startsWith("Line 6: "));
+    }
+
+    @Test
+    void importEditions_NullPrintHouse_ThrowsInvalidPrintHouseException() {
+        InvalidPrintHouseException exception = assertThrows(InvalidPrintHouseException.class, () ->
+                importService.importEditions(null, new StringReader("")));
+        assertEquals(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL, exception.getMessage());
+    }
+
+    @Test
+    void importEditions_MissingFile_ThrowsIllegalArgumentException(@TempDir Path tempDir) {
+        assertThrows(IllegalArgumentException.class, () ->
+                importService.importEditions(printHouse, tempDir.resolve("missing.csv").toString()));
+    }
+
+    // Edge Cases
+    @Test
+    void importEditions_DuplicatesInFileAndHouse_AreSkipped() {
+        editionService.addEdition(printHouse, new Edition("Dune", 400, Size.A5));
+        String csv = """
+                Dune,400,A5
+                Emma,300,A4
+                Emma,300,A4
+
+                Emma,300,A3
+                """;
+        EditionImportResult result = importService.importEditions(printHouse, new StringReader(csv));
+        assertEquals(4, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(3, editionService.getEditions(printHouse).size());
+    }
+
+    @Test
+    void importEditions_EmptyInput_ImportsNothing() {
+        EditionImportResult result = importService.importEditions(printHouse, new StringReader(""));
+        assertEquals(0, result.getRowsRead());
+        assertTrue(editionService.getEditions(printHouse).isEmpty());
+    }
+}
@@ -0,0 +1,167 @@
+package services;
+
+import data.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.contracts.IEditionService;
+import utilities.exceptions.InvalidEditionException;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditionServiceStressTests {
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 2000;
+
+    private IEditionService service;
+    private List<PrintHouse> printHouses;
+
+    @BeforeEach
+    void setUp() {
+        service = new EditionService(new SerializationService<>());
+        printHouses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            printHouses.add(new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                    List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5)));
+        }
+    }
+
+    @Test
+    void concurrentAdds_SameHouse_KeepAllEditions() throws Exception {
+        PrintHouse printHouse = printHouses.getFirst();
+        runThreads(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                service.addEdition(printHouse, new Edition("T" + thread + "-" + i, 10 + i, Size.A4));
+            }
+        });
+        List<Edition> editions = service.getEditions(printHouse);
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, editions.size());
+        assertEquals(editions.size(), new HashSet<>(editions).size());
+        assertEquals(OPERATIONS_PER_THREAD, service.findByTitlePrefix(printHouse, "T3-").size());
+        assertEquals(editions.size(), service.findBySize(printHouse, Size.A4).size());
+    }
+
+    @Test
+    void concurrentMixedOperations_AcrossHouses_LeaveConsistentState() throws Exception {
+        Map<Integer, List<Edition>> kept = new ConcurrentHashMap<>();
+        runThreads(thread -> {
+            PrintHouse printHouse = printHouses.get(thread % printHouses.size());
+            List<Edition> mine = new ArrayList<>();
+            Random random = new Random(thread);
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                switch (random.nextInt(4)) {
+                    case 0, 1 -> {
+                        Edition edition = new Edition("Edition " + thread + "-" + i, 10, Size.A5);
+                        service.addEdition(printHouse, edition);
+                        mine.add(edition);
+                    }
+                    case 2 -> {
+                        if (!mine.isEmpty()) {
+                            Edition edition = mine.remove(random.nextInt(mine.size()));
+                            service.removeEdition(printHouse, edition);
+                        }
+                    }
+                    default -> {
+                        if (!mine.isEmpty()) {
+                            Edition edition = mine.get(random.nextInt(mine.size()));
+                            service.updateEdition(printHouse, edition, null, 20 + random.nextInt(100), Size.A3);
+                        }
+                        for (Edition listed : service.getEditions(printHouse)) {
+                            assertNotNull(listed);
+                        }
+                    }
+                }
+            }
+            kept.put(thread, mine);
+        });
+
+        for (int h = 0; h < printHouses.size(); h++) {
+            PrintHouse printHouse = printHouses.get(h);
+            Set<Edition> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Map.Entry<Integer, List<Edition>> entry : kept.entrySet()) {
+                if (entry.getKey() % printHouses.size() == h) {
+                    expected.addAll(entry.getValue());
+                }
+            }
+            List<Edition> actual = service.getEditions(printHouse);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(expected.containsAll(actual));
+            int bySize = 0;
+            for (Size size : Size.values()) {
+                bySize += service.findBySize(printHouse, size).size();
+            }
+            assertEquals(expected.size(), bySize);
+            assertEquals(expected.size(), service.findByTitlePrefix(printHouse, "Edition").size());
+            assertEquals(expected.size(), service.findByPageRange(printHouse, 1, Integer.MAX_VALUE).size());
+        }
+    }
+
+    @Test
+    void concurrentReadsDuringRemovals_NeverFail() throws Exception {
+        PrintHouse printHouse = printHouses.getFirst();
+        List<Edition> editions = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+            Edition edition = new Edition("Book " + i, 100, Size.A4);
+            service.addEdition(printHouse, edition);
+            editions.add(edition);
+        }
+        runThreads(thread -> {
+            if (thread == 0) {
+                for (Edition edition : editions) {
+                    service.removeEdition(printHouse, edition);
+                }
+                return;
+            }
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                List<Edition> view = service.getEditions(printHouse);
+                for (Edition edition : view) {
+                    assertNotNull(edition);
+                }
+                try {
+                    assertNotNull(service.getEdition(printHouse, 0));
+                } catch (InvalidEditionException e) {
+                    // the writer has removed everything
+                }
+            }
+        });
+        assertTrue(service.getEditions(printHouse).isEmpty());
+    }
+
+    private interface ThreadBody {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runThreads(ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    try {
+                        start.await();
+                        body.run(thread);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+    }
+}
@@ -12,6 +12,7 @@ import utilities.globalconstants.ModelsConstants;
 
 import java.math.BigDecimal;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -86,6 +87,104 @@ public class EditionServiceTests {
         assertEquals(edition, service.getEditions(printHouse).getFirst());
     }
 
+    @Test
+    void findByTitlePrefix_WhenMatching_ReturnsEditionsOrderedByTitle() {
+        Edition hobbit = new Edition("The Hobbit", 300, Size.A5);
+        Edition dune = new Edition("Dune", 400, Size.A4);
+        Edition twoTowers = new Edition("The Two Towers", 350, Size.A5);
+        service.addEdition(printHouse, twoTowers);
+        service.addEdition(printHouse, dune);
+        service.addEdition(printHouse, hobbit);
+        assertEquals(List.of(hobbit, twoTowers), service.findByTitlePrefix(printHouse, "the "));
+    }
+
+    @Test
+    void findByTitlePrefix_PrefixEndsWithSpace_DoesNotMatchLongerWord() {
+        Edition hobbit = new Edition("The Hobbit", 300, Size.A5);
+        Edition theory = new Edition("Theory", 200, Size.A4);
+        service.addEdition(printHouse, theory);
+        service.addEdition(printHouse, hobbit);
+        assertEquals(List.of(hobbit), service.findByTitlePrefix(printHouse, "the "));
+        assertEquals(List.of(hobbit, theory), service.findByTitlePrefix(printHouse, "the"));
+    }
+
+    @Test
+    void findBySize_WhenMatching_ReturnsOnlyThatSize() {
+        Edition a4 = new Edition("Book1", 100, Size.A4);
+        Edition a3 = new Edition("Book2", 200, Size.A3);
+        service.addEdition(printHouse, a4);
+        service.addEdition(printHouse, a3);
+        assertEquals(List.of(a3), service.findBySize(printHouse, Size.A3));
+        assertTrue(service.findBySize(printHouse, Size.A1).isEmpty());
+    }
+
+    @Test
+    void findByPageRange_WhenMatching_ReturnsInclusiveRangeOrderedByPages() {
+        Edition short1 = new Edition("Short", 50, Size.A5);
+        Edition mid = new Edition("Middle", 200, Size.A5);
+        Edition edge = new Edition("Edge", 100, Size.A5);
+        Edition thick = new Edition("Thick", 900, Size.A5);
+        service.addEdition(printHouse, mid);
+        service.addEdition(printHouse, thick);
+        service.addEdition(printHouse, short1);
+        service.addEdition(printHouse, edge);
+        assertEquals(List.of(edge, mid), service.findByPageRange(printHouse, 100, 200));
+    }
+
+    @Test
+    void updateEdition_WhenAttributesChange_ReindexesEdition() {
+        Edition edition = new Edition("Test Book", 100, Size.A4);
+        service.addEdition(printHouse, edition);
+        service.updateEdition(printHouse, edition, "Another Book", 250, Size.A3);
+        assertTrue(service.findByTitlePrefix(printHouse, "Test").isEmpty());
+        assertEquals(List.of(edition), service.findByTitlePrefix(printHouse, "another"));
+        assertTrue(service.findBySize(printHouse, Size.A4).isEmpty());
+        assertEquals(List.of(edition), service.findBySize(printHouse, Size.A3));
+        assertEquals(List.of(edition), service.findByPageRange(printHouse, 250, 250));
+    }
+
+    @Test
+    void findBySize_SeveralTitles_ReturnsEditionsOrderedByTitle() {
+        Edition dune = new Edition("Dune", 400, Size.A5);
+        Edition anathem = new Edition("Anathem", 900, Size.A5);
+        Edition emma = new Edition("emma", 300, Size.A5);
+        service.addEditions(printHouse, List.of(dune, emma, anathem, new Edition("Beloved", 320, Size.A4)));
+        assertEquals(List.of(anathem, dune, emma), service.findBySize(printHouse, Size.A5));
+    }
+
+    @Test
+    void loadEditions_WhenValid_RebuildsIndex(@TempDir Path tempDir) {
+        Edition edition = new Edition("Loaded Book", 120, Size.A5);
+        when(serializationService.deserialize(anyString())).thenReturn(List.of(edition));
+        service.loadEditions(printHouse, tempDir.resolve("editions").toString());
+        assertEquals(List.of(edition), service.findByTitlePrefix(printHouse, "load"));
+        assertEquals(List.of(edition), service.findBySize(printHouse, Size.A5));
+    }
+
+    @Test
+    void loadEditions_WhenValid_KeepsWritesAfterLoad(@TempDir Path tempDir) {
+        Edition stale = new Edition("Stale Book", 100, Size.A4);
+        Edition loaded = new Edition("Loaded Book", 120, Size.A5);
+        Edition later = new Edition("Later Book", 140, Size.A3);
+        service.addEdition(printHouse, stale);
+        when(serializationService.deserialize(anyString())).thenReturn(List.of(loaded, loaded));
+        service.loadEditions(printHouse, tempDir.resolve("editions").toString());
+        service.addEdition(printHouse, later);
+        assertEquals(List.of(loaded, later), service.getEditions(printHouse));
+        assertTrue(service.findBySize(printHouse, Size.A4).isEmpty());
+        assertEquals(List.of(later), service.findByTitlePrefix(printHouse, "later"));
+    }
+
+    @Test
+    void addEditions_WhenValid_AddsInOrderAndSkipsDuplicates() {
+        Edition existing = new Edition("Book1", 100, Size.A4);
+        Edition added = new Edition("Book2", 200, Size.A3);
+        service.addEdition(printHouse, existing);
+        assertEquals(1, service.addEditions(printHouse, List.of(existing, added, added)));
+        assertEquals(List.of(existing, added), service.getEditions(printHouse));
+        assertEquals(List.of(added), service.findBySize(printHouse, Size.A3));
+    }
+
     // Error Cases
     @Test
     void addEdition_NullPrintHouse_ThrowsInvalidPrintHouseException() {
@@ -200,6 +299,34 @@ public class EditionServiceTests {
         assertEquals(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY, exception.getMessage());
     }
 
+    @Test
+    void findByTitlePrefix_NullPrefix_ThrowsIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                service.findByTitlePrefix(printHouse, null));
+        assertEquals(ExceptionMessages.TITLE_PREFIX_CANNOT_BE_NULL, exception.getMessage());
+    }
+
+    @Test
+    void findBySize_NullSize_ThrowsInvalidPageSizeException() {
+        InvalidPageSizeException exception = assertThrows(InvalidPageSizeException.class, () ->
+                service.findBySize(printHouse, null));
+        assertEquals(ExceptionMessages.INVALID_PAGE_SIZE, exception.getMessage());
+    }
+
+    @Test
+    void findByPageRange_MinGreaterThanMax_ThrowsInvalidNumberOfPagesException() {
+        InvalidNumberOfPagesException exception = assertThrows(InvalidNumberOfPagesException.class, () ->
+                service.findByPageRange(printHouse, 200, 100));
+        assertEquals(ExceptionMessages.PAGE_RANGE_INVALID, exception.getMessage());
+    }
+
+    @Test
+    void addEditions_WhenOneInvalid_AddsNothing() {
+        List<Edition> editions = List.of(new Edition("Book1", 100, Size.A4), new Edition("Book2", 0, Size.A4));
+        assertThrows(InvalidNumberOfPagesException.class, () -> service.addEditions(printHouse, editions));
+        assertTrue(service.getEditions(printHouse).isEmpty());
+    }
+
     // Edge Cases
 
     @Test
@@ -234,6 +361,35 @@ public class EditionServiceTests {
         assertTrue(service.getEditions(printHouse).isEmpty());
     }
 
+    @Test
+    void removeEdition_ManyEditions_KeepsOrderAndEarlierViews() {
+        List<Edition> expected = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            Edition edition = new Edition("Book " + i, 10 + i % 50, Size.A4);
+            service.addEdition(printHouse, edition);
+            expected.add(edition);
+        }
+        List<Edition> before = service.getEditions(printHouse);
+        List<Edition> copyBefore = new ArrayList<>(before);
+
+        // Empties whole chunks at the start, then thins out the rest
+        for (int i = 0; i < 600; i++) {
+            service.removeEdition(printHouse, expected.remove(0));
+        }
+        for (int i = expected.size() - 1; i >= 0; i -= 3) {
+            service.removeEdition(printHouse, expected.remove(i));
+        }
+        for (int i = 0; i < 700; i++) {
+            Edition edition = new Edition("Late " + i, 20, Size.A5);
+            service.addEdition(printHouse, edition);
+            expected.add(edition);
+        }
+
+        assertEquals(expected, service.getEditions(printHouse));
+        assertEquals(expected.get(expected.size() - 1), service.getEdition(printHouse, expected.size() - 1));
+        assertEquals(copyBefore, before);
+    }
+
     @Test
     void saveEditions_EmptyList_SerializesEmpty(@TempDir Path tempDir) {
         String filePath = tempDir.resolve("editions").toString();
@@ -261,4 +417,69 @@ public class EditionServiceTests {
         assertEquals(List.of(ed1), service.getEditions(printHouse));
         assertEquals(List.of(ed2), service.getEditions(ph2));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByTitlePrefix_UnknownPrintHouse_ReturnsEmpty() {
+        assertTrue(service.findByTitlePrefix(printHouse, "Any").isEmpty());
+    }
+
+    @Test
+    void findByTitlePrefix_AfterRemoval_DoesNotReturnRemovedEdition() {
+        Edition first = new Edition("Same Title", 100, Size.A4);
+        Edition second = new Edition("Same Title", 100, Size.A4);
+        service.addEdition(printHouse, first);
+        service.addEdition(printHouse, second);
+        service.removeEdition(printHouse, first);
+        assertEquals(List.of(second), service.findByTitlePrefix(printHouse, "same"));
+        assertEquals(List.of(second), service.findByPageRange(printHouse, 100, 100));
+    }
+
+    @Test
+    void getEditions_WhenModifiedAfterwards_KeepsSnapshot() {
+        Edition first = new Edition("Book1", 100, Size.A4);
+        Edition second = new Edition("Book2", 200, Size.A3);
+        service.addEdition(printHouse, first);
+        List<Edition> view = service.getEditions(printHouse);
+        service.addEdition(printHouse, second);
+        service.removeEdition(printHouse, first);
+        assertEquals(List.of(first), view);
+        assertEquals(List.of(second), service.getEditions(printHouse));
+    }
+
+    @Test
+    void getEditions_WhenModifiedDuringIteration_DoesNotThrow() {
+        for (int i = 0; i < 10; i++) {
+            service.addEdition(printHouse, new Edition("Book" + i, 100 + i, Size.A4));
+        }
+        int visited = 0;
+        for (Edition edition : service.getEditions(printHouse)) {
+            service.removeEdition(printHouse, edition);
+            service.addEdition(printHouse, new Edition("Reprint", 50, Size.A5));
+            visited++;
+        }
+        assertEquals(10, visited);
+        assertEquals(10, service.getEditions(printHouse).size());
+        assertTrue(service.findByTitlePrefix(printHouse, "Book").isEmpty());
+    }
+
+    @Test
+    void getEditions_WhenModifiedThroughView_ThrowsUnsupportedOperationException() {
+        service.addEdition(printHouse, new Edition("Book1", 100, Size.A4));
+        List<Edition> view = service.getEditions(printHouse);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Edition("Book2", 100, Size.A4)));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    @Test
+    void getEdition_AfterRemovalInMiddle_ReturnsShiftedEdition() {
+        Edition first = new Edition("Book1", 100, Size.A4);
+        Edition middle = new Edition("Book2", 100, Size.A4);
+        Edition last = new Edition("Book3", 100, Size.A4);
+        service.addEdition(printHouse, first);
+        service.addEdition(printHouse, middle);
+        service.addEdition(printHouse, last);
+        service.removeEdition(printHouse, middle);
+        assertSame(last, service.getEdition(printHouse, 1));
+        assertThrows(InvalidEditionException.class, () -> service.getEdition(printHouse, 2));
+    }
+}
@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import services.contracts.IPrintingPressService;
 import utilities.exceptions.InvalidEmployeeException;
 import utilities.exceptions.InvalidPrintHouseException;
+import utilities.exceptions.InvalidRevenueException;
 import utilities.globalconstants.ExceptionMessages;
 
 import java.math.BigDecimal;
@@ -98,6 +99,23 @@ public class EmployeeServiceTests {
         assertEquals(expectedCost, totalCost); // 2500 + (2500 * 1.15) = 5375
     }
 
+    @Test
+    void GetTotalCostForEmployees_GivenRevenue_DoesNotQueryPrintingPresses() {
+        printHouse.getEmployees().add(new Employee("7501020018", EmployeeType.OPERATOR));
+        printHouse.getEmployees().add(new Employee("8003050024", EmployeeType.MANAGER));
+
+        BigDecimal totalCost = employeeService.getTotalCostForEmployees(printHouse, new BigDecimal("12000"));
+
+        assertEquals(new BigDecimal("2500").add(new BigDecimal("2500").multiply(new BigDecimal("1.15"))), totalCost);
+        verify(printingPressService, never()).getTotalRevenue(printHouse);
+    }
+
+    @Test
+    void IsRevenueTargetMet_AtTarget_ReturnsTrue() {
+        assertTrue(employeeService.isRevenueTargetMet(printHouse, new BigDecimal("10000")));
+        assertFalse(employeeService.isRevenueTargetMet(printHouse, new BigDecimal("9999.99")));
+    }
+
     @Test
     void GetEmployees_ValidPrintHouse_ReturnsEmployeeList() {
         Employee employee1 = new Employee("7501020018", EmployeeType.OPERATOR);
@@ -202,6 +220,11 @@ public class EmployeeServiceTests {
         assertEquals(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL, exception.getMessage());
     }
 
+    @Test
+    void IsRevenueTargetMet_NullRevenue_ThrowsException() {
+        assertThrows(InvalidRevenueException.class, () -> employeeService.isRevenueTargetMet(printHouse, null));
+    }
+
     @Test
     void GetEmployees_NullPrintHouse_ThrowsException() {
         InvalidPrintHouseException exception = assertThrows(InvalidPrintHouseException.class, () ->
@@ -210,6 +233,48 @@ public class EmployeeServiceTests {
     }
 
     // Edge Cases
+    @Test
+    void AddEmployee_EmployeeAddedDirectlyToList_StillRejectsDuplicate() {
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.OPERATOR));
+        printHouse.getEmployees().add(new Employee("8003050020", EmployeeType.MANAGER));
+
+        InvalidEmployeeException exception = assertThrows(InvalidEmployeeException.class, () ->
+                employeeService.addEmployee(printHouse, new Employee("8003050020", EmployeeType.OPERATOR)));
+        assertEquals("Employee with this EGN already exists", exception.getMessage());
+    }
+
+    @Test
+    void AddEmployee_LastEmployeeReplacedDirectly_RejectsReplacementsEgn() {
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.OPERATOR));
+        printHouse.getEmployees().set(0, new Employee("8003050020", EmployeeType.MANAGER));
+
+        assertThrows(InvalidEmployeeException.class, () ->
+                employeeService.addEmployee(printHouse, new Employee("8003050020", EmployeeType.OPERATOR)));
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.OPERATOR));
+        assertEquals(2, printHouse.getEmployees().size());
+    }
+
+    @Test
+    void AddEmployee_AfterRemovingEmployee_AllowsSameEgnAgain() {
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.OPERATOR));
+        employeeService.removeEmployee(printHouse, 0);
+
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.MANAGER));
+
+        assertEquals(1, printHouse.getEmployees().size());
+    }
+
+    @Test
+    void AddEmployee_EmployeeListReplaced_ChecksAgainstNewList() {
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.OPERATOR));
+        printHouse.setEmployees(new ArrayList<>(List.of(new Employee("8003050020", EmployeeType.MANAGER))));
+
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.OPERATOR));
+        assertThrows(InvalidEmployeeException.class, () ->
+                employeeService.addEmployee(printHouse, new Employee("8003050020", EmployeeType.OPERATOR)));
+        assertEquals(2, printHouse.getEmployees().size());
+    }
+
     @Test
     void AddEmployee_MaximumLengthEgn_AddsSuccessfully() {
         Employee employee = new Employee("7501020018", EmployeeType.OPERATOR); // Valid 10-digit EGN
@@ -0,0 +1,103 @@
+package services;
+
+import data.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.contracts.IExportService;
+import services.contracts.IPrintingPressService;
+import services.persistence.ExportFormat;
+import utilities.exceptions.InvalidPrintHouseException;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportServiceTests {
+    private IExportService service;
+    private IPrintingPressService printingPressService;
+    private PrintHouse firstHouse;
+    private PrintHouse secondHouse;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportService();
+        printingPressService = new PrintingPressService();
+        firstHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        secondHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        PrintingPress firstPress = new PrintingPress(1000, 1000, true, 100);
+        PrintingPress secondPress = new PrintingPress(1000, 1000, false, 100);
+        printingPressService.addPrintingPress(firstHouse, firstPress);
+        printingPressService.addPrintingPress(secondHouse, secondPress);
+        printingPressService.printItem(firstHouse, firstPress, new Edition("Tales, \"Vol. 1\"", 10, Size.A4),
+                PaperType.GLOSSY, new BigDecimal("12.50"), 3, true);
+        printingPressService.printItem(secondHouse, secondPress, new Edition("Daily", 4, Size.A3),
+                PaperType.NEWSPAPER, BigDecimal.ONE, 20, false);
+    }
+
+    // Happy Path
+    @Test
+    void exportPrintHistory_Csv_WritesHeaderAndQuotedRows() {
+        StringWriter writer = new StringWriter();
+        long rows = service.exportPrintHistory(List.of(firstHouse, secondHouse), IExportService.ALL_PRINT_HOUSES,
+                writer, ExportFormat.CSV);
+
+        assertEquals(2, rows);
+        String[] lines = writer.toString().split("\n");
+        assertEquals("house,press,title,pages,paper_type,size,colour,price,copies", lines[0]);
+        assertEquals("0,0,\"Tales, \"\"Vol. 1\"\"\",10,GLOSSY,A4,true,12.50,3", lines[1]);
+        assertEquals("1,0,Daily,4,NEWSPAPER,A3,false,1,20", lines[2]);
+    }
+
+    @Test
+    void exportPrintHistory_JsonLines_WritesOneObjectPerRecord() {
+        StringWriter writer = new StringWriter();
+        service.exportPrintHistory(List.of(firstHouse, secondHouse), IExportService.ALL_PRINT_HOUSES,
+                writer, ExportFormat.JSON_LINES);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"house\":0,\"press\":0,\"title\":\"Tales, \\\"Vol. 1\\\"\",\"pages\":10,\"paperType\":\"GLOSSY\","
+                + "\"size\":\"A4\",\"colour\":true,\"price\":12.50,\"copies\":3}", lines[0]);
+    }
+
+    @Test
+    void exportPrintHistory_WithHouseFilter_ExportsOnlyThatHouse(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("history.csv");
+        long rows = service.exportPrintHistory(List.of(firstHouse, secondHouse), 1, file.toString(), ExportFormat.CSV);
+
+        assertEquals(1, rows);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("1,0,Daily"));
+    }
+
+    // Error Cases
+    @Test
+    void exportPrintHistory_WhenHouseIndexInvalid_ThrowsException() {
+        assertThrows(InvalidPrintHouseException.class, () -> service.exportPrintHistory(List.of(firstHouse), 3,
+                new StringWriter(), ExportFormat.CSV));
+    }
+
+    @Test
+    void exportPrintHistory_WhenPathEmpty_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.exportPrintHistory(List.of(firstHouse), "",
+                ExportFormat.CSV));
+    }
+
+    // Edge Cases
+    @Test
+    void exportPrintHistory_WhenNoHistory_WritesOnlyHeader() {
+        StringWriter writer = new StringWriter();
+        long rows = service.exportPrintHistory(List.of(new PrintHouse()), IExportService.ALL_PRINT_HOUSES,
+                writer, ExportFormat.CSV);
+        assertEquals(0, rows);
+        assertEquals("house,press,title,pages,paper_type,size,colour,price,copies\n", writer.toString());
+    }
+}
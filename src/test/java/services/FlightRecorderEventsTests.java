@@ -0,0 +1,142 @@
+package services;
+
+import data.models.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.contracts.IEmployeeService;
+import services.contracts.IPrintingPressService;
+import services.persistence.SnapshotCodec;
+import utilities.logging.LogSummary;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTests {
+    private static final List<String> EVENTS = List.of("printhouse.PrintJob", "printhouse.PaperLoad",
+            "printhouse.Report", "printhouse.Payroll", "printhouse.Snapshot");
+
+    @TempDir
+    Path tempDir;
+
+    private Recording recording;
+    private IPrintingPressService printingPressService;
+    private PrintHouse printHouse;
+    private PrintingPress press;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        for (String event : EVENTS) {
+            recording.enable(event).withThreshold(Duration.ZERO);
+        }
+        printingPressService = new PrintingPressService();
+        printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        press = new PrintingPress(1000, 500, true, 100);
+        printingPressService.addPrintingPress(printHouse, press);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    // Happy Path Tests
+    @Test
+    void PrintItemAndLoadPaper_RecordingOn_CommitEventsWithIdsAndCounts() throws Exception {
+        recording.start();
+        printingPressService.printItem(printHouse, press, new Edition("Test Book", 99, Size.A4),
+                PaperType.STANDARD, BigDecimal.TEN, 3, true);
+        printingPressService.loadPaper(printHouse, press, 100);
+
+        List<RecordedEvent> events = stop();
+
+        RecordedEvent print = single(events, "printhouse.PrintJob");
+        assertEquals(LogSummary.id(printHouse), print.getString("printHouse"));
+        assertEquals(LogSummary.id(press), print.getString("press"));
+        assertEquals("Test Book", print.getString("edition"));
+        assertEquals(3, print.getInt("copies"));
+        assertEquals(297, print.getLong("pages"));
+        assertEquals(150, print.getInt("sheets"));
+        RecordedEvent load = single(events, "printhouse.PaperLoad");
+        assertEquals(100, load.getInt("amount"));
+        assertEquals(450, load.getInt("paperLoad"));
+    }
+
+    @Test
+    void ReportsAndPayroll_RecordingOn_CommitEventsWithCounts() throws Exception {
+        IEmployeeService employeeService = new EmployeeService(printingPressService);
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.MANAGER));
+        printingPressService.printItem(printHouse, press, new Edition("Test Book", 10, Size.A4),
+                PaperType.STANDARD, BigDecimal.TEN, 1, true);
+        recording.start();
+
+        employeeService.getTotalCostForEmployees(printHouse);
+        new ReportService(employeeService).getBreakdown(printHouse);
+
+        List<RecordedEvent> events = stop();
+        RecordedEvent payroll = single(events, "printhouse.Payroll");
+        assertEquals(1, payroll.getInt("employees"));
+        assertEquals(1000.0, payroll.getDouble("totalCost"));
+        List<RecordedEvent> reports = events.stream()
+                .filter(e -> e.getEventType().getName().equals("printhouse.Report")).toList();
+        assertEquals(List.of("totalRevenue", "breakdown"), reports.stream().map(e -> e.getString("report")).toList());
+        assertEquals(1, reports.get(1).getLong("items"));
+        assertEquals(1, reports.get(1).getInt("presses"));
+    }
+
+    @Test
+    void SerializeAndDeserialize_RecordingOn_CommitSnapshotEventsWithSizes() throws Exception {
+        SerializationService<PrintHouse> serializationService = new SerializationService<>(SnapshotCodec.DEFLATE);
+        String file = tempDir.resolve("houses.ser").toString();
+        recording.start();
+
+        serializationService.serialize(List.of(printHouse, printHouse), file);
+        serializationService.deserialize(file);
+
+        List<RecordedEvent> events = stop().stream()
+                .filter(e -> e.getEventType().getName().equals("printhouse.Snapshot")).toList();
+        assertEquals(2, events.size());
+        assertEquals("save", events.get(0).getString("operation"));
+        assertEquals("DEFLATE", events.get(0).getString("codec"));
+        assertEquals("load", events.get(1).getString("operation"));
+        for (RecordedEvent event : events) {
+            assertEquals(2, event.getInt("entities"));
+            assertEquals(Files.size(Path.of(file)), event.getLong("fileBytes"));
+            assertTrue(event.getLong("serializedBytes") > 0);
+        }
+    }
+
+    // Edge Cases
+    @Test
+    void PrintItem_Rejected_CommitsNoEvent() throws Exception {
+        recording.start();
+        assertThrows(RuntimeException.class, () -> printingPressService.printItem(printHouse, press,
+                new Edition("Test Book", 10, Size.A4), PaperType.STANDARD, BigDecimal.TEN, 1000, true));
+
+        assertTrue(stop().stream().noneMatch(e -> e.getEventType().getName().equals("printhouse.PrintJob")));
+    }
+
+    private List<RecordedEvent> stop() throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
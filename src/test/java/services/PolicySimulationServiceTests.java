@@ -0,0 +1,131 @@
+package services;
+
+import data.models.*;
+import data.reports.PolicyRanges;
+import data.reports.PolicyRanges.Range;
+import data.reports.PolicySimulationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.contracts.IEmployeeService;
+import services.contracts.IPolicySimulationService;
+import services.contracts.IPrintingPressService;
+import utilities.exceptions.InvalidPrintHouseException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicySimulationServiceTests {
+    private IPolicySimulationService service;
+    private IPrintingPressService printingPressService;
+    private IEmployeeService employeeService;
+    private PrintHouse printHouse;
+
+    @BeforeEach
+    void setUp() {
+        service = new PolicySimulationService();
+        printingPressService = new PrintingPressService();
+        employeeService = new EmployeeService(printingPressService);
+        printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.valueOf(12.5), BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(500), 10, BigDecimal.valueOf(7.5));
+        PrintingPress colourPress = new PrintingPress(10_000, 10_000, true, 100);
+        PrintingPress monoPress = new PrintingPress(10_000, 10_000, false, 100);
+        printingPressService.addPrintingPress(printHouse, colourPress);
+        printingPressService.addPrintingPress(printHouse, monoPress);
+        printingPressService.printItem(printHouse, colourPress, new Edition("Atlas", 120, Size.A3),
+                PaperType.GLOSSY, BigDecimal.valueOf(40), 10, true); // Exactly at the discount count
+        printingPressService.printItem(printHouse, colourPress, new Edition("Poster", 2, Size.A1),
+                PaperType.STANDARD, BigDecimal.valueOf(3), 15, true);
+        printingPressService.printItem(printHouse, monoPress, new Edition("Daily", 16, Size.A4),
+                PaperType.NEWSPAPER, BigDecimal.valueOf(1.5), 300, false);
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.MANAGER));
+        employeeService.addEmployee(printHouse, new Employee("8003050020", EmployeeType.OPERATOR));
+    }
+
+    // Happy Path
+    @Test
+    void simulate_FixedCurrentPolicy_MatchesLiveServices() {
+        PolicySimulationResult result = service.simulate(printHouse, PolicyRanges.around(printHouse, 0), 50, 1);
+
+        double revenue = printingPressService.getTotalRevenue(printHouse).doubleValue();
+        double paperCost = printingPressService.getTotalCostForPrint(printHouse).doubleValue();
+        double payroll = employeeService.getTotalCostForEmployees(printHouse).doubleValue();
+        assertEquals(revenue, result.getRevenue().getMin(), 1e-6);
+        assertEquals(revenue, result.getRevenue().getMax(), 1e-6);
+        assertEquals(paperCost, result.getPaperCost().getMedian(), 1e-6);
+        assertEquals(payroll, result.getPayroll().getMean(), 1e-6);
+        assertEquals(revenue - paperCost - payroll, result.getCurrent().getNetProfit(), 1e-6);
+        assertEquals(1.0, result.getTargetMetShare());
+    }
+
+    @Test
+    void simulate_SameSeed_ReturnsSameResult() {
+        PolicyRanges ranges = PolicyRanges.around(printHouse, 0.5);
+        PolicySimulationResult first = service.simulate(printHouse, ranges, 2000, 42);
+        PolicySimulationResult second = service.simulate(printHouse, ranges, 2000, 42);
+
+        assertEquals(first.getNetProfit().getMean(), second.getNetProfit().getMean());
+        assertEquals(first.getBest().getNetProfit(), second.getBest().getNetProfit());
+        assertEquals(first.getTargetMetShare(), second.getTargetMetShare());
+        assertTrue(first.getRevenue().getMin() < first.getRevenue().getMax());
+        assertTrue(first.getBest().getNetProfit() >= first.getNetProfit().getMax());
+    }
+
+    @Test
+    void simulate_DoesNotModifyPrintHouse() {
+        BigDecimal revenueBefore = printingPressService.getTotalRevenue(printHouse);
+        service.simulate(printHouse, PolicyRanges.around(printHouse, 0.9), 1000, 7);
+
+        assertEquals(10, printHouse.getSalesDiscountCount());
+        assertEquals(BigDecimal.valueOf(7.5), printHouse.getSalesDiscountPercentage());
+        assertEquals(BigDecimal.valueOf(12.5), printHouse.getPaperIncrementPercentage());
+        assertEquals(revenueBefore, printingPressService.getTotalRevenue(printHouse));
+    }
+
+    @Test
+    void simulate_DiscountThresholdBelowAllItems_DiscountsEverything() {
+        PolicyRanges ranges = new PolicyRanges(new Range(0, 0), new Range(10, 10), new Range(0, 0),
+                new Range(0, 0), new Range(0, 0));
+        PolicySimulationResult result = service.simulate(printHouse, ranges, 1, 1);
+        double gross = 40 * 10 + 3 * 15 + 1.5 * 300;
+        assertEquals(gross * 0.9, result.getRevenue().getMean(), 1e-6);
+    }
+
+    // Error Cases
+    @Test
+    void simulate_NullPrintHouse_ThrowsInvalidPrintHouseException() {
+        assertThrows(InvalidPrintHouseException.class, () ->
+                service.simulate(null, PolicyRanges.around(printHouse, 0.1), 10, 1));
+    }
+
+    @Test
+    void simulate_InvalidRanges_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, null, 10, 1));
+        PolicyRanges reversed = new PolicyRanges(new Range(5, 1), new Range(0, 0), new Range(0, 0),
+                new Range(0, 0), new Range(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, reversed, 10, 1));
+        PolicyRanges overDiscounted = new PolicyRanges(new Range(0, 0), new Range(50, 150), new Range(0, 0),
+                new Range(0, 0), new Range(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, overDiscounted, 10, 1));
+    }
+
+    @Test
+    void simulate_InvalidVariantCount_ThrowsIllegalArgumentException() {
+        PolicyRanges ranges = PolicyRanges.around(printHouse, 0.1);
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, ranges, 0, 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                service.simulate(printHouse, ranges, IPolicySimulationService.MAX_VARIANTS + 1, 1));
+    }
+
+    // Edge Cases
+    @Test
+    void simulate_EmptyHouse_ReturnsZeroFigures() {
+        PrintHouse empty = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(500), 10, BigDecimal.TEN);
+        PolicySimulationResult result = service.simulate(empty, PolicyRanges.around(empty, 0.2), 100, 3);
+        assertEquals(0, result.getRevenue().getMax());
+        assertEquals(0, result.getPayroll().getMax());
+        assertEquals(0, result.getTargetMetShare());
+    }
+}
@@ -0,0 +1,184 @@
+package services;
+
+import data.models.*;
+import data.reports.PressThroughput;
+import data.reports.PrintEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.contracts.IPressThroughputService;
+import utilities.exceptions.InvalidPrintingPressException;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PressThroughputServiceTests {
+    private MutableClock clock;
+    private IPressThroughputService service;
+    private PrintingPress press;
+    private Edition edition;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T08:00:00Z"));
+        service = new PressThroughputService(clock);
+        press = new PrintingPress(10_000, 10_000, true, 100);
+        edition = new Edition("Dune", 10, Size.A5);
+    }
+
+    // Happy Path
+    @Test
+    void getThroughput_CountsPagesWithinWindowOnly() {
+        service.recordPrint(press, edition, 30, false); // 300 pages at 08:00:00
+        clock.advance(Duration.ofMinutes(5));
+        service.recordPrint(press, edition, 6, false); // 60 pages at 08:05:00
+
+        PressThroughput lastMinute = service.getThroughput(press, Duration.ofMinutes(1));
+        PressThroughput lastQuarter = service.getThroughput(press, Duration.ofMinutes(15));
+
+        assertEquals(60, lastMinute.getPrintedPages());
+        assertEquals(60.0, lastMinute.getPagesPerMinute(), 1e-9);
+        assertEquals(0.6, lastMinute.getUtilization(), 1e-9);
+        assertEquals(360, lastQuarter.getPrintedPages());
+        assertEquals(24.0, lastQuarter.getPagesPerMinute(), 1e-9);
+    }
+
+    @Test
+    void getThroughput_AfterAnHour_ReusesCounterSlots() {
+        service.recordPrint(press, edition, 10, false);
+        clock.advance(Duration.ofHours(1));
+        assertEquals(0, service.getThroughput(press, IPressThroughputService.MAX_WINDOW).getPrintedPages());
+
+        service.recordPrint(press, edition, 2, false); // Same slot as the first job, one hour later
+        assertEquals(20, service.getThroughput(press, Duration.ofSeconds(1)).getPrintedPages());
+    }
+
+    @Test
+    void getBottlenecks_OrdersPressesByUtilization() {
+        PrintHouse printHouse = new PrintHouse();
+        PrintingPress fast = new PrintingPress(10_000, 10_000, false, 1000);
+        printHouse.getPrintingPresses().add(fast);
+        printHouse.getPrintingPresses().add(press);
+        service.recordPrint(fast, edition, 20, false); // 200 of 1000 pages/min
+        service.recordPrint(press, edition, 10, false); // 100 of 100 pages/min
+
+        List<PressThroughput> bottlenecks = service.getBottlenecks(printHouse, Duration.ofMinutes(1));
+
+        assertSame(press, bottlenecks.get(0).getPress());
+        assertEquals(1.0, bottlenecks.get(0).getUtilization(), 1e-9);
+        assertSame(fast, bottlenecks.get(1).getPress());
+    }
+
+    @Test
+    void printItem_WithThroughputService_RecordsTimestampedEvent() {
+        PrintingPressService printingPressService = new PrintingPressService(null, service);
+        PrintHouse printHouse = new PrintHouse();
+        printHouse.getPrintingPresses().add(press);
+
+        printingPressService.printItem(printHouse, press, edition, PaperType.STANDARD, BigDecimal.TEN, 5, true);
+
+        List<PrintEvent> events = service.getRecentEvents(press);
+        assertEquals(1, events.size());
+        assertEquals(clock.instant(), events.getFirst().getTimestamp());
+        assertEquals(50, events.getFirst().getPrintedPages());
+        assertTrue(events.getFirst().isColour());
+
+        printingPressService.removePrintingPress(printHouse, press);
+        assertTrue(service.getRecentEvents(press).isEmpty());
+    }
+
+    @Test
+    void recordPrint_ConcurrentWriters_LoseNoPages() throws InterruptedException {
+        int threads = 8;
+        int jobsPerThread = 2000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < jobsPerThread; i++) {
+                    service.recordPrint(press, edition, 1, false);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals((long) threads * jobsPerThread * 10, service.getThroughput(press, Duration.ofSeconds(1)).getPrintedPages());
+        assertEquals(256, service.getRecentEvents(press).size());
+    }
+
+    // Error Cases
+    @Test
+    void getThroughput_WindowLongerThanRetained_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> service.getThroughput(press, Duration.ofHours(2)));
+        assertThrows(IllegalArgumentException.class, () -> service.getThroughput(press, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> service.getThroughput(press, null));
+    }
+
+    @Test
+    void recordPrint_NullPress_ThrowsInvalidPrintingPressException() {
+        assertThrows(InvalidPrintingPressException.class, () -> service.recordPrint(null, edition, 1, false));
+    }
+
+    // Edge Cases
+    @Test
+    void getRecentEvents_MoreJobsThanCapacity_KeepsNewestInOrder() {
+        for (int i = 1; i <= 300; i++) {
+            service.recordPrint(press, edition, i, false);
+        }
+        List<PrintEvent> events = service.getRecentEvents(press);
+        assertEquals(256, events.size());
+        assertEquals(45, events.getFirst().getCopies());
+        assertEquals(300, events.getLast().getCopies());
+    }
+
+    @Test
+    void getThroughput_UnknownPress_ReturnsZero() {
+        assertEquals(0, service.getThroughput(press, Duration.ofMinutes(1)).getPrintedPages());
+        assertTrue(service.getRecentEvents(press).isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
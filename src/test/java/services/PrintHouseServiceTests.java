@@ -4,16 +4,24 @@ import data.models.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import services.contracts.IPressThroughputService;
 import services.contracts.IPrintHouseService;
 import services.contracts.ISerializationService;
 import utilities.exceptions.*;
 import utilities.globalconstants.ExceptionMessages;
 import utilities.globalconstants.ModelsConstants;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -54,6 +62,31 @@ public class PrintHouseServiceTests {
         assertTrue(service.getAllPrintHouses().isEmpty());
     }
 
+    @Test
+    void RemovePrintHouse_WithThroughputService_ForgetsItsPresses() {
+        IPressThroughputService throughputService = mock(IPressThroughputService.class);
+        IPrintHouseService trackedService = new PrintHouseService(serializationService, null, null, throughputService);
+        PrintHouse printHouse = trackedService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        PrintingPress press = new PrintingPress(1000, 1000, true, 100);
+        printHouse.getPrintingPresses().add(press);
+        trackedService.removePrintHouse(0);
+        verify(throughputService).forget(press);
+    }
+
+    @Test
+    void LoadAllPrintHouses_WithThroughputService_ForgetsReplacedPresses() {
+        IPressThroughputService throughputService = mock(IPressThroughputService.class);
+        IPrintHouseService trackedService = new PrintHouseService(serializationService, null, null, throughputService);
+        PrintHouse printHouse = trackedService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        PrintingPress press = new PrintingPress(1000, 1000, true, 100);
+        printHouse.getPrintingPresses().add(press);
+        when(serializationService.deserialize("test.ser")).thenReturn(Collections.emptyList());
+        trackedService.loadAllPrintHouses("test.ser");
+        verify(throughputService).forget(press);
+    }
+
     @Test
     void SaveAllPrintHouses_ValidPath_SerializesSuccessfully(@TempDir Path tempDir) {
         service.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
@@ -275,6 +308,133 @@ public class PrintHouseServiceTests {
         assertTrue(service.getAllPrintHouses().isEmpty());
     }
 
+    @Test
+    void LoadAllPrintHouses_CorruptFile_KeepsCurrentData() {
+        service.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        when(serializationService.deserialize("corrupt.ser")).thenThrow(new CorruptSnapshotException("corrupt", 3));
+        CorruptSnapshotException exception = assertThrows(CorruptSnapshotException.class, () ->
+                service.loadAllPrintHouses("corrupt.ser"));
+        assertEquals(3, exception.getBlockIndex());
+        assertEquals(1, service.getAllPrintHouses().size());
+    }
+
+    @Test
+    void SaveAllPrintHousesSharded_ThenLoad_RestoresOrder(@TempDir Path tempDir) {
+        IPrintHouseService shardedService = new PrintHouseService(new SerializationService<>());
+        for (int i = 1; i <= 7; i++) {
+            shardedService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000 * i),
+                    List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        }
+        String directory = tempDir.resolve("shards").toString();
+        shardedService.saveAllPrintHousesSharded(directory, 3);
+
+        IPrintHouseService restored = new PrintHouseService(new SerializationService<>());
+        restored.loadAllPrintHousesSharded(directory);
+        assertEquals(7, restored.getAllPrintHouses().size());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(BigDecimal.valueOf(1000 * (i + 1)), restored.getPrintHouse(i).getBaseSalary());
+        }
+    }
+
+    @Test
+    void LoadAllPrintHousesSharded_MissingShard_KeepsCurrentData(@TempDir Path tempDir) throws Exception {
+        IPrintHouseService shardedService = new PrintHouseService(new SerializationService<>());
+        for (int i = 0; i < 4; i++) {
+            shardedService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                    List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        }
+        Path directory = tempDir.resolve("shards");
+        shardedService.saveAllPrintHousesSharded(directory.toString(), 2);
+        Files.delete(directory.resolve(readManifest(directory).getProperty("shard.1.file")));
+
+        CorruptSnapshotException exception = assertThrows(CorruptSnapshotException.class, () ->
+                shardedService.loadAllPrintHousesSharded(directory.toString()));
+        assertEquals(1, exception.getBlockIndex());
+        assertEquals(4, shardedService.getAllPrintHouses().size());
+    }
+
+    @Test
+    void SaveAllPrintHousesSharded_SaveFails_KeepsPreviousSnapshot(@TempDir Path tempDir) throws Exception {
+        ISerializationService<PrintHouse> real = new SerializationService<>();
+        IPrintHouseService shardedService = new PrintHouseService(real);
+        for (int i = 1; i <= 4; i++) {
+            shardedService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000 * i),
+                    List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        }
+        Path directory = tempDir.resolve("shards");
+        shardedService.saveAllPrintHousesSharded(directory.toString(), 2);
+        Set<String> published = listFiles(directory);
+
+        // The second save writes its first shard, then fails on the second one
+        ISerializationService<PrintHouse> failing = mock(ISerializationService.class);
+        doAnswer(invocation -> {
+            String path = invocation.getArgument(1);
+            if (path.endsWith("-00000.ser")) {
+                List<PrintHouse> houses = invocation.getArgument(0);
+                real.serialize(houses, path);
+                return null;
+            }
+            throw new RuntimeException("Disk full");
+        }).when(failing).serialize(anyList(), anyString());
+        IPrintHouseService failingService = new PrintHouseService(failing);
+        failingService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(9999),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        failingService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(9999),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        assertThrows(RuntimeException.class, () -> failingService.saveAllPrintHousesSharded(directory.toString(), 1));
+
+        assertEquals(published, listFiles(directory));
+        IPrintHouseService restored = new PrintHouseService(real);
+        restored.loadAllPrintHousesSharded(directory.toString());
+        assertEquals(4, restored.getAllPrintHouses().size());
+        assertEquals(BigDecimal.valueOf(1000), restored.getPrintHouse(0).getBaseSalary());
+    }
+
+    @Test
+    void SaveAllPrintHousesSharded_FewerShards_DeletesStaleShards(@TempDir Path tempDir) throws Exception {
+        IPrintHouseService shardedService = new PrintHouseService(new SerializationService<>());
+        for (int i = 0; i < 4; i++) {
+            shardedService.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                    List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        }
+        Path directory = tempDir.resolve("shards");
+        shardedService.saveAllPrintHousesSharded(directory.toString(), 1);
+        shardedService.removePrintHouse(0);
+        shardedService.saveAllPrintHousesSharded(directory.toString(), 3);
+
+        Properties manifest = readManifest(directory);
+        assertEquals(Set.of("manifest.properties", manifest.getProperty("shard.0.file")), listFiles(directory));
+    }
+
+    @Test
+    void LoadAllPrintHousesSharded_ShardOutsideDirectory_ThrowsException(@TempDir Path tempDir) throws Exception {
+        Path directory = Files.createDirectories(tempDir.resolve("shards"));
+        Files.writeString(directory.resolve("manifest.properties"),
+                "version=1\nhouses=1\nshards=1\nshard.0.file=../outside.ser\nshard.0.houses=1\n");
+
+        assertThrows(CorruptSnapshotException.class, () -> service.loadAllPrintHousesSharded(directory.toString()));
+        verify(serializationService, never()).deserialize(anyString());
+    }
+
+    @Test
+    void LoadAllPrintHousesSharded_NoManifest_ThrowsException(@TempDir Path tempDir) {
+        assertThrows(IllegalArgumentException.class, () ->
+                service.loadAllPrintHousesSharded(tempDir.toString()));
+    }
+
+    @Test
+    void SaveAllPrintHousesSharded_NonPositiveShardSize_ThrowsException(@TempDir Path tempDir) {
+        assertThrows(IllegalArgumentException.class, () ->
+                service.saveAllPrintHousesSharded(tempDir.toString(), 0));
+    }
+
+    @Test
+    void VerifySavedPrintHouses_ValidPath_DelegatesToSerialization() {
+        service.verifySavedPrintHouses("test.ser");
+        verify(serializationService).verify("test.ser");
+    }
+
     @Test
     void UpdatePrintHouse_AllParametersNull_DoesNotThrow() {
         service.createPrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
@@ -283,4 +443,18 @@ public class PrintHouseServiceTests {
         service.updatePrintHouse(0, null, null, null, null, null, null, null);
         assertEquals(original, service.getPrintHouse(0)); // No changes applied
     }
-}
\ No newline at end of file
+
+    private static Properties readManifest(Path directory) throws IOException {
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(directory.resolve("manifest.properties"))) {
+            manifest.load(reader);
+        }
+        return manifest;
+    }
+
+    private static Set<String> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package services;
 
 import data.models.*;
+import data.reports.RankedItem;
+import data.reports.RankingMetric;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import services.contracts.IPrintingPressService;
 import utilities.exceptions.*;
 import utilities.globalconstants.ExceptionMessages;
 import utilities.globalconstants.ModelsConstants;
+import utilities.metrics.BusinessMetric;
+import utilities.metrics.MetricsRegistry;
 
 import java.math.BigDecimal;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -101,6 +106,79 @@ class PrintingPressServiceTests {
         assertEquals(BigDecimal.valueOf(50), revenue); // 5 * 10 = 50 (no discount)
     }
 
+    @Test
+    void GetTopEditions_ByCopies_ReturnsHighestFirstWithinLimit() {
+        PrintingPress other = new PrintingPress(1000, 1000, false, 100);
+        service.addPrintingPress(printHouse, press);
+        service.addPrintingPress(printHouse, other);
+        Edition daily = new Edition("Daily", 2, Size.A5);
+        Edition weekly = new Edition("Weekly", 4, Size.A5);
+        Edition annual = new Edition("Annual", 8, Size.A5);
+        service.printItem(printHouse, press, daily, PaperType.STANDARD, BigDecimal.ONE, 40, false);
+        service.printItem(printHouse, other, daily, PaperType.GLOSSY, BigDecimal.ONE, 30, false); // Same edition, other press
+        service.printItem(printHouse, press, weekly, PaperType.STANDARD, BigDecimal.ONE, 50, false);
+        service.printItem(printHouse, other, annual, PaperType.STANDARD, BigDecimal.ONE, 5, false);
+
+        List<RankedItem<Edition>> top = service.getTopEditions(printHouse, RankingMetric.COPIES, 2);
+
+        assertEquals(2, top.size());
+        assertSame(daily, top.get(0).getItem());
+        assertEquals(BigDecimal.valueOf(70), top.get(0).getValue());
+        assertSame(weekly, top.get(1).getItem());
+    }
+
+    @Test
+    void GetTopEditions_AcrossHouses_MergesEqualEditions() {
+        PrintHouse secondHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        PrintingPress secondPress = new PrintingPress(1000, 1000, false, 100);
+        service.addPrintingPress(printHouse, press);
+        service.addPrintingPress(secondHouse, secondPress);
+        service.printItem(printHouse, press, new Edition("Daily", 2, Size.A5), PaperType.STANDARD, BigDecimal.ONE, 3, false);
+        service.printItem(secondHouse, secondPress, new Edition("Daily", 2, Size.A5), PaperType.STANDARD, BigDecimal.ONE, 4, false);
+        service.printItem(secondHouse, secondPress, new Edition("Weekly", 4, Size.A5), PaperType.STANDARD, BigDecimal.ONE, 2, false);
+
+        List<RankedItem<Edition>> top = service.getTopEditions(List.of(printHouse, secondHouse), RankingMetric.PAGES, 5);
+
+        assertEquals(2, top.size());
+        assertEquals("Daily", top.get(0).getItem().getTitle());
+        assertEquals(BigDecimal.valueOf(14), top.get(0).getValue());
+        assertEquals(BigDecimal.valueOf(8), top.get(1).getValue());
+    }
+
+    @Test
+    void GetTopPrintingPresses_ByRevenueAndPaperCost_MatchesTotals() {
+        PrintingPress other = new PrintingPress(1000, 1000, false, 100);
+        service.addPrintingPress(printHouse, press);
+        service.addPrintingPress(printHouse, other);
+        service.printItem(printHouse, press, new Edition("Daily", 2, Size.A5), PaperType.STANDARD, BigDecimal.ONE, 20, false);
+        service.printItem(printHouse, other, new Edition("Weekly", 40, Size.A3), PaperType.GLOSSY, BigDecimal.TEN, 5, false);
+
+        List<RankedItem<PrintingPress>> byRevenue = service.getTopPrintingPresses(printHouse, RankingMetric.REVENUE, 2);
+        List<RankedItem<PrintingPress>> byCost = service.getTopPrintingPresses(printHouse, RankingMetric.PAPER_COST, 1);
+
+        assertSame(other, byRevenue.get(0).getItem());
+        assertEquals(0, service.getTotalRevenue(printHouse)
+                .compareTo(byRevenue.get(0).getValue().add(byRevenue.get(1).getValue())));
+        assertEquals(1, byCost.size());
+        assertSame(other, byCost.get(0).getItem());
+    }
+
+    @Test
+    void PrintItem_WithMetrics_CountsPagesAndPaperPerPress() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        IPrintingPressService metered = new PrintingPressService(null, null, metrics);
+        Edition edition = new Edition("Test Book", 101, Size.A4);
+        metered.addPrintingPress(printHouse, press);
+        metered.printItem(printHouse, press, edition, PaperType.STANDARD, BigDecimal.TEN, 4, true);
+        metered.loadPaper(printHouse, press, 100);
+
+        assertEquals(404, metrics.get(BusinessMetric.PAGES_PRINTED, printHouse, press));
+        assertEquals(204, metrics.get(BusinessMetric.PAPER_CONSUMED, printHouse, press));
+        assertEquals(204, metrics.get(BusinessMetric.PAPER_CONSUMED, printHouse));
+        assertEquals(100, metrics.getTotal(BusinessMetric.PAPER_LOADED));
+    }
+
     // Error Cases
     @Test
     void PrintItem_NullPrintHouse_ThrowsException() {
@@ -368,8 +446,47 @@ class PrintingPressServiceTests {
         assertEquals(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL, exception.getMessage());
     }
 
+    @Test
+    void GetTopPrintingPresses_InvalidArguments_ThrowExceptions() {
+        assertThrows(InvalidPrintHouseException.class, () -> service.getTopPrintingPresses((PrintHouse) null, RankingMetric.COPIES, 1));
+        assertThrows(IllegalArgumentException.class, () -> service.getTopPrintingPresses(printHouse, null, 1));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                service.getTopEditions(printHouse, RankingMetric.COPIES, 0));
+        assertEquals(ExceptionMessages.RANKING_LIMIT_MUST_BE_POSITIVE, exception.getMessage());
+    }
+
+    @Test
+    void PrintItem_WithMetrics_CountsRejectedJobs() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        IPrintingPressService metered = new PrintingPressService(null, null, metrics);
+        PrintingPress monochrome = new PrintingPress(1000, 10, false, 100);
+        Edition edition = new Edition("Test Book", 100, Size.A4);
+        metered.addPrintingPress(printHouse, monochrome);
+
+        assertThrows(UnsupportedPrintColorException.class, () ->
+                metered.printItem(printHouse, monochrome, edition, PaperType.STANDARD, BigDecimal.TEN, 1, true));
+        assertThrows(InvalidPaperLoadException.class, () ->
+                metered.printItem(printHouse, monochrome, edition, PaperType.STANDARD, BigDecimal.TEN, 1, false));
+
+        assertEquals(1, metrics.get(BusinessMetric.JOBS_REJECTED_COLOUR_MISMATCH, printHouse, monochrome));
+        assertEquals(1, metrics.get(BusinessMetric.JOBS_REJECTED_INSUFFICIENT_PAPER, printHouse, monochrome));
+        assertEquals(0, metrics.getTotal(BusinessMetric.PAGES_PRINTED));
+    }
+
     // Edge Cases
     @Test
+    void GetTopPrintingPresses_TiedValues_KeepsFirstOffered() {
+        List<PrintingPress> presses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PrintingPress idle = new PrintingPress(1000, 1000, false, 100);
+            service.addPrintingPress(printHouse, idle);
+            presses.add(idle);
+        }
+        List<RankedItem<PrintingPress>> top = service.getTopPrintingPresses(printHouse, RankingMetric.COPIES, 3);
+        assertEquals(List.of(presses.get(0), presses.get(1), presses.get(2)),
+                top.stream().map(RankedItem::getItem).toList());
+    }
+    @Test
     void PrintItem_MaximumCopies_PrintsSuccessfully() {
         Edition edition = new Edition("Test Book", 2, Size.A4); // 1 sheet per copy
         press.setCurrentPaperLoad(1000);
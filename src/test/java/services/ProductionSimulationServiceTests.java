@@ -0,0 +1,189 @@
+package services;
+
+import data.models.*;
+import data.reports.PressUtilization;
+import data.reports.ProductionJob;
+import data.reports.ProductionReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.contracts.IProductionSimulationService;
+import utilities.exceptions.InvalidPrintHouseException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductionSimulationServiceTests {
+    private IProductionSimulationService service;
+    private PrintHouse printHouse;
+    private Edition edition;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductionSimulationService();
+        printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.TEN);
+        edition = new Edition("Daily", 10, Size.A4);
+    }
+
+    // Happy Path
+    @Test
+    void simulate_SinglePress_QueuesJobsFirstComeFirstServed() {
+        printHouse.getPrintingPresses().add(new PrintingPress(10_000, 10_000, false, 60));
+        List<ProductionJob> jobs = List.of(
+                new ProductionJob(0, edition, 6, false),   // 60 pages, one minute
+                new ProductionJob(0, edition, 12, false),  // 120 pages, two minutes
+                new ProductionJob(500, edition, 6, false));
+
+        ProductionReport report = service.simulate(printHouse, jobs, 0);
+
+        assertArrayEquals(new long[]{60, 180, 560}, report.getCompletionSeconds());
+        assertEquals(560, report.getMakespanSeconds());
+        assertEquals(1, report.getMaxMonochromeQueue());
+        assertEquals(60, report.getMaxWaitSeconds());
+        assertEquals(20.0, report.getMeanWaitSeconds(), 1e-9);
+        PressUtilization press = report.getPresses().getFirst();
+        assertEquals(240, press.getBusySeconds());
+        assertEquals(320, press.getIdleSeconds());
+        assertEquals(3, press.getJobs());
+    }
+
+    @Test
+    void simulate_MixedFleet_RoutesColourJobsToColourPresses() {
+        PrintingPress mono = new PrintingPress(10_000, 10_000, false, 60);
+        PrintingPress colour = new PrintingPress(10_000, 10_000, true, 60);
+        printHouse.getPrintingPresses().add(mono);
+        printHouse.getPrintingPresses().add(colour);
+        List<ProductionJob> jobs = List.of(
+                new ProductionJob(0, edition, 6, false),  // Takes the monochrome press
+                new ProductionJob(0, edition, 6, true),   // Takes the colour press
+                new ProductionJob(10, edition, 6, false), // Waits for the monochrome press, which frees first
+                new ProductionJob(10, edition, 6, true)); // Waits for the colour press
+
+        ProductionReport report = service.simulate(printHouse, jobs, 0);
+
+        assertArrayEquals(new long[]{60, 60, 120, 120}, report.getCompletionSeconds());
+        assertEquals(1, report.getMaxColourQueue());
+        assertEquals(2, report.getPresses().get(0).getJobs());
+        assertEquals(2, report.getPresses().get(1).getJobs());
+    }
+
+    @Test
+    void simulate_NotEnoughPaper_RefillsDuringJobWithoutChangingHouse() {
+        PrintingPress press = new PrintingPress(100, 10, false, 6000);
+        printHouse.getPrintingPresses().add(press);
+        // 10 pages on 5 sheets per copy: 250 sheets; a top-up to 100, then two more refills of 100 during the job
+        ProductionReport report = service.simulate(printHouse, List.of(new ProductionJob(0, edition, 50, false)), 30);
+
+        PressUtilization utilization = report.getPresses().getFirst();
+        assertEquals(3, utilization.getRefills());
+        assertEquals(90, utilization.getRefillSeconds());
+        assertEquals(5, utilization.getBusySeconds());
+        assertEquals(95, report.getMakespanSeconds());
+        assertEquals(10, press.getCurrentPaperLoad());
+        assertTrue(press.getPrintedItems().isEmpty());
+    }
+
+    @Test
+    void simulate_RefillsTopUpToCapacity_LoadNeverExceedsMaximum() {
+        PrintingPress press = new PrintingPress(100, 90, false, 6000);
+        printHouse.getPrintingPresses().add(press);
+        // 150 sheets: topped up to 100 and refilled once more, leaving 50; the 50-sheet job then needs no refill
+        ProductionReport report = service.simulate(printHouse, List.of(new ProductionJob(0, edition, 30, false),
+                new ProductionJob(0, edition, 10, false), new ProductionJob(0, edition, 1, false)), 10);
+
+        PressUtilization utilization = report.getPresses().getFirst();
+        // The third job's 5 sheets find the press empty and top it up again
+        assertEquals(3, utilization.getRefills());
+        assertEquals(30, utilization.getRefillSeconds());
+    }
+
+    @Test
+    void simulate_TimeBeyondEventRange_ThrowsException() {
+        printHouse.getPrintingPresses().add(new PrintingPress(100, 0, false, 6000));
+        List<ProductionJob> jobs = List.of(new ProductionJob(0, edition, 1, false));
+
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, jobs, Long.MAX_VALUE / 2));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, jobs, 1L << 50));
+    }
+
+    @Test
+    void replayHistory_RepeatsPrintedItemsDuringWorkingHours() {
+        PrintingPress press = new PrintingPress(10_000, 10_000, true, 100);
+        PrintingPressService printingPressService = new PrintingPressService();
+        printingPressService.addPrintingPress(printHouse, press);
+        printingPressService.printItem(printHouse, press, edition, PaperType.STANDARD, BigDecimal.ONE, 5, true);
+        printingPressService.printItem(printHouse, press, new Edition("Weekly", 20, Size.A4), PaperType.GLOSSY,
+                BigDecimal.ONE, 5, false);
+
+        List<ProductionJob> jobs = service.replayHistory(printHouse, 3, 11);
+
+        assertEquals(6, jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            long secondOfDay = jobs.get(i).getArrivalSecond() % Duration.ofDays(1).getSeconds();
+            assertTrue(secondOfDay >= Duration.ofHours(8).getSeconds() && secondOfDay < Duration.ofHours(16).getSeconds());
+            assertTrue(i == 0 || jobs.get(i - 1).getArrivalSecond() <= jobs.get(i).getArrivalSecond());
+        }
+        assertEquals(0, service.simulate(printHouse, jobs, 60).getRejectedJobs());
+    }
+
+    @Test
+    void simulate_MonthOfLargeHouse_FinishesQuickly() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int p = 0; p < 200; p++) {
+            printHouse.getPrintingPresses().add(new PrintingPress(5_000, 5_000, p % 4 == 0, 50 + random.nextInt(200)));
+        }
+        List<ProductionJob> jobs = new ArrayList<>();
+        long month = Duration.ofDays(30).getSeconds();
+        for (int j = 0; j < 300_000; j++) {
+            jobs.add(new ProductionJob(random.nextLong(month), edition, 1 + random.nextInt(200), random.nextInt(5) == 0));
+        }
+
+        ProductionReport report = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> service.simulate(printHouse, jobs, 120));
+
+        assertEquals(0, report.getRejectedJobs());
+        long printed = report.getPresses().stream().mapToLong(PressUtilization::getJobs).sum();
+        assertEquals(jobs.size(), printed);
+    }
+
+    // Error Cases
+    @Test
+    void simulate_ColourJobWithoutColourPress_RejectsJob() {
+        printHouse.getPrintingPresses().add(new PrintingPress(10_000, 10_000, false, 60));
+        ProductionReport report = service.simulate(printHouse, List.of(new ProductionJob(0, edition, 1, true)), 0);
+        assertEquals(1, report.getRejectedJobs());
+        assertArrayEquals(new long[]{-1}, report.getCompletionSeconds());
+    }
+
+    @Test
+    void simulate_InvalidArguments_ThrowExceptions() {
+        assertThrows(InvalidPrintHouseException.class, () -> service.simulate(null, List.of(), 0));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(printHouse, List.of(), -1));
+        assertThrows(IllegalArgumentException.class, () ->
+                service.simulate(printHouse, List.of(new ProductionJob(0, edition, 0, false)), 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                service.simulate(printHouse, List.of(new ProductionJob(-1, edition, 1, false)), 0));
+        assertThrows(IllegalArgumentException.class, () -> service.replayHistory(printHouse, 0, 1));
+    }
+
+    // Edge Cases
+    @Test
+    void simulate_UnsortedArrivals_ReportsCompletionInSubmissionOrder() {
+        printHouse.getPrintingPresses().add(new PrintingPress(10_000, 10_000, false, 60));
+        List<ProductionJob> jobs = List.of(new ProductionJob(100, edition, 6, false), new ProductionJob(0, edition, 6, false));
+        assertArrayEquals(new long[]{160, 60}, service.simulate(printHouse, jobs, 0).getCompletionSeconds());
+    }
+
+    @Test
+    void simulate_NoJobs_ReturnsEmptyReport() {
+        printHouse.getPrintingPresses().add(new PrintingPress(10_000, 10_000, false, 60));
+        ProductionReport report = service.simulate(printHouse, List.of(), 0);
+        assertEquals(0, report.getMakespanSeconds());
+        assertEquals(0, report.getPresses().getFirst().getIdleSeconds());
+    }
+}
@@ -0,0 +1,144 @@
+package services;
+
+import data.models.*;
+import data.reports.BreakdownLine;
+import data.reports.PrintHouseBreakdown;
+import data.reports.ProfitAndLossStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.contracts.IEmployeeService;
+import services.contracts.IPrintingPressService;
+import services.contracts.IReportService;
+import utilities.exceptions.InvalidPrintHouseException;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportServiceTests {
+    private IReportService service;
+    private IPrintingPressService printingPressService;
+    private PrintHouse printHouse;
+    private PrintingPress colourPress;
+    private PrintingPress monoPress;
+
+    @BeforeEach
+    void setUp() {
+        printingPressService = new PrintingPressService();
+        service = new ReportService(new EmployeeService(printingPressService));
+        printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.valueOf(12.5), BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(7.5));
+        colourPress = new PrintingPress(10_000, 10_000, true, 100);
+        monoPress = new PrintingPress(10_000, 10_000, false, 100);
+        printingPressService.addPrintingPress(printHouse, colourPress);
+        printingPressService.addPrintingPress(printHouse, monoPress);
+    }
+
+    // Happy Path
+    @Test
+    void getBreakdown_TotalsMatchLiveServices() {
+        printSample();
+        PrintHouseBreakdown breakdown = service.getBreakdown(printHouse);
+        assertEquals(printingPressService.getTotalRevenue(printHouse), breakdown.getTotal().getRevenue());
+        assertEquals(printingPressService.getTotalCostForPrint(printHouse), breakdown.getTotal().getPaperCost());
+        assertEquals(printingPressService.totalPrintedPages(printHouse, colourPress),
+                breakdown.getByPrintingPress().get(0).getPrintedPages());
+        assertEquals(printingPressService.totalPrintedPages(printHouse, monoPress),
+                breakdown.getByPrintingPress().get(1).getPrintedPages());
+        assertEquals(325, breakdown.getTotal().getCopies());
+    }
+
+    @Test
+    void getBreakdown_EveryGroupingAddsUpToTotal() {
+        printSample();
+        PrintHouseBreakdown breakdown = service.getBreakdown(printHouse);
+        BreakdownLine total = breakdown.getTotal();
+        assertSum(total, breakdown.getByPrintingPress());
+        assertSum(total, List.copyOf(breakdown.getByPaperType().values()));
+        assertSum(total, List.copyOf(breakdown.getBySize().values()));
+        assertSum(total, List.of(breakdown.getColour(), breakdown.getMonochrome()));
+        assertEquals(20, breakdown.getColour().getCopies());
+        assertEquals(300, breakdown.getBySize().get(Size.A4).getCopies());
+        assertEquals(5, breakdown.getByPaperType().get(PaperType.STANDARD).getCopies());
+    }
+
+    @Test
+    void profitAndLoss_MatchesSeparateServiceCalls() {
+        printSample();
+        IEmployeeService employeeService = new EmployeeService(printingPressService);
+        employeeService.addEmployee(printHouse, new Employee("7501020018", EmployeeType.MANAGER));
+        employeeService.addEmployee(printHouse, new Employee("8003050020", EmployeeType.OPERATOR));
+        printHouse.setRevenueTarget(BigDecimal.ONE);
+
+        ProfitAndLossStatement statement = service.profitAndLoss(printHouse);
+
+        assertEquals(printingPressService.getTotalRevenue(printHouse), statement.getRevenue());
+        assertEquals(printingPressService.getTotalCostForPrint(printHouse), statement.getPaperCost());
+        assertEquals(employeeService.getTotalCostForEmployees(printHouse), statement.getPayroll());
+        assertTrue(statement.isRevenueTargetMet());
+        assertEquals(statement.getRevenue().subtract(statement.getPaperCost()).subtract(statement.getPayroll()),
+                statement.getNetProfit());
+    }
+
+    @Test
+    void profitAndLoss_BelowTarget_PaysBaseSalaries() {
+        printSample();
+        new EmployeeService(printingPressService).addEmployee(printHouse, new Employee("7501020018", EmployeeType.MANAGER));
+        printHouse.setRevenueTarget(BigDecimal.valueOf(1_000_000));
+        ProfitAndLossStatement statement = service.profitAndLoss(printHouse);
+        assertFalse(statement.isRevenueTargetMet());
+        assertEquals(printHouse.getBaseSalary(), statement.getPayroll());
+    }
+
+    // Error Cases
+    @Test
+    void profitAndLoss_NullPrintHouse_ThrowsInvalidPrintHouseException() {
+        assertThrows(InvalidPrintHouseException.class, () -> service.profitAndLoss(null));
+    }
+
+    @Test
+    void getBreakdown_NullPrintHouse_ThrowsInvalidPrintHouseException() {
+        InvalidPrintHouseException exception = assertThrows(InvalidPrintHouseException.class, () ->
+                service.getBreakdown(null));
+        assertEquals(ExceptionMessages.PRINT_HOUSE_CANNOT_BE_NULL, exception.getMessage());
+    }
+
+    // Edge Cases
+    @Test
+    void getBreakdown_NoPrintHistory_ReturnsZeroLines() {
+        PrintHouseBreakdown breakdown = service.getBreakdown(printHouse);
+        assertEquals(0, breakdown.getTotal().getCopies());
+        assertEquals(0, BigDecimal.ZERO.compareTo(breakdown.getTotal().getRevenue()));
+        assertEquals(2, breakdown.getByPrintingPress().size());
+        assertEquals(PaperType.values().length, breakdown.getByPaperType().size());
+        assertThrows(UnsupportedOperationException.class, () -> breakdown.getBySize().remove(Size.A4));
+    }
+
+    private void printSample() {
+        printingPressService.printItem(printHouse, colourPress, new Edition("Atlas", 120, Size.A3),
+                PaperType.GLOSSY, new BigDecimal("19.99"), 20, true);
+        printingPressService.printItem(printHouse, colourPress, new Edition("Poster", 2, Size.A1),
+                PaperType.STANDARD, BigDecimal.valueOf(3), 5, false);
+        printingPressService.printItem(printHouse, monoPress, new Edition("Daily", 16, Size.A4),
+                PaperType.NEWSPAPER, new BigDecimal("0.75"), 300, false);
+    }
+
+    private static void assertSum(BreakdownLine total, List<BreakdownLine> lines) {
+        long copies = 0;
+        long pages = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        BigDecimal cost = BigDecimal.ZERO;
+        for (BreakdownLine line : lines) {
+            copies += line.getCopies();
+            pages += line.getPrintedPages();
+            revenue = revenue.add(line.getRevenue());
+            cost = cost.add(line.getPaperCost());
+        }
+        assertEquals(total.getCopies(), copies);
+        assertEquals(total.getPrintedPages(), pages);
+        assertEquals(0, total.getRevenue().compareTo(revenue));
+        assertEquals(0, total.getPaperCost().compareTo(cost));
+    }
+}
@@ -0,0 +1,106 @@
+package services;
+
+import data.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.contracts.IPrintingPressService;
+import services.contracts.IReportStoreService;
+import services.persistence.MappedReportStore;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportStoreServiceTests {
+    private IReportStoreService service;
+    private IPrintingPressService printingPressService;
+    private PrintHouse printHouse;
+    private PrintingPress colourPress;
+    private PrintingPress monoPress;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReportStoreService();
+        printingPressService = new PrintingPressService();
+        printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.valueOf(12.5), BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(7.5));
+        colourPress = new PrintingPress(10_000, 10_000, true, 100);
+        monoPress = new PrintingPress(10_000, 10_000, false, 100);
+        printingPressService.addPrintingPress(printHouse, colourPress);
+        printingPressService.addPrintingPress(printHouse, monoPress);
+    }
+
+    // Happy Path
+    @Test
+    void openReportStore_AfterExport_MatchesLiveTotals(@TempDir Path tempDir) throws IOException {
+        printingPressService.printItem(printHouse, colourPress, new Edition("Atlas", 120, Size.A3),
+                PaperType.GLOSSY, new BigDecimal("19.99"), 20, true);
+        printingPressService.printItem(printHouse, colourPress, new Edition("Poster", 2, Size.A1),
+                PaperType.STANDARD, BigDecimal.valueOf(3), 5, false);
+        printingPressService.printItem(printHouse, monoPress, new Edition("Daily", 16, Size.A4),
+                PaperType.NEWSPAPER, new BigDecimal("0.75"), 300, false);
+        String filePath = tempDir.resolve("report.phr").toString();
+
+        service.exportReportStore(List.of(printHouse), filePath);
+
+        try (MappedReportStore store = service.openReportStore(filePath)) {
+            assertEquals(1, store.getPrintHouseCount());
+            assertEquals(2, store.getPrintingPressCount(0));
+            assertEquals(printingPressService.getTotalRevenue(printHouse), store.getTotalRevenue(0));
+            assertEquals(printingPressService.getTotalCostForPrint(printHouse), store.getTotalCostForPrint(0));
+            assertEquals(printingPressService.totalPrintedPages(printHouse, colourPress), store.getTotalPrintedPages(0, 0));
+            assertEquals(printingPressService.totalPrintedPages(printHouse, monoPress), store.getTotalPrintedPages(0, 1));
+            assertEquals(120 * 20 + 2 * 5 + 16 * 300, store.getTotalPrintedPages(0));
+        }
+    }
+
+    @Test
+    void openReportStore_WithSeveralHouses_ReportsEachSeparately(@TempDir Path tempDir) throws IOException {
+        PrintHouse emptyHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        printingPressService.printItem(printHouse, monoPress, new Edition("Daily", 16, Size.A4),
+                PaperType.NEWSPAPER, BigDecimal.ONE, 3, false);
+        String filePath = tempDir.resolve("report.phr").toString();
+
+        service.exportReportStore(List.of(emptyHouse, printHouse), filePath);
+
+        try (MappedReportStore store = service.openReportStore(filePath)) {
+            assertEquals(2, store.getPrintHouseCount());
+            assertEquals(BigDecimal.ZERO, store.getTotalRevenue(0));
+            assertEquals(0, store.getTotalPrintedPages(0));
+            assertEquals(printingPressService.getTotalRevenue(printHouse), store.getTotalRevenue(1));
+        }
+    }
+
+    // Error Cases
+    @Test
+    void exportReportStore_WhenListNull_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.exportReportStore(null, "report.phr"));
+    }
+
+    @Test
+    void openReportStore_WhenPathEmpty_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.openReportStore(" "));
+    }
+
+    @Test
+    void openReportStore_WhenFileIsNotAStore_ThrowsException(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("other.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(RuntimeException.class, () -> service.openReportStore(file.toString()));
+    }
+
+    @Test
+    void getTotalRevenue_WhenHouseIndexInvalid_ThrowsException(@TempDir Path tempDir) throws IOException {
+        String filePath = tempDir.resolve("report.phr").toString();
+        service.exportReportStore(List.of(printHouse), filePath);
+        try (MappedReportStore store = service.openReportStore(filePath)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getTotalRevenue(1));
+        }
+    }
+}
@@ -4,10 +4,17 @@ import data.models.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import services.persistence.SnapshotCodec;
+import services.persistence.SnapshotFormat;
+import utilities.exceptions.CorruptSnapshotException;
 
 import java.io.*;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -41,7 +48,156 @@ class SerializationServiceTests {
         assertEquals(1, service.deserialize(filePath).size());
     }
 
+    @Test
+    void serializeList_WithEachCodec_RoundTrips(@TempDir Path tempDir) {
+        PrintHouse ph = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        ph.getEmployees().add(new Employee("7501020018", EmployeeType.OPERATOR));
+        for (SnapshotCodec codec : SnapshotCodec.values()) {
+            String filePath = tempDir.resolve(codec + ".ser").toString();
+            new SerializationService<PrintHouse>(codec).serialize(List.of(ph), filePath);
+
+            List<PrintHouse> loaded = service.deserialize(filePath);
+            assertEquals(1, loaded.size(), codec.name());
+            assertEquals("7501020018", loaded.getFirst().getEmployees().getFirst().getEgn(), codec.name());
+        }
+    }
+
+    @Test
+    void serializeList_WithFastCodec_WritesSmallerFile(@TempDir Path tempDir) throws IOException {
+        List<PrintHouse> houses = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            houses.add(new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                    List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5)));
+        }
+        Path plain = tempDir.resolve("plain.ser");
+        Path fast = tempDir.resolve("fast.ser");
+        service.serialize(houses, plain.toString());
+        new SerializationService<PrintHouse>(SnapshotCodec.FAST).serialize(houses, fast.toString());
+        assertTrue(Files.size(fast) < Files.size(plain));
+    }
+
+    @Test
+    void snapshotFormat_WithManyChunks_RoundTripsInParallel() throws IOException {
+        byte[] payload = new byte[100_000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (i % 251);
+        }
+        for (SnapshotCodec codec : SnapshotCodec.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            SnapshotFormat.write(out, payload, codec, 4096);
+            byte[] restored = SnapshotFormat.read(new ByteArrayInputStream(out.toByteArray()));
+            assertArrayEquals(payload, restored, codec.name());
+        }
+    }
+
+    @Test
+    void snapshotFormat_WhenCodecUnknown_ThrowsCorruptSnapshotException() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SnapshotFormat.write(out, new byte[]{1, 2, 3}, SnapshotCodec.NONE);
+        byte[] bytes = out.toByteArray();
+        bytes[5] = 42;
+        assertThrows(CorruptSnapshotException.class, () -> SnapshotFormat.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void verify_WhenFileIntact_DoesNotThrow(@TempDir Path tempDir) {
+        String filePath = tempDir.resolve("intact.ser").toString();
+        service.serialize(List.of(new PrintHouse()), filePath);
+        assertDoesNotThrow(() -> service.verify(filePath));
+    }
+
+    @Test
+    void serializeEditions_WithRepeatedTitle_WritesTitleOnce(@TempDir Path tempDir) throws IOException {
+        SerializationService<Edition> editionService = new SerializationService<>();
+        String title = "A Distinctive Repeated Title";
+        List<Edition> editions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            editions.add(new Edition(title, 100 + i, Size.A4));
+        }
+        Path file = tempDir.resolve("editions.ser");
+        editionService.serialize(editions, file.toString());
+
+        String raw = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        assertEquals(raw.indexOf(title), raw.lastIndexOf(title));
+        List<Edition> loaded = editionService.deserialize(file.toString());
+        assertEquals(50, loaded.size());
+        for (Edition edition : loaded) {
+            assertEquals(title, edition.getTitle());
+            assertEquals(editions.getFirst().getTitleCode(), edition.getTitleCode());
+        }
+    }
+
+    @Test
+    void edition_SerialForm_KeepsOriginalFieldLayout() {
+        ObjectStreamClass descriptor = ObjectStreamClass.lookup(Edition.class);
+        assertEquals(1L, descriptor.getSerialVersionUID());
+        assertEquals(List.of("numberOfPages", "size", "title"),
+                Arrays.stream(descriptor.getFields()).map(ObjectStreamField::getName).toList());
+    }
+
     // Error Cases
+    @Test
+    void deserialize_WhenBlockDamaged_ThrowsWithBlockIndex(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("damaged.ser");
+        byte[] payload = new byte[40_000];
+        Arrays.fill(payload, (byte) 7);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            SnapshotFormat.write(out, payload, SnapshotCodec.NONE, 10_000);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 15_000] ^= 0x55;
+        Files.write(file, bytes);
+
+        CorruptSnapshotException onVerify = assertThrows(CorruptSnapshotException.class,
+                () -> service.verify(file.toString()));
+        assertEquals(2, onVerify.getBlockIndex());
+        CorruptSnapshotException onLoad = assertThrows(CorruptSnapshotException.class,
+                () -> service.deserialize(file.toString()));
+        assertEquals(2, onLoad.getBlockIndex());
+    }
+
+    @Test
+    void deserialize_WhenHeaderDamaged_ThrowsInsteadOfReturningEmpty(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("header.ser");
+        service.serialize(List.of(new PrintHouse()), file.toString());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[8] ^= 0x01;
+        Files.write(file, bytes);
+
+        CorruptSnapshotException exception = assertThrows(CorruptSnapshotException.class,
+                () -> service.deserialize(file.toString()));
+        assertEquals(CorruptSnapshotException.HEADER_BLOCK, exception.getBlockIndex());
+    }
+
+    @Test
+    void deserialize_WhenFileTruncated_ThrowsException(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("truncated.ser");
+        service.serialize(List.of(new PrintHouse()), file.toString());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(CorruptSnapshotException.class, () -> service.deserialize(file.toString()));
+        assertThrows(CorruptSnapshotException.class, () -> service.verify(file.toString()));
+    }
+
+    @Test
+    void deserialize_WhenLastBlockTruncated_ThrowsWithBlockIndexAndPath(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("cut.ser");
+        byte[] payload = new byte[40_000];
+        Arrays.fill(payload, (byte) 7);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            SnapshotFormat.write(out, payload, SnapshotCodec.NONE, 10_000);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5_000));
+
+        CorruptSnapshotException exception = assertThrows(CorruptSnapshotException.class,
+                () -> service.deserialize(file.toString()));
+        assertEquals(3, exception.getBlockIndex());
+        assertTrue(exception.getMessage().contains(file.toString()));
+    }
+
 
     @Test
     void serializeSingle_WhenPathNull_ThrowsException() {
@@ -0,0 +1,59 @@
+package utilities.logging;
+
+import data.models.Employee;
+import data.models.EmployeeType;
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSummaryTests {
+
+    // Happy Path Tests
+    @Test
+    void Of_PrintHouse_RendersIdAndCountsOnly() {
+        PrintHouse printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        printHouse.getEmployees().add(new Employee("7501020018", EmployeeType.MANAGER));
+        Object summary = LogSummary.of(printHouse);
+        printHouse.getPrintingPresses().add(new PrintingPress(1000, 500, true, 100));
+
+        assertEquals(LogSummary.id(printHouse) + "{employees=1, presses=1}", summary.toString());
+        assertFalse(summary.toString().contains("7501020018"));
+    }
+
+    @Test
+    void Of_PrintingPress_RendersIdItemsAndPaper() {
+        PrintingPress press = new PrintingPress(1000, 500, true, 100);
+        assertEquals(LogSummary.id(press) + "{items=0, paper=500}", LogSummary.of(press).toString());
+        assertTrue(LogSummary.id(press).startsWith("press#"));
+    }
+
+    @Test
+    void Sample_IntervalOfThree_LogsFirstAndEveryThird() {
+        LogSampler sampler = new LogSampler(3);
+        boolean[] sampled = new boolean[7];
+        for (int i = 0; i < sampled.length; i++) {
+            sampled[i] = sampler.sample();
+        }
+        assertArrayEquals(new boolean[]{true, false, false, true, false, false, true}, sampled);
+        assertEquals(7, sampler.getEvents());
+    }
+
+    // Error Cases
+    @Test
+    void LogSampler_NonPositiveInterval_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new LogSampler(0));
+    }
+
+    // Edge Cases
+    @Test
+    void Of_NullEntities_RendersNullIds() {
+        assertEquals("house#null", LogSummary.of((PrintHouse) null).toString());
+        assertEquals("press#null", LogSummary.of((PrintingPress) null).toString());
+    }
+}
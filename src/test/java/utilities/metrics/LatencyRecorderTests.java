@@ -0,0 +1,119 @@
+package utilities.metrics;
+
+import data.models.EmployeeType;
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import services.PrintingPressService;
+import services.contracts.IPrintingPressService;
+import utilities.exceptions.InvalidPrintHouseException;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecorderTests {
+    private LatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new LatencyRecorder();
+    }
+
+    // Happy Path Tests
+    @Test
+    void Instrument_ServiceCalls_RecordsOneHistogramPerMethod() {
+        IPrintingPressService service = recorder.instrument(IPrintingPressService.class, new PrintingPressService(), "Presses");
+        PrintHouse printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+
+        service.addPrintingPress(printHouse, new PrintingPress(1000, 500, true, 100));
+        service.getTotalRevenue(printHouse);
+        service.getTotalRevenue(printHouse);
+
+        Map<String, LatencyHistogram> histograms = recorder.getHistograms();
+        assertEquals(List.of("Presses.addPrintingPress", "Presses.getTotalRevenue"), List.copyOf(histograms.keySet()));
+        assertEquals(1, histograms.get("Presses.addPrintingPress").getCount());
+        assertEquals(2, histograms.get("Presses.getTotalRevenue").getCount());
+        assertEquals(1, printHouse.getPrintingPresses().size());
+    }
+
+    @Test
+    void Histogram_UniformValues_ReportsQuantilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_000, histogram.getValueAtQuantile(0.5), 50_000_000 * 0.07);
+        assertEquals(99_000_000, histogram.getValueAtQuantile(0.99), 99_000_000 * 0.07);
+        assertEquals(99_900_000, histogram.getValueAtQuantile(0.999), 99_900_000 * 0.07);
+    }
+
+    @Test
+    void WriteTo_RecordedOperations_WritesCountAndQuantiles() throws Exception {
+        recorder.histogram("PrintHouseService.saveAllPrintHouses").record(2_000_000);
+        StringWriter writer = new StringWriter();
+
+        recorder.writeTo(writer);
+
+        assertEquals(String.format("PrintHouseService.saveAllPrintHouses count=1 p50=2000.0us p99=2000.0us "
+                + "p999=2000.0us max=2000.0us%n"), writer.toString());
+    }
+
+    // Error Cases
+    @Test
+    void Instrument_ServiceThrows_PropagatesOriginalExceptionAndTimesCall() {
+        IPrintingPressService service = recorder.instrument(IPrintingPressService.class, new PrintingPressService(), "Presses");
+
+        assertThrows(InvalidPrintHouseException.class, () -> service.getTotalRevenue(null));
+        assertEquals(1, recorder.getHistograms().get("Presses.getTotalRevenue").getCount());
+    }
+
+    @Test
+    void Instrument_NotAnInterface_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                recorder.instrument(PrintingPressService.class, new PrintingPressService(), "Presses"));
+    }
+
+    @Test
+    void GetValueAtQuantile_OutOfRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getValueAtQuantile(1.5));
+    }
+
+    // Edge Cases
+    @Test
+    void Histogram_NoValues_ReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtQuantile(0.99));
+    }
+
+    @Test
+    void Histogram_ExtremeValues_StayInRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getValueAtQuantile(0.5));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtQuantile(1));
+        for (long value : new long[]{0, 15, 16, 31, 32, 1023, 1024, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.upperBound(bucket) >= value);
+            assertTrue(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < value);
+        }
+    }
+
+    @Test
+    void Instrument_ObjectMethods_AreNotTimed() {
+        IPrintingPressService service = recorder.instrument(IPrintingPressService.class, new PrintingPressService(), "Presses");
+        assertNotNull(service.toString());
+        assertTrue(recorder.getHistograms().isEmpty());
+    }
+}
@@ -0,0 +1,131 @@
+package utilities.metrics;
+
+import data.models.EmployeeType;
+import data.models.PrintHouse;
+import data.models.PrintingPress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.globalconstants.ExceptionMessages;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTests {
+    private MetricsRegistry metrics;
+    private PrintHouse printHouse;
+    private PrintingPress press;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsRegistry();
+        printHouse = new PrintHouse(BigDecimal.TEN, BigDecimal.TEN, BigDecimal.valueOf(1000),
+                List.of(EmployeeType.MANAGER), BigDecimal.valueOf(5000), 10, BigDecimal.valueOf(5));
+        press = new PrintingPress(1000, 500, true, 100);
+        printHouse.getPrintingPresses().add(press);
+    }
+
+    // Happy Path Tests
+    @Test
+    void Add_PressEvent_CountsTowardsPressHouseAndTotal() {
+        metrics.add(BusinessMetric.PAGES_PRINTED, printHouse, press, 40);
+        metrics.increment(BusinessMetric.PAGES_PRINTED, printHouse, null);
+        metrics.increment(BusinessMetric.PAGES_PRINTED, null, null);
+
+        assertEquals(40, metrics.get(BusinessMetric.PAGES_PRINTED, printHouse, press));
+        assertEquals(41, metrics.get(BusinessMetric.PAGES_PRINTED, printHouse));
+        assertEquals(42, metrics.getTotal(BusinessMetric.PAGES_PRINTED));
+        assertEquals(0, metrics.getTotal(BusinessMetric.PAPER_LOADED));
+    }
+
+    @Test
+    void WriteTo_RecordedMetrics_WritesTotalsAndNumberedSeries() throws Exception {
+        metrics.add(BusinessMetric.PAPER_LOADED, printHouse, press, 250);
+        metrics.increment(BusinessMetric.SAVES_PERFORMED, null, null);
+        StringWriter writer = new StringWriter();
+
+        metrics.writeTo(writer, List.of(printHouse));
+
+        String dump = writer.toString();
+        assertTrue(dump.contains("paper_loaded 250\n"));
+        assertTrue(dump.contains("paper_loaded{house=\"1\"} 250\n"));
+        assertTrue(dump.contains("paper_loaded{house=\"1\",press=\"1\"} 250\n"));
+        assertTrue(dump.contains("saves_performed 1\n"));
+        assertFalse(dump.contains("saves_performed{"));
+    }
+
+    @Test
+    void WriteTo_FilePath_WritesSameContentAsWriter(@TempDir Path tempDir) throws Exception {
+        metrics.increment(BusinessMetric.EMPLOYEES_ADDED, printHouse, null);
+        Path file = tempDir.resolve("metrics.txt");
+        StringWriter writer = new StringWriter();
+
+        metrics.writeTo(file.toString(), List.of(printHouse));
+        metrics.writeTo(writer, List.of(printHouse));
+
+        assertEquals(writer.toString(), Files.readString(file));
+    }
+
+    @Test
+    void Add_ConcurrentWriters_CountsEveryEvent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.increment(BusinessMetric.PAPER_CONSUMED, printHouse, press);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(40_000, metrics.get(BusinessMetric.PAPER_CONSUMED, printHouse, press));
+        assertEquals(40_000, metrics.getTotal(BusinessMetric.PAPER_CONSUMED));
+    }
+
+    // Error Cases
+    @Test
+    void Add_NullMetric_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                metrics.add(null, printHouse, press, 1));
+        assertEquals(ExceptionMessages.METRIC_CANNOT_BE_NULL, exception.getMessage());
+    }
+
+    @Test
+    void WriteTo_EmptyFilePath_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                metrics.writeTo(" ", List.of(printHouse)));
+        assertEquals(ExceptionMessages.FILE_PATH_CANNOT_BE_NULL_OR_EMPTY, exception.getMessage());
+    }
+
+    // Edge Cases
+    @Test
+    void Forget_RemovedPress_DropsSeriesButKeepsHouseAndTotal() {
+        metrics.add(BusinessMetric.PAGES_PRINTED, printHouse, press, 10);
+
+        metrics.forget(press);
+
+        assertEquals(0, metrics.get(BusinessMetric.PAGES_PRINTED, printHouse, press));
+        assertEquals(10, metrics.get(BusinessMetric.PAGES_PRINTED, printHouse));
+        assertEquals(10, metrics.getTotal(BusinessMetric.PAGES_PRINTED));
+    }
+
+    @Test
+    void WriteTo_HouseNotListed_LeavesItsSeriesOut() throws Exception {
+        metrics.add(BusinessMetric.PAGES_PRINTED, printHouse, press, 10);
+        StringWriter writer = new StringWriter();
+
+        metrics.writeTo(writer, List.of());
+
+        assertTrue(writer.toString().contains("pages_printed 10\n"));
+        assertFalse(writer.toString().contains("house="));
+    }
+}